@@ -1,6 +1,6 @@
 from fastapi import APIRouter
-from app.models.anomaly import AnomalyRequest, AnomalyResponse
-from app.services.anomaly_engine import detect_anomaly
+from app.models.anomaly import AnomalyRequest, AnomalyResponse, AnomalyBatchRequest, AnomalyBatchResponse
+from app.services.anomaly_engine import detect_anomaly, detect_anomalies
 
 router = APIRouter(prefix="/anomaly", tags=["Anomaly"])
 
@@ -8,3 +8,8 @@ router = APIRouter(prefix="/anomaly", tags=["Anomaly"])
 @router.post("/detect", response_model=AnomalyResponse)
 def detect(payload: AnomalyRequest):
     return detect_anomaly(payload)
+
+# Endpoint: http://localhost:8000/anomaly/detect/batch
+@router.post("/detect/batch", response_model=AnomalyBatchResponse)
+def detect_batch(payload: AnomalyBatchRequest):
+    return detect_anomalies(payload)
@@ -1,12 +1,16 @@
 from fastapi import APIRouter
-from pydantic import BaseModel
-from app.services.ingestion_engine import ingest_data
+from pydantic import BaseModel, Field
+from app.services.ingestion_engine import ingest_data, ingest_batch
 
 router = APIRouter(prefix="/ingestion", tags=["ingestion"])
 
 class IngestionRequest(BaseModel):
     source: str
     payload: dict
+
+class IngestionBatchRequest(BaseModel):
+    source: str
+    records: list[dict] = Field(min_length=1, max_length=5000)
     
 # Endpoint: http://localhost:8000/ingestion/process
 @router.post("/process")
@@ -14,3 +18,8 @@ async def ingest(payload: IngestionRequest):
     await ingest_data(payload)
     return {"status": "accepted"}
 
+# Endpoint: http://localhost:8000/ingestion/process/batch
+@router.post("/process/batch")
+async def ingest_records(payload: IngestionBatchRequest):
+    await ingest_batch(payload)
+    return {"status": "accepted", "accepted": len(payload.records)}
@@ -0,0 +1,30 @@
+import logging
+from collections import deque
+from typing import Any, Dict, List
+
+from fastapi import APIRouter
+
+logger = logging.getLogger(__name__)
+
+router = APIRouter(prefix="/webhooks", tags=["Webhooks"])
+
+# Most recent workflow events, kept for local inspection
+_workflow_events: deque = deque(maxlen=1000)
+
+
+# Endpoint: http://localhost:8000/webhooks/workflow-events
+@router.post("/workflow-events")
+def receive_workflow_events(events: List[Dict[str, Any]]):
+    for event in events:
+        logger.info(
+            "Workflow event %s: %s workflow=%s state=%s",
+            event.get("eventId"), event.get("type"), event.get("workflowId"), event.get("state"),
+        )
+    _workflow_events.extend(events)
+    return {"received": len(events)}
+
+
+# Endpoint: http://localhost:8000/webhooks/workflow-events
+@router.get("/workflow-events")
+def list_workflow_events(limit: int = 100):
+    return list(_workflow_events)[-limit:]
@@ -56,6 +56,8 @@ class JobScheduler:
                 workflow_name="periodic_sync",
                 payload={"source": "python_scheduler"},
                 auth_token="internal-service-token",
+                # One key per run, shared by the engine's retries
+                idempotency_key=f"periodic_sync-{start_time:%Y%m%dT%H%M%S}",
             )
 
             duration = (datetime.utcnow() - start_time).total_seconds()
@@ -1,5 +1,5 @@
 from fastapi import FastAPI
-from app.api import health, risk, anomaly, ingestion, decision_support
+from app.api import health, risk, anomaly, ingestion, decision_support, webhooks
 from app.api import ingestion
 
 app = FastAPI(title="Python Enterprise Service")
@@ -9,3 +9,4 @@ app.include_router(risk.router)
 app.include_router(anomaly.router)
 app.include_router(ingestion.router)
 app.include_router(decision_support.router)
+app.include_router(webhooks.router)
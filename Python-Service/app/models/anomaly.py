@@ -1,4 +1,4 @@
-from pydantic import BaseModel
+from pydantic import BaseModel, Field
 
 class AnomalyRequest(BaseModel):
     metric: float
@@ -7,3 +7,10 @@ class AnomalyResponse(BaseModel):
     anomalous: bool
     score: float
     explanation: list[str]
+
+class AnomalyBatchRequest(BaseModel):
+    metrics: list[float] = Field(min_length=1, max_length=1000)
+
+class AnomalyBatchResponse(BaseModel):
+    # One result per metric, in request order
+    results: list[AnomalyResponse]
@@ -1,4 +1,4 @@
-from app.models.anomaly import AnomalyRequest, AnomalyResponse
+from app.models.anomaly import AnomalyRequest, AnomalyResponse, AnomalyBatchRequest, AnomalyBatchResponse
 
 def detect_anomaly(payload: AnomalyRequest) -> AnomalyResponse:
     return AnomalyResponse(
@@ -6,3 +6,8 @@ def detect_anomaly(payload: AnomalyRequest) -> AnomalyResponse:
         score=0.12,
         explanation=["No deviation detected"]
     )
+
+def detect_anomalies(payload: AnomalyBatchRequest) -> AnomalyBatchResponse:
+    return AnomalyBatchResponse(
+        results=[detect_anomaly(AnomalyRequest(metric=metric)) for metric in payload.metrics]
+    )
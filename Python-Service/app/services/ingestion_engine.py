@@ -5,3 +5,6 @@ logger = get_logger(__name__)
 async def ingest_data(payload):
     logger.info(f"Ingesting data from {payload.source}")
     logger.info(f"Payload: {payload.payload}")
+
+async def ingest_batch(payload):
+    logger.info(f"Ingesting {len(payload.records)} records from {payload.source}")
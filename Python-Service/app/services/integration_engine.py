@@ -33,9 +33,11 @@ class IntegrationEngine:
         workflow_name: str,
         payload: Dict[str, Any],
         auth_token: str,
+        idempotency_key: str | None = None,
     ) -> Dict[str, Any]:
         """
-        Notify Java workflow engine of a decision or event
+        Notify Java workflow engine of a decision or event.
+        Pass the same idempotency_key on every retry so Java processes the trigger once.
         """
         url = f"{settings.JAVA_SERVICE_URL}/workflows/{workflow_name}/trigger"
 
@@ -44,6 +46,8 @@ class IntegrationEngine:
             "Content-Type": "application/json",
             "X-Source-System": "python-integration-service",
         }
+        if idempotency_key:
+            headers["Idempotency-Key"] = idempotency_key
 
         logger.info("Calling Java workflow [%s]", workflow_name)
 
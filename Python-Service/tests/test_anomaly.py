@@ -9,3 +9,11 @@ def test_normal_data():
 def test_anomalous_data():
     data = [10, 11, 9, 500]
     assert detect_anomaly(data) is True
+
+
+def test_batch_returns_one_result_per_metric_in_order():
+    from app.models.anomaly import AnomalyBatchRequest
+    from app.services.anomaly_engine import detect_anomalies
+
+    response = detect_anomalies(AnomalyBatchRequest(metrics=[1.0, 2.5, 3.0]))
+    assert len(response.results) == 3
@@ -16,3 +16,18 @@ def test_ingestion_triggers_processing(mock_ingest):
 
     assert response.status_code == 200
     mock_ingest.assert_called_once()
+
+
+# Test batch ingestion endpoint
+@patch("app.api.ingestion.ingest_batch")
+def test_batch_ingestion_accepts_all_records(mock_ingest):
+    payload = {
+        "source": "erp",
+        "records": [{"order_id": "O100"}, {"order_id": "O101"}]
+    }
+
+    response = client.post("/ingestion/process/batch", json=payload)
+
+    assert response.status_code == 200
+    assert response.json() == {"status": "accepted", "accepted": 2}
+    mock_ingest.assert_called_once()
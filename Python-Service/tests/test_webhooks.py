@@ -0,0 +1,19 @@
+from fastapi.testclient import TestClient
+from app.main import app
+
+client = TestClient(app)
+
+
+def test_workflow_events_webhook_records_events():
+    events = [
+        {"eventId": 1, "type": "CREATED", "workflowId": 7, "state": "CREATED"},
+        {"eventId": 2, "type": "TRANSITIONED", "workflowId": 7, "state": "IN_REVIEW"},
+    ]
+
+    response = client.post("/webhooks/workflow-events", json=events)
+
+    assert response.status_code == 200
+    assert response.json()["received"] == 2
+
+    recorded = client.get("/webhooks/workflow-events", params={"limit": 2}).json()
+    assert [event["eventId"] for event in recorded] == [1, 2]
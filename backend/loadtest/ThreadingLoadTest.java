@@ -0,0 +1,136 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load test for comparing platform and virtual thread request execution.
+ * Logs in, then keeps a fixed number of concurrent clients calling one endpoint for the
+ * given duration and reports throughput and latency percentiles.
+ *
+ * Single-file program, no build needed:
+ *   java loadtest/ThreadingLoadTest.java --label=virtual --concurrency=200 --duration=60
+ *
+ * Options (defaults in brackets):
+ *   --base-url [http://localhost:8080]  --path [/api/v1/workflows?page=0&size=20]
+ *   --username [admin]  --password [admin123]  --concurrency [200]
+ *   --duration [60] seconds  --warmup [10] seconds  --label [run]
+ */
+public class ThreadingLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        String path = options.getOrDefault("path", "/api/v1/workflows?page=0&size=20");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        String label = options.getOrDefault("label", "run");
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        String token = login(client, baseUrl,
+                options.getOrDefault("username", "admin"), options.getOrDefault("password", "admin123"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+
+        System.out.printf("[%s] warming up for %ds with %d clients%n", label, warmup.toSeconds(), concurrency);
+        run(client, request, concurrency, warmup);
+
+        System.out.printf("[%s] measuring for %ds with %d clients%n", label, duration.toSeconds(), concurrency);
+        Result result = run(client, request, concurrency, duration);
+        result.print(label, duration);
+    }
+
+    private record Result(long[] latenciesMicros, long errors) {
+        void print(String label, Duration duration) {
+            long[] sorted = latenciesMicros.clone();
+            Arrays.sort(sorted);
+            System.out.printf("[%s] requests=%d errors=%d throughput=%.1f req/s%n",
+                    label, sorted.length, errors, sorted.length / (double) duration.toSeconds());
+            System.out.printf("[%s] latency ms: p50=%.1f p90=%.1f p99=%.1f max=%.1f%n", label,
+                    percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                    sorted.length > 0 ? sorted[sorted.length - 1] / 1000.0 : 0);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1000.0;
+        }
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<List<Long>> perClient = new ArrayList<>(concurrency);
+        AtomicLong errors = new AtomicLong();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                List<Long> latencies = new ArrayList<>();
+                perClient.add(latencies);
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() / 100 != 2) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                            latencies.add((System.nanoTime() - start) / 1000);
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        long[] all = perClient.stream().flatMap(List::stream).mapToLong(Long::longValue).toArray();
+        return new Result(all, errors.get());
+    }
+
+    private static String login(HttpClient client, String baseUrl, String username, String password) throws Exception {
+        String body = String.format("{\"username\":\"%s\",\"password\":\"%s\"}", username, password);
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"").matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed: HTTP " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# Compare throughput and p99 latency with platform and virtual thread request execution.
+# Starts the packaged backend once per mode against the configured database and runs
+# ThreadingLoadTest against it. Build first with: ./mvnw -DskipTests package
+#
+# Usage: loadtest/compare-threading.sh [ThreadingLoadTest options, e.g. --concurrency=400 --duration=120]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=$(ls target/*.jar | grep -v original | head -n 1)
+PORT=${PORT:-8080}
+
+for VIRTUAL in false true; do
+  LABEL=$([ "$VIRTUAL" = true ] && echo virtual || echo platform)
+  echo "== Starting backend with VIRTUAL_THREADS_ENABLED=$VIRTUAL"
+  VIRTUAL_THREADS_ENABLED=$VIRTUAL java -jar "$JAR" --server.port="$PORT" > "target/loadtest-$LABEL.log" 2>&1 &
+  PID=$!
+  trap 'kill $PID 2>/dev/null || true' EXIT
+
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+    kill -0 $PID 2>/dev/null || { echo "Backend exited, see target/loadtest-$LABEL.log"; exit 1; }
+    sleep 2
+  done
+
+  java loadtest/ThreadingLoadTest.java --base-url="http://localhost:$PORT" --label="$LABEL" "$@" \
+    | tee "target/loadtest-$LABEL.txt"
+
+  kill $PID
+  wait $PID 2>/dev/null || true
+done
+
+echo "== Pinning reports (virtual run)"
+grep "Virtual thread pinned" target/loadtest-virtual.log || echo "No pinning above the threshold"
@@ -0,0 +1,81 @@
+package com.company.platform.audit.service;
+
+import com.company.platform.audit.domain.AuditAction;
+import com.company.platform.audit.domain.AuditLog;
+import com.company.platform.audit.dto.AuditLogResponse;
+import com.company.platform.users.domain.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Audit hot paths: building an entry with JSON-serialized old/new values, and entity-to-DTO mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditServiceBenchmark {
+
+    private AuditService auditService;
+    private User user;
+    private Map<String, String> oldValues;
+    private Map<String, String> newValues;
+    private AuditLog auditLog;
+
+    @Setup
+    public void setUp() {
+        // Only the ObjectMapper is used by buildAuditLog
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        auditService = new AuditService(null, null, null, objectMapper);
+
+        user = User.builder().id(2L).username("manager").build();
+        oldValues = Map.of(
+                "title", "Quarterly budget review",
+                "priority", "MEDIUM",
+                "assignedTo", "reviewer");
+        newValues = Map.of(
+                "title", "Quarterly budget review (revised)",
+                "priority", "HIGH",
+                "assignedTo", "reviewer2");
+
+        auditLog = AuditLog.builder()
+                .id(1001L)
+                .action(AuditAction.WORKFLOW_UPDATED)
+                .entityType("WorkflowItem")
+                .entityId(42L)
+                .details("Workflow updated")
+                .performedBy(user)
+                .ipAddress("10.0.0.12")
+                .correlationId("5f0c8a0e-2b7e-4d1f-9a51-7f3c2b9d8e10")
+                .build();
+        auditLog.setCreatedAt(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public AuditLog buildAuditLogWithValues() throws JsonProcessingException {
+        return auditService.buildAuditLog(AuditAction.WORKFLOW_UPDATED, "WorkflowItem", 42L,
+                "Workflow updated", user, oldValues, newValues);
+    }
+
+    @Benchmark
+    public AuditLogResponse toDTO() {
+        return AuditService.toDTO(auditLog);
+    }
+}
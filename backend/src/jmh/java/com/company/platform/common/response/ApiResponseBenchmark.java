@@ -0,0 +1,79 @@
+package com.company.platform.common.response;
+
+import com.company.platform.workflows.domain.WorkflowState;
+import com.company.platform.workflows.dto.WorkflowResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of the ApiResponse envelope, as written by the message converter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<WorkflowResponse> single;
+    private ApiResponse<List<WorkflowResponse>> page;
+
+    @Setup
+    public void setUp() {
+        // Same modules and date handling as the Spring Boot-configured mapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<WorkflowResponse> workflows = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            workflows.add(workflow(id));
+        }
+        single = ApiResponse.success(workflows.get(0));
+        page = ApiResponse.success(workflows, "Workflows retrieved");
+    }
+
+    @Benchmark
+    public byte[] encodeSingle() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] encodePageOf20() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private static WorkflowResponse workflow(long id) {
+        LocalDateTime now = LocalDateTime.now();
+        return WorkflowResponse.builder()
+                .id(id)
+                .title("Quarterly budget review " + id)
+                .description("Review and approve the Q3 departmental budget")
+                .state(WorkflowState.REVIEWED)
+                .priority("HIGH")
+                .category("FINANCE")
+                .createdById(2L)
+                .createdByUsername("manager")
+                .assignedToId(3L)
+                .assignedToUsername("reviewer")
+                .createdAt(now.minusDays(1))
+                .updatedAt(now)
+                .build();
+    }
+}
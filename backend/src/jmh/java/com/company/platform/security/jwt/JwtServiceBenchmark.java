@@ -0,0 +1,75 @@
+package com.company.platform.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-token verification cost: cached key and parser vs. rebuilding both on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "7a82f273a4f95e6fa368cecb55d9a21d7a82f273a4f95e6fa368cecb55d9a21d";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() throws IOException {
+        jwtService = new JwtService(new JwtKeyConfig(),
+                new JwtClaimsCache(10000, Duration.ofMinutes(5), new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 86400000L);
+        jwtService.init();
+
+        token = jwtService.generateToken(new User("benchmark.user", "n/a", List.of()), "ADMIN");
+    }
+
+    @Benchmark
+    public Claims parseWithCachedParser() {
+        return jwtService.parseClaims(token);
+    }
+
+    /**
+     * Previous behaviour: derive the key and build a parser for every token.
+     */
+    @Benchmark
+    public Claims parseWithPerCallParser() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(new User("benchmark.user", "n/a", List.of()), "ADMIN");
+    }
+}
@@ -0,0 +1,99 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.users.domain.Role;
+import com.company.platform.users.domain.User;
+import com.company.platform.workflows.domain.WorkflowAction;
+import com.company.platform.workflows.domain.WorkflowItem;
+import com.company.platform.workflows.domain.WorkflowState;
+import com.company.platform.workflows.domain.WorkflowTransition;
+import com.company.platform.workflows.dto.WorkflowResponse;
+import com.company.platform.workflows.repository.WorkflowTransitionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Workflow hot paths: transition validation against the compiled rule table,
+ * the entity business rule, and entity-to-DTO mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkflowEngineBenchmark {
+
+    private WorkflowEngine workflowEngine;
+    private User reviewer;
+    private WorkflowItem workflow;
+
+    @Setup
+    public void setUp() {
+        Role reviewerRole = Role.builder().id(3L).name("Reviewer").build();
+        Role managerRole = Role.builder().id(2L).name("Manager").build();
+        reviewer = User.builder().id(3L).username("reviewer").role(reviewerRole).build();
+        User manager = User.builder().id(2L).username("manager").role(managerRole).build();
+
+        WorkflowTransitionRepository repository = mock(WorkflowTransitionRepository.class);
+        when(repository.findAllWithRoles()).thenReturn(List.of(
+                transition(WorkflowState.CREATED, WorkflowAction.REVIEW, WorkflowState.REVIEWED, reviewerRole),
+                transition(WorkflowState.REVIEWED, WorkflowAction.APPROVE, WorkflowState.APPROVED, reviewerRole),
+                transition(WorkflowState.REVIEWED, WorkflowAction.REJECT, WorkflowState.REJECTED, reviewerRole),
+                transition(WorkflowState.REJECTED, WorkflowAction.REOPEN, WorkflowState.REOPENED, managerRole)));
+        workflowEngine = new WorkflowEngine(repository, new SimpleMeterRegistry());
+        workflowEngine.reloadTransitions();
+
+        workflow = WorkflowItem.builder()
+                .id(42L)
+                .title("Quarterly budget review")
+                .description("Review and approve the Q3 departmental budget")
+                .priority("HIGH")
+                .category("FINANCE")
+                .state(WorkflowState.REVIEWED)
+                .createdBy(manager)
+                .assignedTo(reviewer)
+                .build();
+        workflow.setCreatedAt(LocalDateTime.now().minusDays(1));
+        workflow.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Benchmark
+    public WorkflowState processTransition() {
+        return workflowEngine.processTransition(workflow, WorkflowAction.APPROVE, reviewer);
+    }
+
+    @Benchmark
+    public boolean canTransitionTo() {
+        return workflow.canTransitionTo(WorkflowState.APPROVED);
+    }
+
+    @Benchmark
+    public WorkflowResponse toDTO() {
+        return WorkflowService.toDTO(workflow);
+    }
+
+    private static WorkflowTransition transition(WorkflowState from, WorkflowAction action, WorkflowState to, Role role) {
+        return WorkflowTransition.builder()
+                .fromState(from)
+                .action(action)
+                .toState(to)
+                .allowedRole(role)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.company.platform.audit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for monthly partitioning, retention and archiving of audit_logs.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "audit.partitioning")
+@Data
+public class AuditPartitionConfig {
+    /**
+     * Manage monthly partitions of audit_logs
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Partition an existing unpartitioned audit_logs table that already holds rows.
+     * The conversion copies the whole table and blocks audit inserts while it runs,
+     * so enable it for a maintenance window. Empty tables are always converted.
+     */
+    private boolean convertExisting = false;
+    
+    /**
+     * Months of partitions created ahead of the current month
+     */
+    private int monthsAhead = 2;
+    
+    /**
+     * Months of audit logs kept in the database; older partitions are archived and dropped.
+     * 0 keeps everything.
+     */
+    private int retentionMonths = 12;
+    
+    /**
+     * Write expired partitions to gzip-compressed NDJSON files before dropping them
+     */
+    private boolean archiveEnabled = true;
+    
+    /**
+     * Directory for archive files; mount a persistent volume here when running in Kubernetes
+     */
+    private String archiveDir = "data/audit-archive";
+}
@@ -0,0 +1,62 @@
+package com.company.platform.audit.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration properties for the asynchronous audit log writer.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "audit.writer")
+@Data
+public class AuditWriterConfig {
+    /**
+     * Write audit logs from a background writer instead of the request thread
+     */
+    private boolean async = true;
+    
+    /**
+     * Maximum number of audit logs waiting to be written
+     */
+    private int queueCapacity = 10000;
+    
+    /**
+     * Maximum number of audit logs written in one batch
+     */
+    private int batchSize = 100;
+    
+    /**
+     * Maximum time in milliseconds a queued audit log waits before its batch is flushed
+     */
+    private long flushIntervalMs = 500;
+    
+    /**
+     * What to do when the queue is full
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.SYNC;
+    
+    /**
+     * Time in milliseconds the BLOCK policy waits for queue space before writing synchronously
+     */
+    private long offerTimeoutMs = 100;
+    
+    /**
+     * Retries of a batch insert that failed with a transient error (deadlock, lock wait, lost connection)
+     */
+    private int maxRetries = 3;
+    
+    /**
+     * Delay in milliseconds before the first retry; doubled on each further retry
+     */
+    private long retryBackoffMs = 100;
+    
+    public enum OverflowPolicy {
+        /** Write the audit log synchronously on the caller thread (never loses entries) */
+        SYNC,
+        /** Wait up to offerTimeoutMs for queue space, then write synchronously */
+        BLOCK,
+        /** Discard the audit log and count it as dropped */
+        DROP
+    }
+}
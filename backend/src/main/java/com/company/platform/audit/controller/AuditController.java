@@ -1,21 +1,29 @@
 package com.company.platform.audit.controller;
 
+import com.company.platform.audit.dto.AuditExportFormat;
 import com.company.platform.audit.dto.AuditFilterRequest;
 import com.company.platform.audit.dto.AuditLogResponse;
+import com.company.platform.audit.service.AuditExportService;
 import com.company.platform.audit.service.AuditService;
 import com.company.platform.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
 /**
  * Audit log controller.
  * Provides endpoints for retrieving audit trails.
@@ -29,6 +37,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuditController {
     
     private final AuditService auditService;
+    private final AuditExportService auditExportService;
     
     @GetMapping
     @Operation(summary = "Get audit logs", description = "Retrieves paginated audit logs with filters")
@@ -52,4 +61,54 @@ public class AuditController {
         Page<AuditLogResponse> logs = auditService.getAuditLogsByEntity(entityType, entityId, pageable);
         return ResponseEntity.ok(ApiResponse.success(logs));
     }
+    
+    /**
+     * Export endpoint.
+     * Streams every audit log matching the filters as CSV or NDJSON, oldest first,
+     * without paging through the table or holding the result in memory.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export audit logs",
+            description = "Streams audit logs matching the filters as CSV or NDJSON, optionally gzip-compressed")
+    @PreAuthorize("hasRole('REVIEWER') or hasRole('ADMIN') or hasRole('MANAGER')")
+    public void exportAuditLogs(
+            @ModelAttribute AuditFilterRequest filter,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+        AuditExportFormat exportFormat = AuditExportFormat.parse(format);
+        log.info("Exporting audit logs: format={}, gzip={}", exportFormat, gzip);
+        
+        String filename = "audit-logs." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+        
+        OutputStream out = response.getOutputStream();
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, 64 * 1024) : null;
+        try {
+            auditExportService.export(filter, exportFormat, gzipOut != null ? gzipOut : out);
+        } catch (IOException | RuntimeException e) {
+            abortExport(response, e);
+            throw e;
+        }
+        // Only a complete export gets the gzip trailer, so a truncated one never decompresses cleanly
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        out.flush();
+    }
+    
+    /**
+     * A failed export must not reach the client as a well-formed file.
+     * Before anything was sent, the buffered output is dropped so the error handler can answer with an
+     * error status. After that, the exception propagates without the response being ended, and the
+     * container closes the connection, so the client sees a broken transfer rather than a short file.
+     */
+    private static void abortExport(HttpServletResponse response, Exception e) {
+        log.error("Audit log export failed, aborting response: committed={}, error={}",
+                response.isCommitted(), e.getMessage());
+        if (!response.isCommitted()) {
+            response.reset();
+        }
+    }
 }
@@ -12,6 +12,8 @@ import lombok.NoArgsConstructor;
 /**
  * Audit log entity for compliance and traceability.
  * Records all significant actions in the system with full context.
+ * The table is range-partitioned by created_at (see AuditPartitionManager); partitioned
+ * InnoDB tables cannot have foreign keys, so performed_by_id is not constrained.
  */
 @Entity
 @Table(name = "audit_logs", indexes = {
@@ -46,7 +48,7 @@ public class AuditLog extends BaseEntity {
     private String details;
     
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "performed_by_id")
+    @JoinColumn(name = "performed_by_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User performedBy;
     
     @Column(name = "ip_address", length = 45)
@@ -0,0 +1,40 @@
+package com.company.platform.audit.dto;
+
+import com.company.platform.common.exception.ValidationException;
+
+import java.util.Locale;
+
+/**
+ * File formats for audit log export.
+ */
+public enum AuditExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+    
+    private final String contentType;
+    private final String extension;
+    
+    AuditExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public String getExtension() {
+        return extension;
+    }
+    
+    /**
+     * Parse a format name, ignoring case.
+     */
+    public static AuditExportFormat parse(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Unsupported export format: " + format + ". Use csv or ndjson");
+        }
+    }
+}
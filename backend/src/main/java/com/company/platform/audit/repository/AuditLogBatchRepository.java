@@ -0,0 +1,68 @@
+package com.company.platform.audit.repository;
+
+import com.company.platform.audit.domain.AuditLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch inserts for AuditLog rows.
+ * Hibernate cannot batch inserts for IDENTITY ids, so multi-row audit writes go through here.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogBatchRepository {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (action, entity_type, entity_id, details, performed_by_id, " +
+            "ip_address, user_agent, correlation_id, request_method, request_path, " +
+            "old_values, new_values, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Insert audit logs in JDBC batches of the given size.
+     */
+    public void insertAll(List<AuditLog> auditLogs, int batchSize) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, auditLogs, batchSize, this::bind);
+    }
+    
+    private void bind(PreparedStatement ps, AuditLog auditLog) throws SQLException {
+        LocalDateTime createdAt = auditLog.getCreatedAt() != null ? auditLog.getCreatedAt() : LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        
+        ps.setString(1, auditLog.getAction().name());
+        ps.setString(2, auditLog.getEntityType());
+        setLong(ps, 3, auditLog.getEntityId());
+        ps.setString(4, auditLog.getDetails());
+        setLong(ps, 5, auditLog.getPerformedBy() != null ? auditLog.getPerformedBy().getId() : null);
+        ps.setString(6, auditLog.getIpAddress());
+        ps.setString(7, auditLog.getUserAgent());
+        ps.setString(8, auditLog.getCorrelationId());
+        ps.setString(9, auditLog.getRequestMethod());
+        ps.setString(10, auditLog.getRequestPath());
+        ps.setString(11, auditLog.getOldValues());
+        ps.setString(12, auditLog.getNewValues());
+        ps.setTimestamp(13, timestamp);
+        ps.setTimestamp(14, timestamp);
+    }
+    
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.company.platform.audit.repository;
+
+import com.company.platform.audit.domain.AuditAction;
+import com.company.platform.audit.dto.AuditFilterRequest;
+import com.company.platform.audit.dto.AuditLogResponse;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Forward-only JDBC cursor over filtered audit logs for bulk export.
+ * Rows are streamed from MySQL one at a time and never collected, so memory use does not
+ * depend on the number of rows exported.
+ */
+@Repository
+public class AuditLogExportRepository {
+    
+    private static final String SELECT_SQL =
+            "SELECT a.id, a.action, a.entity_type, a.entity_id, a.details, a.performed_by_id, u.username, " +
+            "a.ip_address, a.correlation_id, a.created_at " +
+            "FROM audit_logs a LEFT JOIN users u ON u.id = a.performed_by_id";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public AuditLogExportRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        // Connector/J streams the result set instead of reading it into memory with this fetch size
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+    
+    /**
+     * Pass every audit log matching the filter to the consumer, oldest first.
+     * Only the filters that are set become predicates, so date filters prune partitions.
+     */
+    public void streamMatching(AuditFilterRequest filter, Consumer<AuditLogResponse> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL).append(" WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (filter.getFromDate() != null) {
+            sql.append(" AND a.created_at >= ?");
+            args.add(Timestamp.valueOf(filter.getFromDate()));
+        }
+        if (filter.getToDate() != null) {
+            sql.append(" AND a.created_at <= ?");
+            args.add(Timestamp.valueOf(filter.getToDate()));
+        }
+        if (filter.getAction() != null) {
+            sql.append(" AND a.action = ?");
+            args.add(filter.getAction().name());
+        }
+        if (filter.getEntityType() != null) {
+            sql.append(" AND a.entity_type = ?");
+            args.add(filter.getEntityType());
+        }
+        if (filter.getEntityId() != null) {
+            sql.append(" AND a.entity_id = ?");
+            args.add(filter.getEntityId());
+        }
+        if (filter.getUserId() != null) {
+            sql.append(" AND a.performed_by_id = ?");
+            args.add(filter.getUserId());
+        }
+        if (filter.getCorrelationId() != null) {
+            sql.append(" AND a.correlation_id = ?");
+            args.add(filter.getCorrelationId());
+        }
+        sql.append(" ORDER BY a.created_at, a.id");
+        
+        jdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs -> consumer.accept(mapRow(rs)), args.toArray());
+    }
+    
+    private static AuditLogResponse mapRow(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return AuditLogResponse.builder()
+                .id(rs.getLong("id"))
+                .action(AuditAction.valueOf(rs.getString("action")))
+                .entityType(rs.getString("entity_type"))
+                .entityId(rs.getObject("entity_id", Long.class))
+                .details(rs.getString("details"))
+                .performedById(rs.getObject("performed_by_id", Long.class))
+                .performedByUsername(rs.getString("username"))
+                .ipAddress(rs.getString("ip_address"))
+                .correlationId(rs.getString("correlation_id"))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .build();
+    }
+}
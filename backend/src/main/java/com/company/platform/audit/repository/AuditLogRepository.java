@@ -5,19 +5,20 @@ import com.company.platform.audit.domain.AuditLog;
 import com.company.platform.users.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
-
 /**
  * Repository for AuditLog entity.
  * Provides optimized queries for audit trail retrieval.
  */
 @Repository
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, JpaSpecificationExecutor<AuditLog> {
     
     @Query("SELECT a FROM AuditLog a " +
            "LEFT JOIN FETCH a.performedBy " +
@@ -36,23 +37,11 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
                                 @Param("entityId") Long entityId, 
                                 Pageable pageable);
     
-    @Query("SELECT a FROM AuditLog a " +
-           "LEFT JOIN FETCH a.performedBy " +
-           "WHERE (:action IS NULL OR a.action = :action) AND " +
-           "(:entityType IS NULL OR a.entityType = :entityType) AND " +
-           "(:entityId IS NULL OR a.entityId = :entityId) AND " +
-           "(:userId IS NULL OR a.performedBy.id = :userId) AND " +
-           "(:fromDate IS NULL OR a.createdAt >= :fromDate) AND " +
-           "(:toDate IS NULL OR a.createdAt <= :toDate) AND " +
-           "(:correlationId IS NULL OR a.correlationId = :correlationId)")
-    Page<AuditLog> searchAuditLogs(
-        @Param("action") AuditAction action,
-        @Param("entityType") String entityType,
-        @Param("entityId") Long entityId,
-        @Param("userId") Long userId,
-        @Param("fromDate") LocalDateTime fromDate,
-        @Param("toDate") LocalDateTime toDate,
-        @Param("correlationId") String correlationId,
-        Pageable pageable
-    );
+    /**
+     * Filtered search; build the specification with {@link AuditLogSpecifications#matching}
+     * so date filters prune partitions.
+     */
+    @Override
+    @EntityGraph(attributePaths = "performedBy")
+    Page<AuditLog> findAll(Specification<AuditLog> spec, Pageable pageable);
 }
@@ -0,0 +1,48 @@
+package com.company.platform.audit.repository;
+
+import com.company.platform.audit.domain.AuditLog;
+import com.company.platform.audit.dto.AuditFilterRequest;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Audit log filters as JPA specifications.
+ * Only the filters that are set become predicates, so a date range reaches MySQL as a plain
+ * created_at range and only the matching monthly partitions are read.
+ */
+public final class AuditLogSpecifications {
+    
+    private AuditLogSpecifications() {
+    }
+    
+    public static Specification<AuditLog> matching(AuditFilterRequest filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getFromDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getFromDate()));
+            }
+            if (filter.getToDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("createdAt"), filter.getToDate()));
+            }
+            if (filter.getAction() != null) {
+                predicates.add(cb.equal(root.get("action"), filter.getAction()));
+            }
+            if (filter.getEntityType() != null) {
+                predicates.add(cb.equal(root.get("entityType"), filter.getEntityType()));
+            }
+            if (filter.getEntityId() != null) {
+                predicates.add(cb.equal(root.get("entityId"), filter.getEntityId()));
+            }
+            if (filter.getUserId() != null) {
+                predicates.add(cb.equal(root.get("performedBy").get("id"), filter.getUserId()));
+            }
+            if (filter.getCorrelationId() != null) {
+                predicates.add(cb.equal(root.get("correlationId"), filter.getCorrelationId()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,243 @@
+package com.company.platform.audit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL partition maintenance for audit_logs.
+ * Partition DDL commits implicitly, so maintenance is serialized across replicas with a
+ * named lock held by one connection rather than with a row lock.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditPartitionRepository {
+    
+    private static final String LOCK_NAME = "audit_logs_partition_maintenance";
+    private static final Pattern PARTITION_NAME = Pattern.compile("p\\d{6}|pmax");
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * A range partition holding rows created before {@code lessThan}; null means MAXVALUE.
+     */
+    public record Partition(String name, LocalDate lessThan) {
+    }
+    
+    /**
+     * Receives exported rows, column name to value, in table column order.
+     */
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(Map<String, Object> row) throws IOException;
+    }
+    
+    /**
+     * Work done while holding the maintenance lock.
+     */
+    @FunctionalInterface
+    public interface MaintenanceWork {
+        void run(Session session) throws SQLException, IOException;
+    }
+    
+    /**
+     * Run work on one connection while holding the maintenance lock.
+     *
+     * @return false if another instance holds the lock
+     */
+    public boolean withMaintenanceLock(MaintenanceWork work) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!getLock(connection)) {
+                return false;
+            }
+            try {
+                work.run(new Session(connection));
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                releaseLock(connection);
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+    
+    private static boolean getLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+    
+    private static void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+    
+    /**
+     * Partition operations on the locked connection. Statements auto-commit.
+     */
+    public static final class Session {
+        
+        private final Connection connection;
+        
+        private Session(Connection connection) {
+            this.connection = connection;
+        }
+        
+        /**
+         * Partitions in range order; empty if the table is not partitioned.
+         */
+        public List<Partition> partitions() throws SQLException {
+            List<Partition> partitions = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                         "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                         "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'audit_logs' " +
+                         "AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION")) {
+                while (rs.next()) {
+                    partitions.add(new Partition(rs.getString(1), parseBound(rs.getString(2))));
+                }
+            }
+            return partitions;
+        }
+        
+        /**
+         * Month of the oldest audit log, or null if the table is empty.
+         */
+        public LocalDate oldestCreatedDate() throws SQLException {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT MIN(created_at) FROM audit_logs")) {
+                Timestamp oldest = rs.next() ? rs.getTimestamp(1) : null;
+                return oldest != null ? oldest.toLocalDateTime().toLocalDate() : null;
+            }
+        }
+        
+        /**
+         * Partition the table by created_at.
+         * MySQL requires the partitioning column in the primary key and does not allow
+         * foreign keys on partitioned InnoDB tables, so both are adjusted first.
+         */
+        public void partitionTable(List<Partition> partitions) throws SQLException {
+            for (String foreignKey : foreignKeys()) {
+                execute("ALTER TABLE audit_logs DROP FOREIGN KEY `" + foreignKey + "`");
+            }
+            execute("ALTER TABLE audit_logs DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+            execute("ALTER TABLE audit_logs PARTITION BY RANGE COLUMNS(created_at) (" + definitions(partitions) + ")");
+        }
+        
+        /**
+         * Split new partitions off the MAXVALUE partition.
+         */
+        public void addPartitions(String maxPartition, List<Partition> partitions) throws SQLException {
+            execute("ALTER TABLE audit_logs REORGANIZE PARTITION " + checkName(maxPartition) + " INTO (" +
+                    definitions(partitions) + ")");
+        }
+        
+        public void dropPartition(String name) throws SQLException {
+            execute("ALTER TABLE audit_logs DROP PARTITION " + checkName(name));
+        }
+        
+        public long countRows(String partition) throws SQLException {
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                         "SELECT COUNT(*) FROM audit_logs PARTITION (" + checkName(partition) + ")")) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+        
+        /**
+         * Stream every row of a partition to the consumer without buffering the result set.
+         *
+         * @return Number of rows exported
+         */
+        public long exportRows(String partition, RowConsumer consumer) throws SQLException, IOException {
+            long rows = 0;
+            try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                // Connector/J streams rows one by one with this fetch size
+                statement.setFetchSize(Integer.MIN_VALUE);
+                try (ResultSet rs = statement.executeQuery(
+                        "SELECT * FROM audit_logs PARTITION (" + checkName(partition) + ") ORDER BY id")) {
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    int columns = metaData.getColumnCount();
+                    while (rs.next()) {
+                        Map<String, Object> row = new LinkedHashMap<>();
+                        for (int i = 1; i <= columns; i++) {
+                            Object value = rs.getObject(i);
+                            row.put(metaData.getColumnLabel(i),
+                                    value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value);
+                        }
+                        consumer.accept(row);
+                        rows++;
+                    }
+                }
+            }
+            return rows;
+        }
+        
+        private List<String> foreignKeys() throws SQLException {
+            List<String> names = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(
+                         "SELECT CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS " +
+                         "WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'audit_logs'")) {
+                while (rs.next()) {
+                    names.add(rs.getString(1));
+                }
+            }
+            return names;
+        }
+        
+        private void execute(String sql) throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            }
+        }
+    }
+    
+    static String definitions(List<Partition> partitions) {
+        return partitions.stream()
+                .map(p -> "PARTITION " + checkName(p.name()) + " VALUES LESS THAN (" +
+                        (p.lessThan() == null ? "MAXVALUE" : "'" + p.lessThan() + " 00:00:00'") + ")")
+                .collect(Collectors.joining(", "));
+    }
+    
+    static LocalDate parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+    
+    /**
+     * Partition names are interpolated into DDL, so only names this class generates are accepted.
+     */
+    private static String checkName(String name) {
+        if (!PARTITION_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Unexpected audit_logs partition: " + name);
+        }
+        return name;
+    }
+}
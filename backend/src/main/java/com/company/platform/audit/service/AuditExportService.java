@@ -0,0 +1,126 @@
+package com.company.platform.audit.service;
+
+import com.company.platform.audit.dto.AuditExportFormat;
+import com.company.platform.audit.dto.AuditFilterRequest;
+import com.company.platform.audit.dto.AuditLogResponse;
+import com.company.platform.audit.repository.AuditLogExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams filtered audit logs as CSV or NDJSON.
+ * Each row is written to the output as it is read, so an export of any size needs
+ * one row of memory and no OFFSET or COUNT queries.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuditExportService {
+    
+    private static final String CSV_HEADER =
+            "id,createdAt,action,entityType,entityId,performedById,performedByUsername,ipAddress,correlationId,details";
+    
+    private final AuditLogExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Write all audit logs matching the filter to the output. The output is flushed but not closed.
+     * Rows reach the output in 64 KB blocks. If the export fails, the rows still buffered are not
+     * flushed and the JSON generator is not closed, so the caller can abort the response instead of
+     * ending it cleanly.
+     *
+     * @return Number of audit logs written
+     */
+    @PreAuthorize("hasRole('REVIEWER') or hasRole('ADMIN') or hasRole('MANAGER')")
+    public long export(AuditFilterRequest filter, AuditExportFormat format, OutputStream out) throws IOException {
+        AtomicLong rows = new AtomicLong();
+        try {
+            if (format == AuditExportFormat.CSV) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+                writer.write(CSV_HEADER);
+                writer.write("\r\n");
+                exportRepository.streamMatching(filter, auditLog -> {
+                    writeCsv(writer, auditLog);
+                    rows.incrementAndGet();
+                });
+                writer.flush();
+            } else {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(new BufferedOutputStream(out, 64 * 1024));
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                // The shared mapper flushes after every value, which would send one chunk per row
+                ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+                exportRepository.streamMatching(filter, auditLog -> {
+                    writeJson(rowWriter, generator, auditLog);
+                    rows.incrementAndGet();
+                });
+                // Closing flushes the last rows; only reached when every row was written
+                generator.close();
+            }
+        } catch (UncheckedIOException e) {
+            // Client went away mid-export; the cursor is closed by the repository
+            throw e.getCause();
+        }
+        log.info("Audit logs exported: format={}, rows={}", format, rows.get());
+        return rows.get();
+    }
+    
+    private static void writeJson(ObjectWriter rowWriter, JsonGenerator generator, AuditLogResponse auditLog) {
+        try {
+            rowWriter.writeValue(generator, auditLog);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private static void writeCsv(Writer writer, AuditLogResponse auditLog) {
+        try {
+            writer.write(csvRow(auditLog));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    static String csvRow(AuditLogResponse auditLog) {
+        return String.join(",",
+                csvField(auditLog.getId()),
+                csvField(auditLog.getCreatedAt()),
+                csvField(auditLog.getAction()),
+                csvField(auditLog.getEntityType()),
+                csvField(auditLog.getEntityId()),
+                csvField(auditLog.getPerformedById()),
+                csvField(auditLog.getPerformedByUsername()),
+                csvField(auditLog.getIpAddress()),
+                csvField(auditLog.getCorrelationId()),
+                csvField(auditLog.getDetails())) + "\r\n";
+    }
+    
+    /**
+     * RFC 4180 field: quoted when it contains a comma, quote or line break.
+     */
+    static String csvField(Object value) {
+        String text = Objects.toString(value, "");
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,346 @@
+package com.company.platform.audit.service;
+
+import com.company.platform.audit.config.AuditWriterConfig;
+import com.company.platform.audit.domain.AuditLog;
+import com.company.platform.audit.repository.AuditLogBatchRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Asynchronous, batched audit log writer.
+ * Audit logs are queued after the caller's transaction commits and written
+ * in multi-row batches by a background thread, flushed by size or time.
+ * Request-scoped fields must already be set on the AuditLog when it is submitted.
+ * Transient insert errors are retried with backoff; a batch rejected for its data is split
+ * until the offending rows are isolated, so only those are lost.
+ * Counts are published as audit.writer.logs (tagged outcome), audit.writer.retries,
+ * audit.writer.synchronous.writes and the audit.writer.queue.size gauge.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter {
+
+    private final AuditLogBatchRepository auditLogBatchRepository;
+    private final AuditWriterConfig config;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong synchronousWrites = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+
+    private BlockingQueue<PendingAuditLog> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public AuditLogWriter(AuditLogBatchRepository auditLogBatchRepository,
+                          AuditWriterConfig config,
+                          ObjectMapper objectMapper,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry) {
+        this.auditLogBatchRepository = auditLogBatchRepository;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        registerCounter(meterRegistry, "written", written);
+        registerCounter(meterRegistry, "failed", failed);
+        registerCounter(meterRegistry, "dropped", dropped);
+        FunctionCounter.builder("audit.writer.retries", retries, AtomicLong::get)
+                .description("Audit log batch inserts retried after a transient error")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.writer.synchronous.writes", synchronousWrites, AtomicLong::get)
+                .description("Audit logs written on the caller thread because the queue was full or stopping")
+                .register(meterRegistry);
+        Gauge.builder("audit.writer.queue.size", this, AuditLogWriter::getQueueSize)
+                .description("Audit logs waiting to be written")
+                .register(meterRegistry);
+    }
+    
+    private static void registerCounter(MeterRegistry meterRegistry, String outcome, AtomicLong count) {
+        FunctionCounter.builder("audit.writer.logs", count, AtomicLong::get)
+                .description("Audit logs handled by the writer, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Audit log waiting to be written; old/new values are serialized by the writer.
+     */
+    private record PendingAuditLog(AuditLog auditLog, Map<String, String> oldValues, Map<String, String> newValues) {
+    }
+
+    @PostConstruct
+    void start() {
+        if (!config.isAsync()) {
+            log.info("Audit log writer running in synchronous mode");
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit log writer started: capacity={}, batchSize={}, flushIntervalMs={}, overflowPolicy={}",
+                config.getQueueCapacity(), config.getBatchSize(), config.getFlushIntervalMs(), config.getOverflowPolicy());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (queue == null) {
+            return;
+        }
+        running = false;
+        writerThread.join(config.getFlushIntervalMs() * 4 + 1000);
+
+        // Flush anything the writer thread did not get to
+        List<PendingAuditLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+        log.info("Audit log writer stopped: written={}, failed={}, dropped={}", written.get(), failed.get(), dropped.get());
+    }
+
+    /**
+     * Whether audit logs are written by the background writer.
+     */
+    public boolean isAsync() {
+        return queue != null;
+    }
+
+    /**
+     * Queue an audit log for writing.
+     * Inside a transaction the entry is only queued once the transaction commits.
+     */
+    public void submit(AuditLog auditLog, Map<String, String> oldValues, Map<String, String> newValues) {
+        PendingAuditLog pending = new PendingAuditLog(auditLog,
+                oldValues != null ? new HashMap<>(oldValues) : null,
+                newValues != null ? new HashMap<>(newValues) : null);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(pending);
+                }
+            });
+        } else {
+            enqueue(pending);
+        }
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getSynchronousWriteCount() {
+        return synchronousWrites.get();
+    }
+
+    public int getQueueSize() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    private void enqueue(PendingAuditLog pending) {
+        if (!running) {
+            // Shutting down: the writer may already be gone
+            writeSynchronously(pending);
+            return;
+        }
+
+        boolean accepted;
+        if (config.getOverflowPolicy() == AuditWriterConfig.OverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(pending, config.getOfferTimeoutMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = queue.offer(pending);
+        }
+
+        if (accepted) {
+            return;
+        }
+
+        if (config.getOverflowPolicy() == AuditWriterConfig.OverflowPolicy.DROP) {
+            dropped.incrementAndGet();
+            log.warn("Audit queue full, dropping audit log: action={}, entity={}, id={}",
+                    pending.auditLog().getAction(), pending.auditLog().getEntityType(), pending.auditLog().getEntityId());
+            return;
+        }
+
+        writeSynchronously(pending);
+    }
+
+    private void writeSynchronously(PendingAuditLog pending) {
+        synchronousWrites.incrementAndGet();
+        write(List.of(pending));
+    }
+
+    private void drainLoop() {
+        int batchSize = config.getBatchSize();
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getFlushIntervalMs());
+        List<PendingAuditLog> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAuditLog first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Fill the batch until it is full or the flush interval elapses
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingAuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (!batch.isEmpty()) {
+                    write(batch);
+                }
+                return;
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in audit log writer", e);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingAuditLog> batch) {
+        List<AuditLog> auditLogs = new ArrayList<>(batch.size());
+        for (PendingAuditLog pending : batch) {
+            try {
+                AuditLog auditLog = pending.auditLog();
+                auditLog.setOldValues(pending.oldValues() != null ? objectMapper.writeValueAsString(pending.oldValues()) : null);
+                auditLog.setNewValues(pending.newValues() != null ? objectMapper.writeValueAsString(pending.newValues()) : null);
+                auditLogs.add(auditLog);
+            } catch (JsonProcessingException e) {
+                failed.incrementAndGet();
+                log.error("Could not serialize audit log values: action={}, entity={}, id={}",
+                        pending.auditLog().getAction(), pending.auditLog().getEntityType(),
+                        pending.auditLog().getEntityId(), e);
+            }
+        }
+
+        insert(auditLogs);
+    }
+    
+    /**
+     * Insert the audit logs, retrying transient errors. When the database rejects the batch
+     * for its data (e.g. an over-long column), the batch is split in halves until the bad
+     * rows are isolated, so only those rows are lost.
+     */
+    void insert(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+        try {
+            insertWithRetry(auditLogs);
+            written.addAndGet(auditLogs.size());
+            log.debug("Audit logs written: count={}", auditLogs.size());
+        } catch (RuntimeException e) {
+            if (auditLogs.size() > 1 && !isTransient(e)) {
+                int middle = auditLogs.size() / 2;
+                insert(auditLogs.subList(0, middle));
+                insert(auditLogs.subList(middle, auditLogs.size()));
+                return;
+            }
+            failed.addAndGet(auditLogs.size());
+            if (auditLogs.size() == 1) {
+                AuditLog auditLog = auditLogs.get(0);
+                log.error("Failed to write audit log: action={}, entity={}, id={}",
+                        auditLog.getAction(), auditLog.getEntityType(), auditLog.getEntityId(), e);
+            } else {
+                log.error("Failed to write {} audit logs after {} retries", auditLogs.size(), config.getMaxRetries(), e);
+            }
+        }
+    }
+    
+    private void insertWithRetry(List<AuditLog> auditLogs) {
+        long backoffMs = config.getRetryBackoffMs();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        auditLogBatchRepository.insertAll(auditLogs, config.getBatchSize()));
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= config.getMaxRetries() || !isTransient(e)) {
+                    throw e;
+                }
+                retries.incrementAndGet();
+                log.warn("Transient error writing {} audit logs, retrying in {} ms: {}",
+                        auditLogs.size(), backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                backoffMs *= 2;
+            }
+        }
+    }
+    
+    /**
+     * Errors that say nothing about the rows themselves: lock conflicts, timeouts, lost connections.
+     */
+    static boolean isTransient(Throwable error) {
+        return error instanceof TransientDataAccessException
+                || error instanceof RecoverableDataAccessException
+                || error instanceof DataAccessResourceFailureException
+                || error instanceof CannotCreateTransactionException;
+    }
+}
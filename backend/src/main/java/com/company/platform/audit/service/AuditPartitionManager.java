@@ -0,0 +1,178 @@
+package com.company.platform.audit.service;
+
+import com.company.platform.audit.config.AuditPartitionConfig;
+import com.company.platform.audit.repository.AuditPartitionRepository;
+import com.company.platform.audit.repository.AuditPartitionRepository.Partition;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps audit_logs partitioned by month.
+ * Creates partitions ahead of time so inserts never land in the catch-all partition, and
+ * moves partitions older than the retention period to compressed archive files.
+ * Queries filtered by fromDate/toDate only read the partitions in that range.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuditPartitionManager {
+    
+    static final String MAX_PARTITION = "pmax";
+    
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    
+    private final AuditPartitionRepository partitionRepository;
+    private final AuditPartitionConfig config;
+    private final ObjectMapper objectMapper;
+    
+    @Scheduled(initialDelayString = "${audit.partitioning.initial-delay:PT30S}",
+               fixedDelayString = "${audit.partitioning.maintenance-interval:PT6H}")
+    public void maintain() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            boolean ran = partitionRepository.withMaintenanceLock(this::maintain);
+            if (!ran) {
+                log.debug("Audit partition maintenance running on another instance");
+            }
+        } catch (RuntimeException e) {
+            log.warn("Audit partition maintenance failed: {}", e.getMessage());
+        }
+    }
+    
+    private void maintain(AuditPartitionRepository.Session session) throws SQLException, IOException {
+        YearMonth current = YearMonth.now();
+        YearMonth through = current.plusMonths(Math.max(0, config.getMonthsAhead()));
+        
+        List<Partition> partitions = session.partitions();
+        if (partitions.isEmpty()) {
+            LocalDate oldest = session.oldestCreatedDate();
+            if (oldest != null && !config.isConvertExisting()) {
+                log.warn("audit_logs is not partitioned and holds rows since {}; set " +
+                        "audit.partitioning.convert-existing=true during a maintenance window to partition it", oldest);
+                return;
+            }
+            YearMonth from = oldest != null ? YearMonth.from(oldest) : current;
+            List<Partition> initial = monthlyPartitions(from, through);
+            log.info("Partitioning audit_logs by month: {} to {}", from, through);
+            session.partitionTable(initial);
+            partitions = initial;
+        }
+        
+        List<Partition> missing = missingPartitions(partitions, through);
+        if (!missing.isEmpty()) {
+            session.addPartitions(MAX_PARTITION, missing);
+            log.info("Added audit_logs partitions: {}", missing.stream().map(Partition::name).toList());
+            partitions = session.partitions();
+        }
+        
+        if (config.getRetentionMonths() > 0) {
+            LocalDateTime cutoff = LocalDateTime.now().minusMonths(config.getRetentionMonths());
+            for (Partition partition : expiredPartitions(partitions, cutoff)) {
+                retire(session, partition);
+            }
+        }
+    }
+    
+    /**
+     * Archive a partition and drop it. The partition is kept if the archive is incomplete.
+     */
+    private void retire(AuditPartitionRepository.Session session, Partition partition) throws SQLException, IOException {
+        if (config.isArchiveEnabled()) {
+            long exported = archive(session, partition.name());
+            long remaining = session.countRows(partition.name());
+            if (exported != remaining) {
+                log.warn("Audit partition {} changed while archiving (exported={}, now={}); dropping on next run",
+                        partition.name(), exported, remaining);
+                return;
+            }
+        }
+        session.dropPartition(partition.name());
+        log.info("Dropped expired audit_logs partition {}", partition.name());
+    }
+    
+    private long archive(AuditPartitionRepository.Session session, String partition) throws SQLException, IOException {
+        Path directory = Paths.get(config.getArchiveDir());
+        Files.createDirectories(directory);
+        Path target = directory.resolve("audit_logs_" + partition + ".ndjson.gz");
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        
+        long rows;
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), 64 * 1024);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(null);
+            rows = session.exportRows(partition, row -> {
+                generator.writeObject(row);
+                generator.writeRaw('\n');
+            });
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Archived audit_logs partition {}: rows={}, file={}", partition, rows, target.toAbsolutePath());
+        return rows;
+    }
+    
+    /**
+     * One partition per month from {@code from} through {@code through}, plus the MAXVALUE partition.
+     */
+    static List<Partition> monthlyPartitions(YearMonth from, YearMonth through) {
+        List<Partition> partitions = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(through); month = month.plusMonths(1)) {
+            partitions.add(partitionFor(month));
+        }
+        partitions.add(new Partition(MAX_PARTITION, null));
+        return partitions;
+    }
+    
+    /**
+     * Monthly partitions after the last bounded one through {@code through}, plus the MAXVALUE partition
+     * they are split from; empty if none are missing.
+     */
+    static List<Partition> missingPartitions(List<Partition> partitions, YearMonth through) {
+        LocalDate lastBound = partitions.stream()
+                .map(Partition::lessThan)
+                .filter(bound -> bound != null)
+                .reduce((first, second) -> second)
+                .orElse(null);
+        if (lastBound == null || !YearMonth.from(lastBound).isBefore(through.plusMonths(1))) {
+            return List.of();
+        }
+        return monthlyPartitions(YearMonth.from(lastBound), through);
+    }
+    
+    /**
+     * Bounded partitions whose rows are all older than the cutoff.
+     */
+    static List<Partition> expiredPartitions(List<Partition> partitions, LocalDateTime cutoff) {
+        List<Partition> expired = new ArrayList<>();
+        for (Partition partition : partitions) {
+            if (partition.lessThan() != null && !partition.lessThan().atStartOfDay().isAfter(cutoff)) {
+                expired.add(partition);
+            }
+        }
+        return expired;
+    }
+    
+    private static Partition partitionFor(YearMonth month) {
+        return new Partition("p" + month.format(PARTITION_MONTH), month.plusMonths(1).atDay(1));
+    }
+}
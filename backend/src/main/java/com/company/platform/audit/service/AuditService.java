@@ -7,11 +7,15 @@ import com.company.platform.audit.dto.AuditFilterRequest;
 import com.company.platform.audit.dto.AuditLogResponse;
 import com.company.platform.common.util.CorrelationIdUtil;
 import com.company.platform.users.domain.User;
+import com.company.platform.audit.repository.AuditLogBatchRepository;
 import com.company.platform.audit.repository.AuditLogRepository;
+import com.company.platform.audit.repository.AuditLogSpecifications;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,7 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -32,14 +37,23 @@ import java.util.Map;
 @Slf4j
 public class AuditService {
     
+    private static final String AUDIT_LOG_TIMER = "audit.log";
+    
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogBatchRepository auditLogBatchRepository;
+    private final AuditLogWriter auditLogWriter;
     private final ObjectMapper objectMapper;
     
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}")
+    private int batchSize;
+    
     /**
      * Log an audit action.
-     * This method is transactional to ensure audit logs are never lost.
+     * In async mode the entry is captured here and written by {@link AuditLogWriter}
+     * once the caller's transaction commits; otherwise it is saved in the caller's transaction.
      */
     @Transactional
+    @Timed(value = AUDIT_LOG_TIMER, histogram = true)
     public void logAction(
             AuditAction action,
             String entityType,
@@ -49,6 +63,60 @@ public class AuditService {
             Map<String, String> oldValues,
             Map<String, String> newValues
     ) throws JsonProcessingException {
+        if (auditLogWriter.isAsync()) {
+            AuditLog auditLog = captureAuditLog(action, entityType, entityId, details, performedBy);
+            auditLog.setCreatedAt(LocalDateTime.now());
+            auditLogWriter.submit(auditLog, oldValues, newValues);
+            log.debug("Audit log queued: action={}, entity={}, id={}", action, entityType, entityId);
+            return;
+        }
+
+        AuditLog auditLog = buildAuditLog(action, entityType, entityId, details, performedBy, oldValues, newValues);
+
+        auditLogRepository.save(auditLog);
+        log.debug("Audit log created: action={}, entity={}, id={}", action, entityType, entityId);
+    }
+    
+    /**
+     * Log several prepared audit entries with JDBC batch inserts.
+     * Entries should be created with {@link #buildAuditLog} on the request thread.
+     */
+    @Transactional
+    @Timed(value = AUDIT_LOG_TIMER, histogram = true)
+    public void logActions(List<AuditLog> auditLogs) {
+        auditLogBatchRepository.insertAll(auditLogs, batchSize);
+        log.debug("Audit logs created in batch: count={}", auditLogs.size());
+    }
+    
+    /**
+     * Build an audit entry, capturing request information (IP, user agent, correlation ID) if available.
+     */
+    public AuditLog buildAuditLog(
+            AuditAction action,
+            String entityType,
+            Long entityId,
+            String details,
+            User performedBy,
+            Map<String, String> oldValues,
+            Map<String, String> newValues
+    ) throws JsonProcessingException {
+        AuditLog auditLog = captureAuditLog(action, entityType, entityId, details, performedBy);
+        auditLog.setOldValues(oldValues != null ? objectMapper.writeValueAsString(oldValues) : null);
+        auditLog.setNewValues(newValues != null ? objectMapper.writeValueAsString(newValues) : null);
+        return auditLog;
+    }
+    
+    /**
+     * Create an audit entry with the request-scoped fields (IP, user agent, correlation ID) captured
+     * from the current thread, so it can safely be handed off to another thread.
+     */
+    private AuditLog captureAuditLog(
+            AuditAction action,
+            String entityType,
+            Long entityId,
+            String details,
+            User performedBy
+    ) {
         AuditLog auditLog = AuditLog.builder()
                 .action(action)
                 .entityType(entityType)
@@ -56,8 +124,6 @@ public class AuditService {
                 .details(details)
                 .performedBy(performedBy)
                 .correlationId(CorrelationIdUtil.getOrGenerateCorrelationId())
-                .oldValues(oldValues != null ? objectMapper.writeValueAsString(oldValues) : null)
-                .newValues(newValues != null ? objectMapper.writeValueAsString(newValues) : null)
                 .build();
 
         // Extract request information if available
@@ -70,25 +136,15 @@ public class AuditService {
             auditLog.setRequestMethod(request.getMethod());
             auditLog.setRequestPath(request.getRequestURI());
         }
-
-        auditLogRepository.save(auditLog);
-        log.debug("Audit log created: action={}, entity={}, id={}", action, entityType, entityId);
+        return auditLog;
     }
     
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('REVIEWER') or hasRole('ADMIN') or hasRole('MANAGER')")
     public Page<AuditLogResponse> getAuditLogs(AuditFilterRequest filter, Pageable pageable) {
         log.info("Fetching audit logs with filters");
-        return auditLogRepository.searchAuditLogs(
-                filter.getAction(),
-                filter.getEntityType(),
-                filter.getEntityId(),
-                filter.getUserId(),
-                filter.getFromDate(),
-                filter.getToDate(),
-                filter.getCorrelationId(),
-                pageable
-        ).map(this::toDTO);
+        return auditLogRepository.findAll(AuditLogSpecifications.matching(filter), pageable)
+                .map(AuditService::toDTO);
     }
     
     @Transactional(readOnly = true)
@@ -96,10 +152,11 @@ public class AuditService {
     public Page<AuditLogResponse> getAuditLogsByEntity(String entityType, Long entityId, Pageable pageable) {
         log.info("Fetching audit logs for entity: type={}, id={}", entityType, entityId);
         return auditLogRepository.findByEntity(entityType, entityId, pageable)
-                .map(this::toDTO);
+                .map(AuditService::toDTO);
     }
     
-    private AuditLogResponse toDTO(AuditLog auditLog) {
+    // Package-private for benchmarks
+    static AuditLogResponse toDTO(AuditLog auditLog) {
         return AuditLogResponse.builder()
                 .id(auditLog.getId())
                 .action(auditLog.getAction())
@@ -13,6 +13,7 @@ import com.company.platform.auth.dto.RegisterRequest;
 import com.company.platform.users.repository.RefreshTokenRepository;
 import com.company.platform.users.repository.RoleRepository;
 import com.company.platform.users.repository.UserRepository;
+import com.company.platform.users.service.UserRoleStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -35,6 +36,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final UserRoleStatsService userRoleStatsService;
 
     // ---------------------------------------------------------
     // REGISTER NEW USER
@@ -71,6 +73,7 @@ public class AuthService {
                 .build();
 
         user = userRepository.save(user);
+        userRoleStatsService.recordAdded(role.getName());
 
         log.info("User registered successfully: {}", user.getUsername());
         return generateAuthResponse(user);
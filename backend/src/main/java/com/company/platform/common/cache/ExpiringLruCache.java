@@ -0,0 +1,183 @@
+package com.company.platform.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, thread-safe LRU cache with per-entry expiry.
+ * Intended for small hot-path caches (tokens, principals, remote responses).
+ * Uses a ReentrantLock rather than synchronized so virtual threads do not pin.
+ */
+public class ExpiringLruCache<K, V> {
+    
+    private final int maxSize;
+    private final long defaultTtlMillis;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    private record Entry<V>(V value, long expiresAtMillis) {
+        boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+    
+    public ExpiringLruCache(int maxSize, Duration defaultTtl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.defaultTtlMillis = defaultTtl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    /**
+     * Get a live value, or null if absent or expired.
+     */
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (entry.isExpired(now)) {
+                entries.remove(key);
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Cache a value for the default TTL.
+     */
+    public void put(K key, V value) {
+        putUntil(key, value, System.currentTimeMillis() + defaultTtlMillis);
+    }
+    
+    /**
+     * Cache a value until the given epoch millis, capped at the default TTL.
+     */
+    public void putUntil(K key, V value, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(expiresAtMillis, now + defaultTtlMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.put(key, new Entry<>(value, expiresAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Drop expired entries; callers may run this periodically to release memory early.
+     */
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            Iterator<Entry<V>> it = entries.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().isExpired(now)) {
+                    it.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public long hitCount() {
+        return hits.get();
+    }
+    
+    public long missCount() {
+        return misses.get();
+    }
+    
+    public long evictionCount() {
+        return evictions.get();
+    }
+    
+    /**
+     * Register size, hit/miss and eviction meters using Micrometer's cache naming conventions.
+     */
+    public ExpiringLruCache<K, V> bindTo(MeterRegistry registry, String cacheName) {
+        FunctionCounter.builder("cache.gets", this, ExpiringLruCache::hitCount)
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .description("Number of cache lookups that returned a live value")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, ExpiringLruCache::missCount)
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .description("Number of cache lookups that found no live value")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", this, ExpiringLruCache::evictionCount)
+                .tag("cache", cacheName)
+                .description("Number of entries evicted because the cache was full")
+                .register(registry);
+        Gauge.builder("cache.size", this, ExpiringLruCache::size)
+                .tag("cache", cacheName)
+                .description("Number of entries in the cache")
+                .register(registry);
+        return this;
+    }
+}
@@ -0,0 +1,106 @@
+package com.company.platform.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * ExpiringLruCache of remote results that also deduplicates in-flight loads:
+ * concurrent misses for the same key share one load. Failed loads are not cached.
+ */
+public class SingleFlightCache<K, V> {
+    
+    private final ExpiringLruCache<K, V> cache;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong deduplicated = new AtomicLong();
+    
+    public SingleFlightCache(int maxSize, Duration ttl) {
+        this.cache = new ExpiringLruCache<>(maxSize, ttl);
+    }
+    
+    /**
+     * Get a cached value, or null.
+     */
+    public V getIfPresent(K key) {
+        return cache.get(key);
+    }
+    
+    /**
+     * Load a value, joining a load already in flight for the same key.
+     * Successful non-null results are cached before the future completes.
+     */
+    public CompletableFuture<V> load(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            deduplicated.incrementAndGet();
+            return existing.copy();
+        }
+        
+        try {
+            loader.get().whenComplete((value, error) -> {
+                if (error == null && value != null) {
+                    cache.put(key, value);
+                }
+                inFlight.remove(key, flight);
+                if (error != null) {
+                    flight.completeExceptionally(unwrap(error));
+                } else {
+                    flight.complete(value);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.completeExceptionally(e);
+        }
+        // Callers get a copy so one caller cancelling cannot fail the others
+        return flight.copy();
+    }
+    
+    /**
+     * Blocking variant of load for synchronous callers.
+     */
+    public V loadBlocking(K key, Supplier<V> loader) {
+        try {
+            return load(key, () -> CompletableFuture.completedFuture(loader.get())).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+    
+    /**
+     * Number of loads that joined a load already in flight.
+     */
+    public long deduplicatedCount() {
+        return deduplicated.get();
+    }
+    
+    /**
+     * Register the underlying cache meters plus cache.loads.deduplicated.
+     */
+    public SingleFlightCache<K, V> bindTo(MeterRegistry registry, String cacheName) {
+        cache.bindTo(registry, cacheName);
+        FunctionCounter.builder("cache.loads.deduplicated", this, SingleFlightCache::deduplicatedCount)
+                .tag("cache", cacheName)
+                .description("Number of loads that shared a remote call already in flight")
+                .register(registry);
+        return this;
+    }
+    
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
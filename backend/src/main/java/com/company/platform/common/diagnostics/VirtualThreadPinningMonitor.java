@@ -0,0 +1,119 @@
+package com.company.platform.common.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reports virtual threads pinned to their carrier, e.g. by blocking inside a synchronized block.
+ * Listens to the JFR jdk.VirtualThreadPinned event in-process. Each pin is counted in
+ * jvm.threads.virtual.pinned, tagged with the innermost application frame. The first pin
+ * at each frame is logged with its application stack.
+ */
+@Component
+@ConditionalOnProperty(prefix = "diagnostics.virtual-thread-pinning", name = "enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor {
+    
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.company.platform.";
+    private static final int MAX_LOGGED_FRAMES = 15;
+    
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+    
+    private RecordingStream recordingStream;
+    
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${diagnostics.virtual-thread-pinning.threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+    
+    @PostConstruct
+    void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("Virtual thread pinning monitor started: threshold={}", threshold);
+    }
+    
+    @PreDestroy
+    void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+    
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String frame = stackTrace != null ? applicationFrame(stackTrace) : "unknown";
+        
+        Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .increment();
+        
+        if (reportedFrames.add(frame)) {
+            log.warn("Virtual thread pinned for {} ms at {}:{}", event.getDuration().toMillis(), frame,
+                    stackTrace != null ? describe(stackTrace) : " (no stack trace)");
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), frame);
+        }
+    }
+    
+    /**
+     * Innermost frame in application code, or the innermost frame if the pin is entirely in libraries.
+     */
+    private static String applicationFrame(RecordedStackTrace stackTrace) {
+        String innermost = "unknown";
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String name = frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+            if (name.startsWith(APPLICATION_PACKAGE)) {
+                return name;
+            }
+            if ("unknown".equals(innermost)) {
+                innermost = name;
+            }
+        }
+        return innermost;
+    }
+    
+    private static String describe(RecordedStackTrace stackTrace) {
+        StringBuilder description = new StringBuilder();
+        int logged = 0;
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            description.append("\n    at ")
+                    .append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName())
+                    .append(" line ").append(frame.getLineNumber());
+            if (++logged == MAX_LOGGED_FRAMES) {
+                description.append("\n    ...");
+                break;
+            }
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,10 @@
+package com.company.platform.common.exception;
+
+/**
+ * Exception thrown when a request conflicts with the current state of a resource.
+ */
+public class ConflictException extends BusinessException {
+    public ConflictException(String message) {
+        super(message, "CONFLICT");
+    }
+}
@@ -61,6 +61,38 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), "RESOURCE_NOT_FOUND"));
     }
     
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ApiResponse<ErrorResponse>> handleConflictException(
+            ConflictException ex, WebRequest request) {
+        log.warn("Conflict: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.of(
+                ex.getMessage(),
+                ex.getErrorCode(),
+                ((ServletWebRequest) request).getRequest().getRequestURI()
+        );
+        errorResponse.setCorrelationId(CorrelationIdUtil.getOrGenerateCorrelationId());
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ex.getMessage(), ex.getErrorCode()));
+    }
+    
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<ErrorResponse>> handleServiceUnavailableException(
+            ServiceUnavailableException ex, WebRequest request) {
+        log.warn("Service unavailable: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.of(
+                ex.getMessage(),
+                ex.getErrorCode(),
+                ((ServletWebRequest) request).getRequest().getRequestURI()
+        );
+        errorResponse.setCorrelationId(CorrelationIdUtil.getOrGenerateCorrelationId());
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(ex.getMessage(), ex.getErrorCode()));
+    }
+    
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<ApiResponse<ErrorResponse>> handleUnauthorizedException(
             UnauthorizedException ex, WebRequest request) {
@@ -204,6 +236,8 @@ public class GlobalExceptionHandler {
                 errorMessage = "Username already exists";
             } else if (rootCause.contains("email") || rootCause.contains("idx_user_email")) {
                 errorMessage = "Email already exists";
+            } else if (rootCause.contains("uk_trigger_idempotency_key")) {
+                errorMessage = "A trigger with this idempotency key is already being processed";
             } else if (rootCause.contains("role") || rootCause.contains("foreign key")) {
                 errorMessage = "Invalid role specified. Valid roles are: Admin, Manager, Reviewer, Viewer";
             } else {
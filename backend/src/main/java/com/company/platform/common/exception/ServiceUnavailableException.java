@@ -0,0 +1,14 @@
+package com.company.platform.common.exception;
+
+/**
+ * Exception thrown when a downstream service cannot take the call right now.
+ */
+public class ServiceUnavailableException extends BusinessException {
+    public ServiceUnavailableException(String message) {
+        super(message, "SERVICE_UNAVAILABLE");
+    }
+    
+    public ServiceUnavailableException(String message, String errorCode) {
+        super(message, errorCode);
+    }
+}
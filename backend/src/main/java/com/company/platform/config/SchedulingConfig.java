@@ -0,0 +1,12 @@
+package com.company.platform.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled maintenance jobs (idempotency key purge, etc.).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -3,9 +3,13 @@ package com.company.platform.integration.controller;
 import com.company.platform.common.response.ApiResponse;
 import com.company.platform.integration.dto.HealthCheckResponse;
 import com.company.platform.integration.dto.IntegrationStatusResponse;
+import com.company.platform.python.client.PythonCircuitBreaker;
+import com.company.platform.python.client.PythonCircuitBreakers;
 import com.company.platform.workflows.dto.WorkflowTriggerRequest;
 import com.company.platform.workflows.dto.WorkflowTriggerResponse;
+import com.company.platform.workflows.dto.WorkflowTriggerTicketResponse;
 import com.company.platform.workflows.service.WorkflowIntegrationService;
+import com.company.platform.workflows.service.WorkflowTriggerQueue;
 import com.company.platform.users.domain.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,11 +18,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * Integration Controller for AI/ML services and external microservices.
@@ -38,6 +44,8 @@ import java.time.LocalDateTime;
 public class IntegrationController {
     
     private final WorkflowIntegrationService workflowIntegrationService;
+    private final WorkflowTriggerQueue workflowTriggerQueue;
+    private final PythonCircuitBreakers pythonCircuitBreakers;
     
     /**
      * Health check endpoint for integration services.
@@ -72,17 +80,16 @@ public class IntegrationController {
     public ResponseEntity<ApiResponse<WorkflowTriggerResponse>> triggerWorkflow(
             @RequestParam(required = false) String workflowName,
             @Valid @RequestBody WorkflowTriggerRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal User currentUser) {
         
         log.info("Integration workflow trigger: name={}, source={}", 
                 workflowName != null ? workflowName : "default", request.getSource());
         
-        String name = workflowName != null ? workflowName : 
-                (request.getMetadata() != null && request.getMetadata().containsKey("workflowName") ?
-                        request.getMetadata().get("workflowName").toString() : "integration_trigger");
+        String name = resolveWorkflowName(workflowName, request);
         
         WorkflowTriggerResponse response = workflowIntegrationService.triggerWorkflow(
-                name, request, currentUser);
+                name, request, currentUser, idempotencyKey);
         
         HttpHeaders headers = new HttpHeaders();
         headers.add("X-API-Version", "v1");
@@ -93,9 +100,65 @@ public class IntegrationController {
                 .body(ApiResponse.success(response, "Workflow triggered successfully"));
     }
     
+    /**
+     * Accept a workflow trigger for asynchronous processing.
+     * The trigger is validated and queued, and a ticket is returned immediately;
+     * triggers for the same workflow are processed in the order they were accepted.
+     * 
+     * POST /api/v1/integration/workflows/trigger?mode=async
+     */
+    @PostMapping(value = "/workflows/trigger", params = "mode=async")
+    @Operation(
+            summary = "Trigger workflow asynchronously (Integration)",
+            description = "Queues a workflow trigger and returns 202 with a ticket ID to poll for the result."
+    )
+    public ResponseEntity<ApiResponse<WorkflowTriggerTicketResponse>> triggerWorkflowAsync(
+            @RequestParam(required = false) String workflowName,
+            @Valid @RequestBody WorkflowTriggerRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal User currentUser) {
+        
+        String name = resolveWorkflowName(workflowName, request);
+        log.info("Integration workflow trigger accepted for async processing: name={}, source={}",
+                name, request.getSource());
+        
+        WorkflowTriggerTicketResponse ticket = workflowTriggerQueue.enqueue(name, request, currentUser, idempotencyKey);
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-API-Version", "v1");
+        headers.add("X-Deprecated", "false");
+        headers.add(HttpHeaders.LOCATION, "/api/v1/integration/workflows/trigger/" + ticket.getTicketId());
+        
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .headers(headers)
+                .body(ApiResponse.success(ticket, "Workflow trigger accepted"));
+    }
+    
+    /**
+     * Get the status of an asynchronously accepted workflow trigger.
+     * 
+     * GET /api/v1/integration/workflows/trigger/{ticketId}
+     */
+    @GetMapping("/workflows/trigger/{ticketId}")
+    @Operation(summary = "Get async trigger status", description = "Returns the status and result of a queued workflow trigger")
+    public ResponseEntity<ApiResponse<WorkflowTriggerTicketResponse>> getTriggerStatus(
+            @PathVariable String ticketId,
+            @AuthenticationPrincipal User currentUser) {
+        
+        WorkflowTriggerTicketResponse ticket = workflowTriggerQueue.getTicket(ticketId, currentUser);
+        
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-API-Version", "v1");
+        
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(ApiResponse.success(ticket));
+    }
+    
     /**
      * Get integration status.
      * Provides status information for external systems.
+     * Status is DEGRADED while any Python circuit breaker is not closed.
      * 
      * GET /api/v1/integration/status
      */
@@ -104,15 +167,21 @@ public class IntegrationController {
     public ResponseEntity<ApiResponse<IntegrationStatusResponse>> getStatus() {
         log.debug("Integration status requested");
         
+        Map<String, PythonCircuitBreaker.Status> circuitBreakers = pythonCircuitBreakers.getStatuses();
+        boolean degraded = circuitBreakers.values().stream()
+                .anyMatch(status -> status.state() != PythonCircuitBreaker.State.CLOSED);
+        
         IntegrationStatusResponse response = IntegrationStatusResponse.builder()
                 .apiVersion("v1")
-                .status("ACTIVE")
+                .status(degraded ? "DEGRADED" : "ACTIVE")
                 .supportedFeatures(java.util.List.of(
                         "workflow_trigger",
+                        "workflow_trigger_async",
                         "health_check",
                         "status_check"
                 ))
                 .timestamp(LocalDateTime.now())
+                .pythonCircuitBreakers(circuitBreakers)
                 .build();
         
         HttpHeaders headers = new HttpHeaders();
@@ -122,4 +191,10 @@ public class IntegrationController {
                 .headers(headers)
                 .body(ApiResponse.success(response));
     }
+    
+    private static String resolveWorkflowName(String workflowName, WorkflowTriggerRequest request) {
+        return workflowName != null ? workflowName : 
+                (request.getMetadata() != null && request.getMetadata().containsKey("workflowName") ?
+                        request.getMetadata().get("workflowName").toString() : "integration_trigger");
+    }
 }
@@ -1,5 +1,6 @@
 package com.company.platform.integration.dto;
 
+import com.company.platform.python.client.PythonCircuitBreaker;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Integration status response DTO.
@@ -24,4 +26,5 @@ public class IntegrationStatusResponse {
     private List<String> supportedFeatures;
     private LocalDateTime timestamp;
     private String message;
+    private Map<String, PythonCircuitBreaker.Status> pythonCircuitBreakers;
 }
@@ -0,0 +1,219 @@
+package com.company.platform.python.client;
+
+import com.company.platform.python.config.PythonServiceConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Count-based circuit breaker for one Python endpoint.
+ * Opens when the failure or slow-call rate over the last windowSize calls crosses its threshold.
+ * An open breaker moves to half-open only after a successful health probe, then closes once
+ * halfOpenPermittedCalls trial calls succeed; any failed trial call re-opens it.
+ * Results are only counted in the state their call was admitted in.
+ * State is guarded by a lock that is taken on every Python call, including from virtual threads.
+ */
+@Slf4j
+public class PythonCircuitBreaker {
+    
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+    
+    /**
+     * Point-in-time view of a breaker, for status endpoints.
+     */
+    public record Status(State state, float failureRate, float slowCallRate, int bufferedCalls, long rejectedCalls) {
+    }
+    
+    /**
+     * Permission for one call, tagged with the state epoch it was admitted in.
+     */
+    public record Permit(long epoch) {
+    }
+    
+    private final String name;
+    private final PythonServiceConfig.CircuitBreaker config;
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    // Ring buffer of the last windowSize outcomes
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int next;
+    private int buffered;
+    private int failureCount;
+    private int slowCount;
+    
+    private State state = State.CLOSED;
+    // Incremented on every state change
+    private long epoch;
+    private long openedAtMillis;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long rejectedCalls;
+    
+    public PythonCircuitBreaker(String name, PythonServiceConfig.CircuitBreaker config) {
+        this.name = name;
+        this.config = config;
+        this.failures = new boolean[config.getWindowSize()];
+        this.slowCalls = new boolean[config.getWindowSize()];
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Ask for permission to call Python. Every permit must be followed by
+     * exactly one of onSuccess, onFailure or onIgnored.
+     *
+     * @return The permit, or null if the call is rejected
+     */
+    public Permit tryAcquirePermission() {
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return new Permit(epoch);
+                case HALF_OPEN:
+                    if (halfOpenPermits > 0) {
+                        halfOpenPermits--;
+                        return new Permit(epoch);
+                    }
+                    rejectedCalls++;
+                    return null;
+                default:
+                    rejectedCalls++;
+                    return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public void onSuccess(Permit permit, long durationMillis) {
+        lock.lock();
+        try {
+            record(permit, false, durationMillis >= config.getSlowCallDurationMs());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public void onFailure(Permit permit, long durationMillis) {
+        lock.lock();
+        try {
+            record(permit, true, durationMillis >= config.getSlowCallDurationMs());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * The permitted call never reached Python (e.g. rejected by the bulkhead).
+     */
+    public void onIgnored(Permit permit) {
+        lock.lock();
+        try {
+            if (permit.epoch() == epoch && state == State.HALF_OPEN) {
+                halfOpenPermits++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    /**
+     * Whether the breaker has been open long enough to be probed.
+     */
+    public boolean isProbeDue(long nowMillis) {
+        lock.lock();
+        try {
+            return state == State.OPEN && nowMillis - openedAtMillis >= config.getOpenDurationMs();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public void onProbeSucceeded() {
+        lock.lock();
+        try {
+            if (state == State.OPEN) {
+                transitionTo(State.HALF_OPEN);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public Status status() {
+        lock.lock();
+        try {
+            return new Status(state, rate(failureCount), rate(slowCount), buffered, rejectedCalls);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void record(Permit permit, boolean failure, boolean slow) {
+        if (permit.epoch() != epoch) {
+            // Late result of a call admitted before the last state change, e.g. a closed-state
+            // call finishing while half-open; it says nothing about the current trial
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (failure) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= config.getHalfOpenPermittedCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (buffered == failures.length) {
+            if (failures[next]) failureCount--;
+            if (slowCalls[next]) slowCount--;
+        } else {
+            buffered++;
+        }
+        failures[next] = failure;
+        slowCalls[next] = slow;
+        if (failure) failureCount++;
+        if (slow) slowCount++;
+        next = (next + 1) % failures.length;
+        
+        if (buffered >= config.getMinimumCalls()
+                && (rate(failureCount) >= config.getFailureRateThreshold()
+                || rate(slowCount) >= config.getSlowCallRateThreshold())) {
+            transitionTo(State.OPEN);
+        }
+    }
+    
+    private float rate(int count) {
+        return buffered == 0 ? 0 : count * 100f / buffered;
+    }
+    
+    private void transitionTo(State newState) {
+        log.warn("Python circuit breaker '{}' {} -> {} (failureRate={}%, slowCallRate={}%)",
+                name, state, newState, rate(failureCount), rate(slowCount));
+        state = newState;
+        epoch++;
+        next = 0;
+        buffered = 0;
+        failureCount = 0;
+        slowCount = 0;
+        halfOpenSuccesses = 0;
+        halfOpenPermits = newState == State.HALF_OPEN ? config.getHalfOpenPermittedCalls() : 0;
+        if (newState == State.OPEN) {
+            openedAtMillis = System.currentTimeMillis();
+        }
+    }
+}
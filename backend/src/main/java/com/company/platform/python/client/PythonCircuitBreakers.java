@@ -0,0 +1,218 @@
+package com.company.platform.python.client;
+
+import com.company.platform.common.exception.BusinessException;
+import com.company.platform.common.exception.ServiceUnavailableException;
+import com.company.platform.python.config.PythonServiceConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breakers for the Python service, one per endpoint.
+ * While a breaker is open, calls fail immediately with 503 CIRCUIT_OPEN, or return
+ * the endpoint's fallback if configured. Open breakers are probed with the Python
+ * health check and become half-open once it succeeds.
+ * Wrap each remote call exactly once: calls that share one HTTP request (micro-batches,
+ * single-flight cache loads) must go through the breaker inside the shared loader.
+ * State is exported as python.circuit.state (0 = closed, 1 = open, 2 = half-open).
+ */
+@Component
+@Slf4j
+public class PythonCircuitBreakers {
+    
+    public static final String ANOMALY = "anomaly";
+    public static final String RISK = "risk";
+    public static final String DECISION = "decision";
+    public static final String INGESTION = "ingestion";
+    
+    /**
+     * Error code for calls rejected by an open breaker.
+     */
+    public static final String CIRCUIT_OPEN = "CIRCUIT_OPEN";
+    
+    private final PythonServiceConfig.CircuitBreaker config;
+    private final PythonServiceClient pythonServiceClient;
+    private final Map<String, PythonCircuitBreaker> breakers = new LinkedHashMap<>();
+    
+    private ScheduledExecutorService prober;
+    
+    public PythonCircuitBreakers(PythonServiceConfig pythonServiceConfig,
+                                 PythonServiceClient pythonServiceClient,
+                                 MeterRegistry meterRegistry) {
+        this.config = pythonServiceConfig.getCircuitBreaker();
+        this.pythonServiceClient = pythonServiceClient;
+        
+        for (String endpoint : List.of(ANOMALY, RISK, DECISION, INGESTION)) {
+            PythonCircuitBreaker breaker = new PythonCircuitBreaker(endpoint, config);
+            breakers.put(endpoint, breaker);
+            Gauge.builder("python.circuit.state", breaker, b -> b.getState().ordinal())
+                    .description("Python circuit breaker state: 0 = closed, 1 = open, 2 = half-open")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+            FunctionCounter.builder("python.circuit.rejected", breaker, b -> b.status().rejectedCalls())
+                    .description("Python calls rejected by an open circuit breaker")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry);
+        }
+    }
+    
+    @PostConstruct
+    void start() {
+        if (!config.isEnabled()) {
+            log.info("Python circuit breakers disabled");
+            return;
+        }
+        prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "python-circuit-prober");
+            thread.setDaemon(true);
+            return thread;
+        });
+        prober.scheduleWithFixedDelay(this::probeOpenBreakers,
+                config.getProbeIntervalMs(), config.getProbeIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+    
+    @PreDestroy
+    void stop() {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+    }
+    
+    /**
+     * Run a blocking Python call through the endpoint's breaker.
+     */
+    public <T> T call(String endpoint, Supplier<T> call, Supplier<T> fallback) {
+        if (!config.isEnabled()) {
+            return call.get();
+        }
+        PythonCircuitBreaker breaker = breakers.get(endpoint);
+        PythonCircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+        if (permit == null) {
+            return rejected(endpoint, fallback);
+        }
+        long start = System.currentTimeMillis();
+        try {
+            T result = call.get();
+            breaker.onSuccess(permit, System.currentTimeMillis() - start);
+            return result;
+        } catch (RuntimeException e) {
+            recordError(breaker, permit, e, System.currentTimeMillis() - start);
+            throw e;
+        }
+    }
+    
+    /**
+     * Run a non-blocking Python call through the endpoint's breaker.
+     */
+    public <T> CompletableFuture<T> callAsync(String endpoint, Supplier<CompletableFuture<T>> call, Supplier<T> fallback) {
+        if (!config.isEnabled()) {
+            return call.get();
+        }
+        PythonCircuitBreaker breaker = breakers.get(endpoint);
+        PythonCircuitBreaker.Permit permit = breaker.tryAcquirePermission();
+        if (permit == null) {
+            try {
+                return CompletableFuture.completedFuture(rejected(endpoint, fallback));
+            } catch (ServiceUnavailableException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        long start = System.currentTimeMillis();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            recordError(breaker, permit, e, System.currentTimeMillis() - start);
+            throw e;
+        }
+        return future.whenComplete((result, error) -> {
+            long duration = System.currentTimeMillis() - start;
+            if (error == null) {
+                breaker.onSuccess(permit, duration);
+            } else {
+                recordError(breaker, permit, error, duration);
+            }
+        });
+    }
+    
+    /**
+     * Serve the endpoint's fallback for a call rejected by its open breaker; rethrow any other error.
+     * For breakers used inside shared loaders (single-flight caches), whose results must not be the
+     * fallback, so the fallback is applied per caller afterwards.
+     */
+    public <T> T recoverRejected(String endpoint, Throwable error, Supplier<T> fallback) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof ServiceUnavailableException e && CIRCUIT_OPEN.equals(e.getErrorCode())) {
+            return rejected(endpoint, fallback);
+        }
+        if (cause instanceof RuntimeException e) {
+            throw e;
+        }
+        throw new CompletionException(cause);
+    }
+    
+    /**
+     * Current state of every breaker, by endpoint.
+     */
+    public Map<String, PythonCircuitBreaker.Status> getStatuses() {
+        Map<String, PythonCircuitBreaker.Status> statuses = new LinkedHashMap<>();
+        breakers.forEach((endpoint, breaker) -> statuses.put(endpoint, breaker.status()));
+        return statuses;
+    }
+    
+    /**
+     * Only server errors, I/O errors and timeouts count as failures. A 4xx means Python
+     * answered and rejected this caller's payload, so it counts as a (possibly slow) success.
+     */
+    private void recordError(PythonCircuitBreaker breaker, PythonCircuitBreaker.Permit permit,
+                             Throwable error, long duration) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        String errorCode = cause instanceof BusinessException e ? e.getErrorCode() : null;
+        if (PythonServiceAsyncClient.SERVICE_BUSY.equals(errorCode)) {
+            breaker.onIgnored(permit);
+        } else if (PythonServiceAsyncClient.CLIENT_ERROR.equals(errorCode)) {
+            breaker.onSuccess(permit, duration);
+        } else {
+            breaker.onFailure(permit, duration);
+        }
+    }
+    
+    private <T> T rejected(String endpoint, Supplier<T> fallback) {
+        if (fallback != null && config.getFallbackEndpoints().contains(endpoint)) {
+            log.debug("Python {} circuit open, serving fallback", endpoint);
+            return fallback.get();
+        }
+        throw new ServiceUnavailableException("Python " + endpoint + " service unavailable (circuit open)", CIRCUIT_OPEN);
+    }
+    
+    private void probeOpenBreakers() {
+        long now = System.currentTimeMillis();
+        List<PythonCircuitBreaker> due = breakers.values().stream()
+                .filter(breaker -> breaker.isProbeDue(now))
+                .toList();
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            pythonServiceClient.checkHealth();
+            log.info("Python health probe succeeded, half-opening {} circuit breaker(s)", due.size());
+            due.forEach(PythonCircuitBreaker::onProbeSucceeded);
+        } catch (RuntimeException e) {
+            log.debug("Python health probe failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.platform.python.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times calls to the Python service as python.client.requests, tagged by endpoint,
+ * method and status class (2xx, 4xx, 5xx, or IO_ERROR when no response arrived).
+ * Installed on the Python RestTemplate and used directly by {@link PythonServiceAsyncClient},
+ * so blocking and async calls land in the same timer.
+ */
+public class PythonClientMetrics implements ClientHttpRequestInterceptor {
+
+    static final String TIMER_NAME = "python.client.requests";
+    static final String IO_ERROR = "IO_ERROR";
+
+    private final MeterRegistry meterRegistry;
+
+    public PythonClientMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        long start = System.nanoTime();
+        String status = IO_ERROR;
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            status = statusClass(response.getStatusCode().value());
+            return response;
+        } finally {
+            record(request.getURI().getPath(), request.getMethod().name(), status, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Record one call that took the given number of nanoseconds.
+     */
+    void record(String endpoint, String method, String status, long durationNanos) {
+        Timer.builder(TIMER_NAME)
+                .description("Calls to the Python service")
+                .tag("endpoint", endpoint)
+                .tag("method", method)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String statusClass(int statusCode) {
+        return (statusCode / 100) + "xx";
+    }
+}
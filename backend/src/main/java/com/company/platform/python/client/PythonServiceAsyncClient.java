@@ -0,0 +1,193 @@
+package com.company.platform.python.client;
+
+import com.company.platform.common.exception.BusinessException;
+import com.company.platform.common.exception.ServiceUnavailableException;
+import com.company.platform.python.config.PythonServiceConfig;
+import com.company.platform.python.dto.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Non-blocking HTTP client for calling Python service endpoints.
+ * Calls return immediately with a CompletableFuture; no thread waits on the socket.
+ * In-flight calls are capped by a bulkhead; calls over the limit fail fast with 503.
+ */
+@Component
+@Slf4j
+public class PythonServiceAsyncClient {
+    
+    /**
+     * Error code for calls rejected by the bulkhead; these never reached Python.
+     */
+    public static final String SERVICE_BUSY = "SERVICE_BUSY";
+    
+    /**
+     * Error code for 4xx answers from Python; the request was rejected, the service is healthy.
+     */
+    public static final String CLIENT_ERROR = "PYTHON_CLIENT_ERROR";
+    
+    private final PythonServiceConfig pythonServiceConfig;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Semaphore bulkhead;
+    private final PythonClientMetrics metrics;
+    
+    public PythonServiceAsyncClient(PythonServiceConfig pythonServiceConfig,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.pythonServiceConfig = pythonServiceConfig;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(pythonServiceConfig.isHttp2Enabled() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(pythonServiceConfig.getConnectTimeout()))
+                .build();
+        this.bulkhead = new Semaphore(pythonServiceConfig.getMaxConcurrentAsyncCalls());
+        this.metrics = new PythonClientMetrics(meterRegistry);
+        
+        Gauge.builder("python.service.async.in_flight", bulkhead,
+                        b -> pythonServiceConfig.getMaxConcurrentAsyncCalls() - b.availablePermits())
+                .description("In-flight async calls to the Python service")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Call Python anomaly detection endpoint.
+     * POST /anomaly/detect
+     */
+    public CompletableFuture<AnomalyResponse> detectAnomaly(AnomalyRequest request) {
+        return post("/anomaly/detect", request, AnomalyResponse.class, "anomaly detection");
+    }
+    
+    /**
+     * Call Python batch anomaly detection endpoint.
+     * POST /anomaly/detect/batch
+     */
+    public CompletableFuture<AnomalyBatchResponse> detectAnomalies(AnomalyBatchRequest request) {
+        return post("/anomaly/detect/batch", request, AnomalyBatchResponse.class, "anomaly detection");
+    }
+    
+    /**
+     * Call Python risk evaluation endpoint.
+     * POST /risk/evaluate
+     */
+    public CompletableFuture<RiskResponse> evaluateRisk(RiskRequest request) {
+        return post("/risk/evaluate", request, RiskResponse.class, "risk evaluation");
+    }
+    
+    /**
+     * Call Python decision support endpoint.
+     * POST /decision/evaluate
+     */
+    public CompletableFuture<DecisionResponse> evaluateDecision(DecisionRequest request) {
+        return post("/decision/evaluate", request, DecisionResponse.class, "decision support");
+    }
+    
+    /**
+     * Call Python ingestion endpoint.
+     * POST /ingestion/process
+     */
+    public CompletableFuture<IngestionResponse> processIngestion(IngestionRequest request) {
+        return post("/ingestion/process", request, IngestionResponse.class, "ingestion");
+    }
+    
+    /**
+     * Call Python batch ingestion endpoint.
+     * POST /ingestion/process/batch
+     */
+    public CompletableFuture<IngestionBatchResponse> processIngestionBatch(IngestionBatchRequest request) {
+        return post("/ingestion/process/batch", request, IngestionBatchResponse.class, "ingestion");
+    }
+    
+    /**
+     * Number of async calls currently waiting on the Python service.
+     */
+    public int getInFlightCalls() {
+        return pythonServiceConfig.getMaxConcurrentAsyncCalls() - bulkhead.availablePermits();
+    }
+    
+    private <T> CompletableFuture<T> post(String path, Object body, Class<T> responseType, String serviceName) {
+        String url = pythonServiceConfig.getBaseUrl() + path;
+        
+        if (!bulkhead.tryAcquire()) {
+            log.warn("Python {} call rejected: {} async calls in flight", serviceName, getInFlightCalls());
+            return CompletableFuture.failedFuture(
+                    new ServiceUnavailableException("Python " + serviceName + " service is busy, retry later", SERVICE_BUSY));
+        }
+        
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofMillis(pythonServiceConfig.getReadTimeout()))
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header("X-Source-System", "java-backend")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            bulkhead.release();
+            return CompletableFuture.failedFuture(
+                    new BusinessException("Could not serialize Python " + serviceName + " request", e));
+        } catch (RuntimeException e) {
+            // e.g. a malformed base URL; the permit must not leak
+            bulkhead.release();
+            log.error("Could not build Python {} request for {}: {}", serviceName, url, e.getMessage());
+            return CompletableFuture.failedFuture(
+                    new BusinessException("Invalid Python " + serviceName + " request: " + e.getMessage(), e));
+        }
+        
+        log.info("Calling Python {} service asynchronously: {}", serviceName, url);
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<byte[]>> sent;
+        try {
+            sent = httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        return sent
+                .whenComplete((response, error) -> metrics.record(path, "POST",
+                        response != null ? PythonClientMetrics.statusClass(response.statusCode()) : PythonClientMetrics.IO_ERROR,
+                        System.nanoTime() - start))
+                .handle((response, error) -> readResponse(response, error, responseType, serviceName))
+                .whenComplete((result, error) -> bulkhead.release());
+    }
+    
+    private <T> T readResponse(HttpResponse<byte[]> response, Throwable error, Class<T> responseType, String serviceName) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            log.error("Python {} service unavailable: {}", serviceName, cause.toString());
+            throw new ServiceUnavailableException("Python " + serviceName + " service unavailable");
+        }
+        
+        if (response.statusCode() >= 400) {
+            log.error("Python {} failed: status={}, body={}", serviceName, response.statusCode(),
+                    new String(response.body()));
+            throw new BusinessException("Python " + serviceName + " service error: " + response.statusCode(),
+                    response.statusCode() < 500 ? CLIENT_ERROR : "BUSINESS_ERROR");
+        }
+        
+        try {
+            T result = objectMapper.readValue(response.body(), responseType);
+            log.info("Python {} successful", serviceName);
+            return result;
+        } catch (IOException e) {
+            log.error("Could not parse Python {} response: {}", serviceName, e.getMessage());
+            throw new BusinessException("Invalid Python " + serviceName + " service response");
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
@@ -49,7 +50,7 @@ public class PythonServiceClient {
         } catch (HttpClientErrorException | HttpServerErrorException e) {
             log.error("Python anomaly detection failed: status={}, body={}", 
                     e.getStatusCode(), e.getResponseBodyAsString());
-            throw new BusinessException("Python anomaly detection service error: " + e.getMessage());
+            throw new BusinessException("Python anomaly detection service error: " + e.getMessage(), errorCode(e));
         } catch (ResourceAccessException e) {
             log.error("Python anomaly detection service unavailable: {}", e.getMessage());
             throw new BusinessException("Python anomaly detection service unavailable");
@@ -81,7 +82,7 @@ public class PythonServiceClient {
         } catch (HttpClientErrorException | HttpServerErrorException e) {
             log.error("Python risk evaluation failed: status={}, body={}", 
                     e.getStatusCode(), e.getResponseBodyAsString());
-            throw new BusinessException("Python risk evaluation service error: " + e.getMessage());
+            throw new BusinessException("Python risk evaluation service error: " + e.getMessage(), errorCode(e));
         } catch (ResourceAccessException e) {
             log.error("Python risk evaluation service unavailable: {}", e.getMessage());
             throw new BusinessException("Python risk evaluation service unavailable");
@@ -113,7 +114,7 @@ public class PythonServiceClient {
         } catch (HttpClientErrorException | HttpServerErrorException e) {
             log.error("Python decision evaluation failed: status={}, body={}", 
                     e.getStatusCode(), e.getResponseBodyAsString());
-            throw new BusinessException("Python decision support service error: " + e.getMessage());
+            throw new BusinessException("Python decision support service error: " + e.getMessage(), errorCode(e));
         } catch (ResourceAccessException e) {
             log.error("Python decision support service unavailable: {}", e.getMessage());
             throw new BusinessException("Python decision support service unavailable");
@@ -145,7 +146,7 @@ public class PythonServiceClient {
         } catch (HttpClientErrorException | HttpServerErrorException e) {
             log.error("Python ingestion failed: status={}, body={}", 
                     e.getStatusCode(), e.getResponseBodyAsString());
-            throw new BusinessException("Python ingestion service error: " + e.getMessage());
+            throw new BusinessException("Python ingestion service error: " + e.getMessage(), errorCode(e));
         } catch (ResourceAccessException e) {
             log.error("Python ingestion service unavailable: {}", e.getMessage());
             throw new BusinessException("Python ingestion service unavailable");
@@ -177,7 +178,7 @@ public class PythonServiceClient {
         } catch (HttpClientErrorException | HttpServerErrorException e) {
             log.error("Python health check failed: status={}, body={}", 
                     e.getStatusCode(), e.getResponseBodyAsString());
-            throw new BusinessException("Python health check service error: " + e.getMessage());
+            throw new BusinessException("Python health check service error: " + e.getMessage(), errorCode(e));
         } catch (ResourceAccessException e) {
             log.error("Python health check service unavailable: {}", e.getMessage());
             throw new BusinessException("Python health check service unavailable");
@@ -190,4 +191,11 @@ public class PythonServiceClient {
         headers.set("X-Source-System", "java-backend");
         return headers;
     }
+    
+    /**
+     * 4xx answers are tagged so the circuit breaker does not count them as Python failures.
+     */
+    private static String errorCode(HttpStatusCodeException e) {
+        return e.getStatusCode().is4xxClientError() ? PythonServiceAsyncClient.CLIENT_ERROR : "BUSINESS_ERROR";
+    }
 }
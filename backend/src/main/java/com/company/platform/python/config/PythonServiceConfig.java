@@ -4,6 +4,10 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Configuration properties for Python service integration.
  */
@@ -25,4 +29,185 @@ public class PythonServiceConfig {
      * Read timeout in milliseconds
      */
     private int readTimeout = 10000;
+    
+    /**
+     * Maximum pooled connections across all routes
+     */
+    private int maxConnections = 50;
+    
+    /**
+     * Maximum pooled connections to a single host (the Python service is one route)
+     */
+    private int maxConnectionsPerRoute = 50;
+    
+    /**
+     * Maximum wait for a free pooled connection in milliseconds
+     */
+    private int connectionRequestTimeout = 2000;
+    
+    /**
+     * Idle connections are closed after this many milliseconds
+     */
+    private long idleEvictionMs = 30000;
+    
+    /**
+     * Maximum lifetime of a pooled connection in milliseconds (0 = unlimited)
+     */
+    private long connectionTtlMs = 300000;
+    
+    /**
+     * Re-validate connections idle for longer than this before reuse, in milliseconds
+     */
+    private long validateAfterInactivityMs = 2000;
+    
+    /**
+     * Bulkhead: maximum in-flight async calls; further calls are rejected immediately
+     */
+    private int maxConcurrentAsyncCalls = 100;
+    
+    /**
+     * Let the async client negotiate HTTP/2 (h2c upgrade over plain HTTP)
+     */
+    private boolean http2Enabled = false;
+    
+    /**
+     * Coalescing of single-metric anomaly requests into batch calls
+     */
+    private AnomalyBatch anomalyBatch = new AnomalyBatch();
+    
+    /**
+     * Per-endpoint circuit breakers around Python calls
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    
+    /**
+     * Result cache for risk evaluations (pure function of amount and user score)
+     */
+    private ResultCache riskCache = new ResultCache();
+    
+    /**
+     * Result cache for decision evaluations (pure function of score)
+     */
+    private ResultCache decisionCache = new ResultCache();
+    
+    /**
+     * NDJSON streaming ingestion
+     */
+    private IngestionStream ingestionStream = new IngestionStream();
+    
+    @Data
+    public static class AnomalyBatch {
+        /**
+         * Route single anomaly requests through the micro-batcher
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Flush a batch once it holds this many metrics
+         */
+        private int maxBatchSize = 50;
+        
+        /**
+         * Flush a batch this many milliseconds after its first metric arrived
+         */
+        private long maxWaitMs = 5;
+    }
+    
+    @Data
+    public static class CircuitBreaker {
+        /**
+         * Wrap Python calls in circuit breakers
+         */
+        private boolean enabled = true;
+        
+        /**
+         * Number of most recent calls the failure and slow-call rates are computed over
+         */
+        private int windowSize = 20;
+        
+        /**
+         * Calls needed in the window before the breaker may open
+         */
+        private int minimumCalls = 10;
+        
+        /**
+         * Open when this percentage of calls in the window failed
+         */
+        private float failureRateThreshold = 50;
+        
+        /**
+         * Open when this percentage of calls in the window were slow
+         */
+        private float slowCallRateThreshold = 80;
+        
+        /**
+         * Calls taking longer than this many milliseconds count as slow
+         */
+        private long slowCallDurationMs = 3000;
+        
+        /**
+         * Minimum time in milliseconds a breaker stays open before health probing starts
+         */
+        private long openDurationMs = 10000;
+        
+        /**
+         * Interval in milliseconds between health probes while a breaker is open
+         */
+        private long probeIntervalMs = 2000;
+        
+        /**
+         * Trial calls allowed in half-open state; all must succeed to close the breaker
+         */
+        private int halfOpenPermittedCalls = 3;
+        
+        /**
+         * Endpoints (anomaly, risk, decision, ingestion) that serve a degraded
+         * fallback response instead of failing fast while open
+         */
+        private Set<String> fallbackEndpoints = new HashSet<>();
+    }
+    
+    @Data
+    public static class ResultCache {
+        /**
+         * Serve identical requests from the cache and share in-flight calls
+         */
+        private boolean enabled = false;
+        
+        /**
+         * Maximum cached results; least recently used are evicted first
+         */
+        private int maxSize = 10000;
+        
+        /**
+         * How long a result is served before Python is asked again
+         */
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+    
+    @Data
+    public static class IngestionStream {
+        /**
+         * Records per batch call when the client does not choose a chunk size
+         */
+        private int chunkSize = 500;
+        
+        /**
+         * Largest chunk size a client may request (Python accepts at most 5000 records per batch)
+         */
+        private int maxChunkSize = 5000;
+        
+        /**
+         * Times a chunk rejected because the Python ingestion bulkhead is full is resent
+         * before the stream fails
+         */
+        private int busyRetries = 20;
+        
+        /**
+         * Wait before resending a rejected chunk; doubles on every retry up to maxBusyBackoff
+         */
+        private Duration busyBackoff = Duration.ofMillis(200);
+        
+        private Duration maxBusyBackoff = Duration.ofSeconds(5);
+    }
 }
@@ -1,25 +1,77 @@
 package com.company.platform.python.config;
 
+import com.company.platform.python.client.PythonClientMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * Configuration for RestTemplate used to call Python service.
+ * Calls share a pool of persistent HTTP/1.1 connections; pool usage is
+ * exported as httpcomponents.httpclient.pool.* metrics and each call is
+ * timed as python.client.requests.
  */
 @Configuration
 public class RestTemplateConfig {
     
-    @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder, PythonServiceConfig pythonServiceConfig) {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(pythonServiceConfig.getConnectTimeout());
-        factory.setReadTimeout(pythonServiceConfig.getReadTimeout());
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager pythonServiceConnectionManager(
+            PythonServiceConfig pythonServiceConfig, MeterRegistry meterRegistry) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(pythonServiceConfig.getConnectTimeout()))
+                .setSocketTimeout(Timeout.ofMilliseconds(pythonServiceConfig.getReadTimeout()))
+                .setTimeToLive(pythonServiceConfig.getConnectionTtlMs() > 0
+                        ? TimeValue.ofMilliseconds(pythonServiceConfig.getConnectionTtlMs())
+                        : TimeValue.NEG_ONE_MILLISECOND)
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(pythonServiceConfig.getValidateAfterInactivityMs()))
+                .build();
+        
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pythonServiceConfig.getMaxConnections())
+                .setMaxConnPerRoute(pythonServiceConfig.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+        
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "python-service")
+                .bindTo(meterRegistry);
+        return connectionManager;
+    }
+    
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient pythonServiceHttpClient(
+            PoolingHttpClientConnectionManager pythonServiceConnectionManager,
+            PythonServiceConfig pythonServiceConfig) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(pythonServiceConfig.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.ofMilliseconds(pythonServiceConfig.getReadTimeout()))
+                .build();
         
+        return HttpClients.custom()
+                .setConnectionManager(pythonServiceConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(pythonServiceConfig.getIdleEvictionMs()))
+                .build();
+    }
+    
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient pythonServiceHttpClient,
+                                     MeterRegistry meterRegistry) {
         return builder
-                .requestFactory(() -> factory)
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(pythonServiceHttpClient))
+                .additionalInterceptors(new PythonClientMetrics(meterRegistry))
                 .build();
     }
 }
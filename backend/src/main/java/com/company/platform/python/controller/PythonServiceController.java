@@ -2,21 +2,29 @@ package com.company.platform.python.controller;
 
 import com.company.platform.common.response.ApiResponse;
 import com.company.platform.python.dto.*;
+import com.company.platform.python.service.IngestionStreamService;
 import com.company.platform.python.service.PythonServiceIntegrationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Controller for Python service integration endpoints.
  * Exposes Java endpoints that call Python FastAPI service.
  * 
  * All endpoints are versioned under /api/v1/python/**
+ * Python calls complete asynchronously, so request threads are released while waiting on Python.
  */
 @RestController
 @RequestMapping("/api/v1/python")
@@ -27,6 +35,7 @@ import org.springframework.web.bind.annotation.*;
 public class PythonServiceController {
     
     private final PythonServiceIntegrationService pythonServiceIntegrationService;
+    private final IngestionStreamService ingestionStreamService;
     
     /**
      * Anomaly detection endpoint.
@@ -37,11 +46,27 @@ public class PythonServiceController {
             summary = "Detect anomaly",
             description = "Calls Python anomaly detection service to detect anomalies in metrics"
     )
-    public ResponseEntity<ApiResponse<AnomalyResponse>> detectAnomaly(
+    public CompletableFuture<ResponseEntity<ApiResponse<AnomalyResponse>>> detectAnomaly(
             @Valid @RequestBody AnomalyRequest request) {
         log.info("Anomaly detection request: metric={}", request.getMetric());
-        AnomalyResponse response = pythonServiceIntegrationService.detectAnomaly(request);
-        return ResponseEntity.ok(ApiResponse.success(response, "Anomaly detection completed"));
+        return pythonServiceIntegrationService.detectAnomalyAsync(request)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response, "Anomaly detection completed")));
+    }
+    
+    /**
+     * Batch anomaly detection endpoint.
+     * Calls Python service: POST /anomaly/detect/batch
+     */
+    @PostMapping("/anomaly/detect/batch")
+    @Operation(
+            summary = "Detect anomalies in batch",
+            description = "Calls Python anomaly detection service once for a list of metrics; results are in request order"
+    )
+    public CompletableFuture<ResponseEntity<ApiResponse<AnomalyBatchResponse>>> detectAnomalies(
+            @Valid @RequestBody AnomalyBatchRequest request) {
+        log.info("Batch anomaly detection request: metrics={}", request.getMetrics().size());
+        return pythonServiceIntegrationService.detectAnomaliesAsync(request)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response, "Anomaly detection completed")));
     }
     
     /**
@@ -53,12 +78,12 @@ public class PythonServiceController {
             summary = "Evaluate risk",
             description = "Calls Python risk evaluation service to evaluate transaction risk"
     )
-    public ResponseEntity<ApiResponse<RiskResponse>> evaluateRisk(
+    public CompletableFuture<ResponseEntity<ApiResponse<RiskResponse>>> evaluateRisk(
             @Valid @RequestBody RiskRequest request) {
         log.info("Risk evaluation request: amount={}, userScore={}", 
                 request.getAmount(), request.getUserScore());
-        RiskResponse response = pythonServiceIntegrationService.evaluateRisk(request);
-        return ResponseEntity.ok(ApiResponse.success(response, "Risk evaluation completed"));
+        return pythonServiceIntegrationService.evaluateRiskAsync(request)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response, "Risk evaluation completed")));
     }
     
     /**
@@ -70,11 +95,11 @@ public class PythonServiceController {
             summary = "Evaluate decision",
             description = "Calls Python decision support service to evaluate decisions based on score"
     )
-    public ResponseEntity<ApiResponse<DecisionResponse>> evaluateDecision(
+    public CompletableFuture<ResponseEntity<ApiResponse<DecisionResponse>>> evaluateDecision(
             @Valid @RequestBody DecisionRequest request) {
         log.info("Decision evaluation request: score={}", request.getScore());
-        DecisionResponse response = pythonServiceIntegrationService.evaluateDecision(request);
-        return ResponseEntity.ok(ApiResponse.success(response, "Decision evaluation completed"));
+        return pythonServiceIntegrationService.evaluateDecisionAsync(request)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response, "Decision evaluation completed")));
     }
     
     /**
@@ -86,11 +111,33 @@ public class PythonServiceController {
             summary = "Process ingestion",
             description = "Calls Python ingestion service to process data ingestion"
     )
-    public ResponseEntity<ApiResponse<IngestionResponse>> processIngestion(
+    public CompletableFuture<ResponseEntity<ApiResponse<IngestionResponse>>> processIngestion(
             @Valid @RequestBody IngestionRequest request) {
         log.info("Ingestion request: source={}", request.getSource());
-        IngestionResponse response = pythonServiceIntegrationService.processIngestion(request);
-        return ResponseEntity.ok(ApiResponse.success(response, "Ingestion processed successfully"));
+        return pythonServiceIntegrationService.processIngestionAsync(request)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.success(response, "Ingestion processed successfully")));
+    }
+    
+    /**
+     * Streaming ingestion endpoint.
+     * Reads an NDJSON body incrementally and forwards it to Python service
+     * POST /ingestion/process/batch in chunks, answering with NDJSON progress lines.
+     */
+    @PostMapping(value = "/ingestion/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Stream ingestion",
+            description = "Streams NDJSON records to the Python ingestion service in chunks and reports progress per chunk"
+    )
+    public void streamIngestion(
+            @RequestParam String source,
+            @RequestParam(required = false) Integer chunkSize,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        log.info("Streaming ingestion request: source={}, chunkSize={}", source, chunkSize);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        ingestionStreamService.ingest(source, request.getInputStream(), chunkSize, response.getOutputStream());
     }
     
     /**
@@ -0,0 +1,23 @@
+package com.company.platform.python.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for Python batch anomaly detection service.
+ * Matches Python-service AnomalyBatchRequest model.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnomalyBatchRequest {
+    @NotEmpty(message = "At least one metric is required")
+    @Size(max = 1000, message = "At most 1000 metrics per batch")
+    private List<@NotNull(message = "Metric is required") Double> metrics;
+}
@@ -0,0 +1,20 @@
+package com.company.platform.python.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO from Python batch anomaly detection service.
+ * Matches Python-service AnomalyBatchResponse model: one result per metric, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnomalyBatchResponse {
+    private List<AnomalyResponse> results;
+}
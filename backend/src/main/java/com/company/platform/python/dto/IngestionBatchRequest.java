@@ -0,0 +1,23 @@
+package com.company.platform.python.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Request DTO for Python batch ingestion service.
+ * Matches Python-service IngestionBatchRequest model.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestionBatchRequest {
+    private String source;
+    
+    private List<Map<String, Object>> records;
+}
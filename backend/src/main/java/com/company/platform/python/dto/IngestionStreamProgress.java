@@ -0,0 +1,27 @@
+package com.company.platform.python.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One NDJSON progress line of a streaming ingestion.
+ * A "chunk" line is written per forwarded chunk, followed by one final "summary" line.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestionStreamProgress {
+    private String type;
+    private String source;
+    private Integer chunk;
+    private Integer records;
+    private Long totalRecords;
+    private String status;
+    private String message;
+    private Long durationMs;
+}
@@ -0,0 +1,166 @@
+package com.company.platform.python.service;
+
+import com.company.platform.common.exception.BusinessException;
+import com.company.platform.python.client.PythonCircuitBreakers;
+import com.company.platform.python.client.PythonServiceAsyncClient;
+import com.company.platform.python.config.PythonServiceConfig;
+import com.company.platform.python.dto.AnomalyBatchRequest;
+import com.company.platform.python.dto.AnomalyBatchResponse;
+import com.company.platform.python.dto.AnomalyResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces concurrent single-metric anomaly requests into batch calls to the Python service.
+ * A batch is flushed when it reaches the maximum size or when the wait window of its
+ * first metric elapses; results are handed back to each caller in request order.
+ * Each batch call goes through the anomaly circuit breaker once, however many callers it carries.
+ */
+@Component
+@Slf4j
+public class AnomalyMicroBatcher {
+    
+    private final PythonServiceAsyncClient pythonServiceAsyncClient;
+    private final PythonCircuitBreakers pythonCircuitBreakers;
+    private final PythonServiceConfig.AnomalyBatch config;
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSizes;
+    
+    // Contended by request threads, which may be virtual; a monitor would pin their carriers while waiting
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<PendingMetric> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    
+    public AnomalyMicroBatcher(PythonServiceAsyncClient pythonServiceAsyncClient,
+                               PythonCircuitBreakers pythonCircuitBreakers,
+                               PythonServiceConfig pythonServiceConfig,
+                               MeterRegistry meterRegistry) {
+        this.pythonServiceAsyncClient = pythonServiceAsyncClient;
+        this.pythonCircuitBreakers = pythonCircuitBreakers;
+        this.config = pythonServiceConfig.getAnomalyBatch();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "anomaly-micro-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizes = DistributionSummary.builder("python.anomaly.batch.size")
+                .description("Metrics per batched anomaly detection call")
+                .register(meterRegistry);
+    }
+    
+    private record PendingMetric(Double metric, CompletableFuture<AnomalyResponse> result) {
+    }
+    
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        List<PendingMetric> remaining;
+        lock.lock();
+        try {
+            remaining = takeBatch();
+        } finally {
+            lock.unlock();
+        }
+        if (!remaining.isEmpty()) {
+            send(remaining);
+        }
+    }
+    
+    /**
+     * Queue a metric for the next batch.
+     */
+    public CompletableFuture<AnomalyResponse> submit(Double metric) {
+        CompletableFuture<AnomalyResponse> result = new CompletableFuture<>();
+        List<PendingMetric> fullBatch = null;
+        
+        lock.lock();
+        try {
+            pending.add(new PendingMetric(metric, result));
+            if (pending.size() >= config.getMaxBatchSize()) {
+                fullBatch = takeBatch();
+            } else if (pending.size() == 1) {
+                scheduledFlush = scheduler.schedule(this::flushExpired, config.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        
+        if (fullBatch != null) {
+            send(fullBatch);
+        }
+        return result;
+    }
+    
+    private void flushExpired() {
+        List<PendingMetric> batch;
+        lock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takeBatch();
+        } finally {
+            lock.unlock();
+        }
+        send(batch);
+    }
+    
+    // Caller must hold the lock
+    private List<PendingMetric> takeBatch() {
+        List<PendingMetric> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+    
+    private void send(List<PendingMetric> batch) {
+        batchSizes.record(batch.size());
+        AnomalyBatchRequest request = new AnomalyBatchRequest(
+                batch.stream().map(PendingMetric::metric).toList());
+        
+        pythonCircuitBreakers.callAsync(PythonCircuitBreakers.ANOMALY,
+                        () -> pythonServiceAsyncClient.detectAnomalies(request),
+                        () -> new AnomalyBatchResponse(
+                                Collections.nCopies(batch.size(), PythonServiceIntegrationService.anomalyFallback())))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error;
+                        batch.forEach(p -> p.result().completeExceptionally(cause));
+                        return;
+                    }
+                    fanOut(batch, response);
+                });
+    }
+    
+    private void fanOut(List<PendingMetric> batch, AnomalyBatchResponse response) {
+        List<AnomalyResponse> results = response != null ? response.getResults() : null;
+        if (results == null || results.size() != batch.size()) {
+            log.error("Python anomaly batch returned {} results for {} metrics",
+                    results != null ? results.size() : 0, batch.size());
+            BusinessException error = new BusinessException("Invalid Python anomaly detection batch response");
+            batch.forEach(p -> p.result().completeExceptionally(error));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.company.platform.python.service;
+
+import com.company.platform.common.exception.ServiceUnavailableException;
+import com.company.platform.common.exception.ValidationException;
+import com.company.platform.python.client.PythonCircuitBreakers;
+import com.company.platform.python.client.PythonServiceAsyncClient;
+import com.company.platform.python.config.PythonServiceConfig;
+import com.company.platform.python.dto.IngestionBatchRequest;
+import com.company.platform.python.dto.IngestionBatchResponse;
+import com.company.platform.python.dto.IngestionStreamProgress;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Streams NDJSON records to the Python batch ingestion endpoint.
+ * Records are parsed one at a time and forwarded in chunks. At most one chunk is in flight
+ * while the next one is parsed, so memory stays bounded at two chunks and a slow Python
+ * service slows down reading of the request body (backpressure). A chunk rejected because
+ * the ingestion bulkhead is full is resent with exponential backoff rather than failing the stream.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IngestionStreamService {
+    
+    private static final TypeReference<Map<String, Object>> RECORD = new TypeReference<>() {
+    };
+    
+    private final PythonServiceAsyncClient pythonServiceAsyncClient;
+    private final PythonCircuitBreakers pythonCircuitBreakers;
+    private final PythonServiceConfig pythonServiceConfig;
+    private final ObjectMapper objectMapper;
+    
+    private record PendingChunk(int number, IngestionBatchRequest request, CompletableFuture<IngestionBatchResponse> result) {
+        
+        int records() {
+            return request.getRecords().size();
+        }
+    }
+    
+    /**
+     * Chunk was rejected or failed; ingestion stops after it.
+     */
+    private static class ChunkFailedException extends RuntimeException {
+        ChunkFailedException(String message) {
+            super(message);
+        }
+    }
+    
+    /**
+     * Ingest an NDJSON stream, writing one progress line per chunk to progressOut.
+     *
+     * @param source Source system name sent with every chunk
+     * @param ndjson Request body, one JSON object per line
+     * @param chunkSize Records per chunk, or null for the configured default
+     * @param progressOut Receives NDJSON progress lines as chunks complete
+     * @return Summary line, also written to progressOut
+     */
+    public IngestionStreamProgress ingest(String source, InputStream ndjson, Integer chunkSize, OutputStream progressOut)
+            throws IOException {
+        if (source == null || source.isBlank()) {
+            throw new ValidationException("Source is required");
+        }
+        int size = resolveChunkSize(chunkSize);
+        long start = System.currentTimeMillis();
+        log.info("Streaming ingestion started: source={}, chunkSize={}", source, size);
+        
+        int chunks = 0;
+        long parsed = 0;
+        long accepted = 0;
+        String failure = null;
+        PendingChunk inFlight = null;
+        
+        try (MappingIterator<Map<String, Object>> records = objectMapper.readerFor(RECORD).readValues(ndjson)) {
+            List<Map<String, Object>> chunk = new ArrayList<>(size);
+            while (records.hasNextValue()) {
+                chunk.add(records.nextValue());
+                parsed++;
+                if (chunk.size() == size) {
+                    accepted += complete(inFlight, source, accepted, progressOut);
+                    inFlight = send(source, ++chunks, chunk);
+                    chunk = new ArrayList<>(size);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                accepted += complete(inFlight, source, accepted, progressOut);
+                inFlight = send(source, ++chunks, chunk);
+            }
+        } catch (JsonProcessingException e) {
+            failure = "Malformed NDJSON after record " + parsed + ": " + e.getOriginalMessage();
+        } catch (ChunkFailedException e) {
+            failure = e.getMessage();
+            inFlight = null;
+        }
+        
+        try {
+            accepted += complete(inFlight, source, accepted, progressOut);
+        } catch (ChunkFailedException e) {
+            failure = failure != null ? failure : e.getMessage();
+        }
+        
+        IngestionStreamProgress summary = IngestionStreamProgress.builder()
+                .type("summary")
+                .source(source)
+                .chunk(chunks)
+                .records((int) Math.min(parsed, Integer.MAX_VALUE))
+                .totalRecords(accepted)
+                .status(failure == null ? "COMPLETED" : "FAILED")
+                .message(failure)
+                .durationMs(System.currentTimeMillis() - start)
+                .build();
+        writeLine(progressOut, summary);
+        log.info("Streaming ingestion finished: source={}, chunks={}, parsed={}, accepted={}, status={}",
+                source, chunks, parsed, accepted, summary.getStatus());
+        return summary;
+    }
+    
+    private int resolveChunkSize(Integer chunkSize) {
+        PythonServiceConfig.IngestionStream config = pythonServiceConfig.getIngestionStream();
+        if (chunkSize == null) {
+            return config.getChunkSize();
+        }
+        if (chunkSize < 1 || chunkSize > config.getMaxChunkSize()) {
+            throw new ValidationException("chunkSize must be between 1 and " + config.getMaxChunkSize());
+        }
+        return chunkSize;
+    }
+    
+    private PendingChunk send(String source, int number, List<Map<String, Object>> records) {
+        return send(number, new IngestionBatchRequest(source, records));
+    }
+    
+    private PendingChunk send(int number, IngestionBatchRequest request) {
+        CompletableFuture<IngestionBatchResponse> result = pythonCircuitBreakers.callAsync(
+                PythonCircuitBreakers.INGESTION,
+                () -> pythonServiceAsyncClient.processIngestionBatch(request),
+                null);
+        return new PendingChunk(number, request, result);
+    }
+    
+    /**
+     * Wait for the in-flight chunk and report it, resending it while the Python service is busy.
+     *
+     * @return Records accepted by Python for this chunk
+     */
+    private int complete(PendingChunk pending, String source, long acceptedSoFar, OutputStream progressOut)
+            throws IOException {
+        if (pending == null) {
+            return 0;
+        }
+        IngestionStreamProgress.IngestionStreamProgressBuilder progress = IngestionStreamProgress.builder()
+                .type("chunk")
+                .source(source)
+                .chunk(pending.number())
+                .records(pending.records());
+        
+        PythonServiceConfig.IngestionStream config = pythonServiceConfig.getIngestionStream();
+        for (int retry = 0; ; retry++) {
+            try {
+                IngestionBatchResponse response = pending.result().join();
+                int accepted = response != null && response.getAccepted() != null ? response.getAccepted() : pending.records();
+                writeLine(progressOut, progress
+                        .totalRecords(acceptedSoFar + accepted)
+                        .status("ACCEPTED")
+                        .build());
+                return accepted;
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (isBusy(cause) && retry < config.getBusyRetries() && pause(backoff(config, retry))) {
+                    log.debug("Streaming ingestion chunk {} rejected as busy, resending: source={}, retry={}",
+                            pending.number(), source, retry + 1);
+                    pending = send(pending.number(), pending.request());
+                    continue;
+                }
+                log.error("Streaming ingestion chunk {} failed: source={}, error={}", pending.number(), source, cause.getMessage());
+                writeLine(progressOut, progress
+                        .totalRecords(acceptedSoFar)
+                        .status("FAILED")
+                        .message(cause.getMessage())
+                        .build());
+                throw new ChunkFailedException("Chunk " + pending.number() + " failed: " + cause.getMessage());
+            }
+        }
+    }
+    
+    private static boolean isBusy(Throwable cause) {
+        return cause instanceof ServiceUnavailableException e
+                && PythonServiceAsyncClient.SERVICE_BUSY.equals(e.getErrorCode());
+    }
+    
+    static Duration backoff(PythonServiceConfig.IngestionStream config, int retry) {
+        long millis = config.getBusyBackoff().toMillis() << Math.min(retry, 20);
+        return Duration.ofMillis(Math.min(millis, config.getMaxBusyBackoff().toMillis()));
+    }
+    
+    /**
+     * @return false if the thread was interrupted while waiting
+     */
+    private static boolean pause(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private void writeLine(OutputStream out, IngestionStreamProgress progress) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(progress));
+        out.write('\n');
+        out.flush();
+    }
+}
@@ -0,0 +1,54 @@
+package com.company.platform.python.service;
+
+import com.company.platform.common.cache.SingleFlightCache;
+import com.company.platform.python.config.PythonServiceConfig;
+import com.company.platform.python.dto.DecisionRequest;
+import com.company.platform.python.dto.DecisionResponse;
+import com.company.platform.python.dto.RiskRequest;
+import com.company.platform.python.dto.RiskResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Result caches for deterministic Python evaluations, keyed by the normalized request.
+ * A cache is null when disabled for its endpoint.
+ * Metrics are published under the cache names "python.risk" and "python.decision".
+ */
+@Component
+@Getter
+@Slf4j
+public class PythonResultCaches {
+    
+    private final SingleFlightCache<RiskKey, RiskResponse> riskCache;
+    private final SingleFlightCache<Integer, DecisionResponse> decisionCache;
+    
+    public PythonResultCaches(PythonServiceConfig pythonServiceConfig, MeterRegistry meterRegistry) {
+        this.riskCache = create(pythonServiceConfig.getRiskCache(), meterRegistry, "python.risk");
+        this.decisionCache = create(pythonServiceConfig.getDecisionCache(), meterRegistry, "python.decision");
+    }
+    
+    /**
+     * Risk cache key; -0.0 and 0.0 amounts map to the same key.
+     */
+    public record RiskKey(double amount, int userScore) {
+        public static RiskKey of(RiskRequest request) {
+            return new RiskKey(request.getAmount() + 0.0d, request.getUserScore());
+        }
+    }
+    
+    public static Integer decisionKey(DecisionRequest request) {
+        return request.getScore();
+    }
+    
+    private static <K, V> SingleFlightCache<K, V> create(
+            PythonServiceConfig.ResultCache config, MeterRegistry meterRegistry, String name) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+        log.info("Python result cache enabled: name={}, maxSize={}, ttl={}", name, config.getMaxSize(), config.getTtl());
+        return new SingleFlightCache<K, V>(config.getMaxSize(), config.getTtl())
+                .bindTo(meterRegistry, name);
+    }
+}
@@ -1,28 +1,56 @@
 package com.company.platform.python.service;
 
+import com.company.platform.common.cache.SingleFlightCache;
+import com.company.platform.common.exception.ServiceUnavailableException;
+import com.company.platform.python.client.PythonCircuitBreakers;
+import com.company.platform.python.client.PythonServiceAsyncClient;
 import com.company.platform.python.client.PythonServiceClient;
+import com.company.platform.python.config.PythonServiceConfig;
 import com.company.platform.python.dto.*;
+import com.company.platform.python.service.PythonResultCaches.RiskKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.company.platform.python.client.PythonCircuitBreakers.ANOMALY;
+import static com.company.platform.python.client.PythonCircuitBreakers.DECISION;
+import static com.company.platform.python.client.PythonCircuitBreakers.INGESTION;
+import static com.company.platform.python.client.PythonCircuitBreakers.RISK;
+
 /**
  * Service layer for Python service integration.
  * Provides business logic and error handling for Python service calls.
+ * Every call goes through the endpoint's circuit breaker.
+ * Risk and decision results are served from PythonResultCaches when enabled;
+ * cached results are returned even while the breaker is open. With a cache, the breaker
+ * wraps the shared load, so callers joining one remote call count once.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PythonServiceIntegrationService {
     
+    private static final String FALLBACK_REASON = "Python service unavailable; fallback response";
+    
     private final PythonServiceClient pythonServiceClient;
+    private final PythonServiceAsyncClient pythonServiceAsyncClient;
+    private final AnomalyMicroBatcher anomalyMicroBatcher;
+    private final PythonServiceConfig pythonServiceConfig;
+    private final PythonCircuitBreakers pythonCircuitBreakers;
+    private final PythonResultCaches pythonResultCaches;
     
     /**
      * Detect anomaly using Python service.
      */
     public AnomalyResponse detectAnomaly(AnomalyRequest request) {
         log.info("Detecting anomaly with metric: {}", request.getMetric());
-        return pythonServiceClient.detectAnomaly(request);
+        return pythonCircuitBreakers.call(ANOMALY,
+                () -> pythonServiceClient.detectAnomaly(request),
+                PythonServiceIntegrationService::anomalyFallback);
     }
     
     /**
@@ -30,7 +58,23 @@ public class PythonServiceIntegrationService {
      */
     public RiskResponse evaluateRisk(RiskRequest request) {
         log.info("Evaluating risk: amount={}, userScore={}", request.getAmount(), request.getUserScore());
-        return pythonServiceClient.evaluateRisk(request);
+        SingleFlightCache<RiskKey, RiskResponse> cache = pythonResultCaches.getRiskCache();
+        if (cache == null) {
+            return pythonCircuitBreakers.call(RISK,
+                    () -> pythonServiceClient.evaluateRisk(request),
+                    PythonServiceIntegrationService::riskFallback);
+        }
+        RiskKey key = RiskKey.of(request);
+        RiskResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            return cache.loadBlocking(key, () -> pythonCircuitBreakers.call(RISK,
+                    () -> pythonServiceClient.evaluateRisk(request), null));
+        } catch (ServiceUnavailableException e) {
+            return pythonCircuitBreakers.recoverRejected(RISK, e, PythonServiceIntegrationService::riskFallback);
+        }
     }
     
     /**
@@ -38,7 +82,23 @@ public class PythonServiceIntegrationService {
      */
     public DecisionResponse evaluateDecision(DecisionRequest request) {
         log.info("Evaluating decision with score: {}", request.getScore());
-        return pythonServiceClient.evaluateDecision(request);
+        SingleFlightCache<Integer, DecisionResponse> cache = pythonResultCaches.getDecisionCache();
+        if (cache == null) {
+            return pythonCircuitBreakers.call(DECISION,
+                    () -> pythonServiceClient.evaluateDecision(request),
+                    PythonServiceIntegrationService::decisionFallback);
+        }
+        Integer key = PythonResultCaches.decisionKey(request);
+        DecisionResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            return cache.loadBlocking(key, () -> pythonCircuitBreakers.call(DECISION,
+                    () -> pythonServiceClient.evaluateDecision(request), null));
+        } catch (ServiceUnavailableException e) {
+            return pythonCircuitBreakers.recoverRejected(DECISION, e, PythonServiceIntegrationService::decisionFallback);
+        }
     }
     
     /**
@@ -46,7 +106,89 @@ public class PythonServiceIntegrationService {
      */
     public IngestionResponse processIngestion(IngestionRequest request) {
         log.info("Processing ingestion from source: {}", request.getSource());
-        return pythonServiceClient.processIngestion(request);
+        return pythonCircuitBreakers.call(INGESTION,
+                () -> pythonServiceClient.processIngestion(request),
+                PythonServiceIntegrationService::ingestionFallback);
+    }
+    
+    /**
+     * Detect anomaly without blocking the calling thread.
+     * Concurrent requests are coalesced into batch calls when micro-batching is enabled.
+     */
+    public CompletableFuture<AnomalyResponse> detectAnomalyAsync(AnomalyRequest request) {
+        log.info("Detecting anomaly asynchronously with metric: {}", request.getMetric());
+        if (pythonServiceConfig.getAnomalyBatch().isEnabled()) {
+            // The batcher records one breaker outcome per batch call, not per caller
+            return anomalyMicroBatcher.submit(request.getMetric());
+        }
+        return pythonCircuitBreakers.callAsync(ANOMALY,
+                () -> pythonServiceAsyncClient.detectAnomaly(request),
+                PythonServiceIntegrationService::anomalyFallback);
+    }
+    
+    /**
+     * Detect anomalies for many metrics in one Python call.
+     */
+    public CompletableFuture<AnomalyBatchResponse> detectAnomaliesAsync(AnomalyBatchRequest request) {
+        log.info("Detecting anomalies asynchronously for {} metrics", request.getMetrics().size());
+        return pythonCircuitBreakers.callAsync(ANOMALY,
+                () -> pythonServiceAsyncClient.detectAnomalies(request),
+                () -> new AnomalyBatchResponse(
+                        Collections.nCopies(request.getMetrics().size(), anomalyFallback())));
+    }
+    
+    /**
+     * Evaluate risk without blocking the calling thread.
+     */
+    public CompletableFuture<RiskResponse> evaluateRiskAsync(RiskRequest request) {
+        log.info("Evaluating risk asynchronously: amount={}, userScore={}", request.getAmount(), request.getUserScore());
+        SingleFlightCache<RiskKey, RiskResponse> cache = pythonResultCaches.getRiskCache();
+        if (cache == null) {
+            return pythonCircuitBreakers.callAsync(RISK,
+                    () -> pythonServiceAsyncClient.evaluateRisk(request),
+                    PythonServiceIntegrationService::riskFallback);
+        }
+        RiskKey key = RiskKey.of(request);
+        RiskResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return cache.load(key, () -> pythonCircuitBreakers.callAsync(RISK,
+                        () -> pythonServiceAsyncClient.evaluateRisk(request), null))
+                .exceptionally(error -> pythonCircuitBreakers.recoverRejected(RISK, error,
+                        PythonServiceIntegrationService::riskFallback));
+    }
+    
+    /**
+     * Evaluate decision without blocking the calling thread.
+     */
+    public CompletableFuture<DecisionResponse> evaluateDecisionAsync(DecisionRequest request) {
+        log.info("Evaluating decision asynchronously with score: {}", request.getScore());
+        SingleFlightCache<Integer, DecisionResponse> cache = pythonResultCaches.getDecisionCache();
+        if (cache == null) {
+            return pythonCircuitBreakers.callAsync(DECISION,
+                    () -> pythonServiceAsyncClient.evaluateDecision(request),
+                    PythonServiceIntegrationService::decisionFallback);
+        }
+        Integer key = PythonResultCaches.decisionKey(request);
+        DecisionResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return cache.load(key, () -> pythonCircuitBreakers.callAsync(DECISION,
+                        () -> pythonServiceAsyncClient.evaluateDecision(request), null))
+                .exceptionally(error -> pythonCircuitBreakers.recoverRejected(DECISION, error,
+                        PythonServiceIntegrationService::decisionFallback));
+    }
+    
+    /**
+     * Process ingestion without blocking the calling thread.
+     */
+    public CompletableFuture<IngestionResponse> processIngestionAsync(IngestionRequest request) {
+        log.info("Processing ingestion asynchronously from source: {}", request.getSource());
+        return pythonCircuitBreakers.callAsync(INGESTION,
+                () -> pythonServiceAsyncClient.processIngestion(request),
+                PythonServiceIntegrationService::ingestionFallback);
     }
     
     /**
@@ -56,4 +198,35 @@ public class PythonServiceIntegrationService {
         log.debug("Checking Python service health");
         return pythonServiceClient.checkHealth();
     }
+    
+    // -------------------------------
+    // Fallbacks served while a circuit is open (python.service.circuit-breaker.fallback-endpoints)
+    // -------------------------------
+    
+    static AnomalyResponse anomalyFallback() {
+        return AnomalyResponse.builder()
+                .anomalous(false)
+                .explanation(List.of(FALLBACK_REASON))
+                .build();
+    }
+    
+    private static RiskResponse riskFallback() {
+        return RiskResponse.builder()
+                .riskLevel("UNKNOWN")
+                .reasons(List.of(FALLBACK_REASON))
+                .build();
+    }
+    
+    private static DecisionResponse decisionFallback() {
+        return DecisionResponse.builder()
+                .decision("MANUAL_REVIEW")
+                .risk("UNKNOWN")
+                .build();
+    }
+    
+    private static IngestionResponse ingestionFallback() {
+        return IngestionResponse.builder()
+                .status("UNAVAILABLE")
+                .build();
+    }
 }
@@ -0,0 +1,64 @@
+package com.company.platform.security.jwt;
+
+import com.company.platform.common.cache.ExpiringLruCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Bounded cache of verified JWT claims, keyed by a SHA-256 hash of the token.
+ * Entries never outlive the token's own expiration, so a hit can skip signature verification.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final ExpiringLruCache<String, Claims> cache;
+
+    public JwtClaimsCache(
+            @Value("${jwt.claims-cache.max-size:10000}") int maxSize,
+            @Value("${jwt.claims-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        this.cache = new ExpiringLruCache<String, Claims>(maxSize, ttl)
+                .bindTo(meterRegistry, "jwt.claims");
+    }
+
+    /**
+     * Get previously verified claims for the token, or null.
+     */
+    public Claims get(String token) {
+        return cache.get(hash(token));
+    }
+
+    /**
+     * Remember verified claims until the token expires (capped at the cache TTL).
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        cache.putUntil(hash(token), claims, expiration.getTime());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
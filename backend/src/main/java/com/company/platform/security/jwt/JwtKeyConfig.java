@@ -0,0 +1,34 @@
+package com.company.platform.security.jwt;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for JWT signing key rotation.
+ * Tokens without a key ID are still verified with jwt.secret. When jwt.keys-file is set,
+ * keys are read from that file instead and reloaded while running.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "jwt")
+@Data
+public class JwtKeyConfig {
+    /**
+     * Additional HMAC keys accepted for verification, selected by the token's kid header
+     */
+    private List<SigningKey> keys = new ArrayList<>();
+    
+    /**
+     * Key ID used to sign new tokens; blank means sign with jwt.secret and no kid
+     */
+    private String activeKid;
+    
+    @Data
+    public static class SigningKey {
+        private String kid;
+        private String secret;
+    }
+}
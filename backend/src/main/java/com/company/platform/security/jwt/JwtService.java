@@ -1,22 +1,42 @@
 package com.company.platform.security.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Properties;
 import java.util.function.Function;
 
 @Service
+@RequiredArgsConstructor
+@Slf4j
 public class JwtService {
 
+    private final JwtKeyConfig jwtKeyConfig;
+    private final JwtClaimsCache jwtClaimsCache;
+
     @Value("${jwt.secret:7a82f273a4f95e6fa368cecb55d9a21d7a82f273a4f95e6fa368cecb55d9a21d}")
     private String secret;
 
@@ -26,8 +46,127 @@ public class JwtService {
     @Value("${jwt.refresh-expiration:604800000}")
     private Long refreshTokenExpiration;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    @Value("${jwt.keys-file:}")
+    private String keysFile;
+
+    // The parser is built once and looks keys up by kid in the current ring, which a reload swaps
+    private volatile KeyRing keyRing;
+    private volatile KeySettings installedSettings;
+    private JwtParser parser;
+
+    /**
+     * Signing key plus all keys accepted for verification.
+     */
+    private record KeyRing(SecretKey defaultKey, String activeKid, SecretKey activeKey,
+                           Map<String, SecretKey> verificationKeys) {
+    }
+
+    /**
+     * Key IDs with their secrets, and the key ID to sign with.
+     */
+    record KeySettings(Map<String, String> secrets, String activeKid) {
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        KeySettings settings;
+        if (keysFile == null || keysFile.isBlank()) {
+            Map<String, String> secrets = new LinkedHashMap<>();
+            for (JwtKeyConfig.SigningKey key : jwtKeyConfig.getKeys()) {
+                secrets.put(key.getKid(), key.getSecret());
+            }
+            settings = new KeySettings(secrets, jwtKeyConfig.getActiveKid());
+        } else {
+            settings = readKeysFile(Path.of(keysFile));
+        }
+        installKeys(settings);
+        parser = Jwts.parser()
+                .keyLocator(this::locateKey)
+                .build();
+    }
+
+    /**
+     * Re-read jwt.keys-file and install its keys if they changed, so a rotation needs no restart:
+     * add the new key to the file, then switch active-kid once every replica has picked it up.
+     * Cached claims are dropped on a change, since they may have been verified with a removed key.
+     * A file that cannot be read or is invalid leaves the current keys in place.
+     */
+    @Scheduled(fixedDelayString = "${jwt.keys-reload-interval:PT1M}",
+            initialDelayString = "${jwt.keys-reload-interval:PT1M}")
+    public void reloadKeys() {
+        if (keysFile == null || keysFile.isBlank()) {
+            return;
+        }
+        try {
+            KeySettings settings = readKeysFile(Path.of(keysFile));
+            if (settings.equals(installedSettings)) {
+                return;
+            }
+            installKeys(settings);
+            jwtClaimsCache.invalidateAll();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not reload JWT keys, keeping the current ones: file={}, error={}", keysFile, e.getMessage());
+        }
+    }
+
+    /**
+     * Read a properties file of the form {@code active-kid=<kid>} plus one {@code keys.<kid>=<secret>}
+     * line per verification key, e.g. a mounted Kubernetes Secret.
+     */
+    static KeySettings readKeysFile(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> secrets = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith("keys.")) {
+                secrets.put(name.substring("keys.".length()), properties.getProperty(name).trim());
+            }
+        }
+        return new KeySettings(secrets, properties.getProperty("active-kid", "").trim());
+    }
+
+    /**
+     * Build the key ring from the settings and swap it in.
+     * Tokens signed with a removed kid stop validating; tokens without a kid keep using jwt.secret.
+     */
+    private void installKeys(KeySettings settings) {
+        Map<String, SecretKey> keys = new HashMap<>();
+        settings.secrets().forEach((kid, value) -> keys.put(kid, hmacKey(value)));
+
+        String activeKid = settings.activeKid();
+        boolean hasActiveKid = activeKid != null && !activeKid.isBlank();
+        if (hasActiveKid && !keys.containsKey(activeKid)) {
+            throw new IllegalArgumentException("Active JWT key ID not configured: " + activeKid);
+        }
+
+        SecretKey defaultKey = hmacKey(secret);
+        keyRing = new KeyRing(
+                defaultKey,
+                hasActiveKid ? activeKid : null,
+                hasActiveKid ? keys.get(activeKid) : defaultKey,
+                Map.copyOf(keys));
+        installedSettings = settings;
+        log.info("JWT keys installed: activeKid={}, verificationKids={}",
+                hasActiveKid ? activeKid : "<default>", keys.keySet());
+    }
+
+    private static SecretKey hmacKey(String value) {
+        return Keys.hmacShaKeyFor(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Key locateKey(Header header) {
+        KeyRing ring = keyRing;
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        if (kid == null) {
+            return ring.defaultKey();
+        }
+        SecretKey key = ring.verificationKeys().get(kid);
+        if (key == null) {
+            throw new JwtException("Unknown JWT key ID: " + kid);
+        }
+        return key;
     }
 
     public String extractUsername(String token) {
@@ -36,11 +175,23 @@ public class JwtService {
 
     // 🔥 FIXED: Always return uppercase role
     public String extractRole(String token) {
-        String role = extractClaim(token, claims -> claims.get("role", String.class));
+        return extractRole(extractAllClaims(token));
+    }
+
+    public String extractRole(Claims claims) {
+        String role = claims.get("role", String.class);
         if (role == null) return null;
         return role.trim().toUpperCase();
     }
 
+    /**
+     * Verify the token once and return its claims.
+     * Throws JwtException if the signature is invalid or the token has expired.
+     */
+    public Claims parseClaims(String token) {
+        return extractAllClaims(token);
+    }
+
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
@@ -51,9 +202,7 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -74,12 +223,14 @@ public class JwtService {
     }
 
     private String createToken(Map<String, Object> claims, String subject, Long expiration) {
+        KeyRing ring = keyRing;
         return Jwts.builder()
+                .header().keyId(ring.activeKid()).and()
                 .claims(claims)
                 .subject(subject)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(ring.activeKey())
                 .compact();
     }
 
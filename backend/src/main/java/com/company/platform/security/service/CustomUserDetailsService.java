@@ -12,19 +12,42 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Custom UserDetailsService implementation.
  * Loads user details for Spring Security authentication.
+ * Loaded users are served from UserPrincipalCache until they expire or are updated.
+ * Updates through UserService evict the entry right away; a cached user is otherwise
+ * revalidated with a single-column version lookup at most once per revalidate-interval,
+ * so a user updated, disabled or deleted through another replica is reloaded (or rejected)
+ * within that interval without a query on every request.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserPrincipalCache.CachedPrincipal cached = userPrincipalCache.lookup(username);
+        if (cached != null) {
+            if (!userPrincipalCache.isRevalidationDue(cached)) {
+                return cached.getUser();
+            }
+            Long version = userRepository.findVersionByUsername(username).orElse(null);
+            if (version == null) {
+                userPrincipalCache.invalidate(username);
+                throw new UsernameNotFoundException("User not found: " + username);
+            }
+            if (version.equals(cached.getUser().getVersion())) {
+                userPrincipalCache.markRevalidated(cached);
+                return cached.getUser();
+            }
+        }
+        
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
+        userPrincipalCache.put(user);
         return user;
     }
 }
@@ -0,0 +1,105 @@
+package com.company.platform.security.service;
+
+import com.company.platform.common.cache.ExpiringLruCache;
+import com.company.platform.users.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Bounded, TTL-based cache of loaded user principals, keyed by username.
+ * Cached users are detached entities and must be treated as read-only.
+ * Evictions are local to this replica; changes made on other replicas are picked up when
+ * CustomUserDetailsService revalidates an entry, at most once per revalidate-interval.
+ * Statistics are published as cache.gets, cache.evictions and cache.size tagged cache=users.principals.
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache {
+
+    private final ExpiringLruCache<String, CachedPrincipal> cache;
+    private final long revalidateIntervalMillis;
+
+    /**
+     * Cached user and when its version was last confirmed against the database.
+     */
+    public static final class CachedPrincipal {
+        private final User user;
+        private volatile long checkedAtMillis;
+
+        private CachedPrincipal(User user, long checkedAtMillis) {
+            this.user = user;
+            this.checkedAtMillis = checkedAtMillis;
+        }
+
+        public User getUser() {
+            return user;
+        }
+    }
+
+    public UserPrincipalCache(
+            @Value("${security.principal-cache.max-size:5000}") int maxSize,
+            @Value("${security.principal-cache.ttl:5m}") Duration ttl,
+            @Value("${security.principal-cache.revalidate-interval:30s}") Duration revalidateInterval,
+            MeterRegistry meterRegistry) {
+        this.cache = new ExpiringLruCache<String, CachedPrincipal>(maxSize, ttl)
+                .bindTo(meterRegistry, "users.principals");
+        this.revalidateIntervalMillis = revalidateInterval.toMillis();
+    }
+
+    /**
+     * Get the cached principal for the username, or null.
+     */
+    public User get(String username) {
+        CachedPrincipal cached = cache.get(username);
+        return cached != null ? cached.user : null;
+    }
+
+    /**
+     * Get the cache entry for the username, or null.
+     */
+    public CachedPrincipal lookup(String username) {
+        return cache.get(username);
+    }
+
+    /**
+     * Whether the entry was last confirmed longer ago than the revalidate interval.
+     */
+    public boolean isRevalidationDue(CachedPrincipal cached) {
+        return System.currentTimeMillis() - cached.checkedAtMillis >= revalidateIntervalMillis;
+    }
+
+    public void markRevalidated(CachedPrincipal cached) {
+        cached.checkedAtMillis = System.currentTimeMillis();
+    }
+
+    public void put(User user) {
+        cache.put(user.getUsername(), new CachedPrincipal(user, System.currentTimeMillis()));
+    }
+
+    /**
+     * Evict a user now and, inside a transaction, again once it completes,
+     * so a concurrent request cannot re-cache the pre-update row.
+     */
+    public void invalidate(String username) {
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(username);
+                }
+            });
+        }
+        log.debug("User principal evicted: {}", username);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -130,7 +130,7 @@ public class UserController {
     }
 
     @GetMapping("/stats/roles")
-    @Operation(summary = "Get user counts by role", description = "Returns live counts of users grouped by role")
+    @Operation(summary = "Get user counts by role", description = "Returns counts of users grouped by role, at most a few seconds old")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<java.util.Map<String, Long>>> getUserCountsByRole() {
         java.util.Map<String, Long> counts = userService.getUserCountsByRole();
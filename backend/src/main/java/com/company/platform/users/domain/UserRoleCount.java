@@ -0,0 +1,26 @@
+package com.company.platform.users.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of users holding a role, maintained as users are registered, re-assigned and deleted.
+ */
+@Entity
+@Table(name = "user_role_counts")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRoleCount {
+    
+    @Id
+    @Column(name = "role_name", length = 50)
+    private String roleName;
+    
+    @Column(name = "user_count", nullable = false)
+    private Long userCount;
+}
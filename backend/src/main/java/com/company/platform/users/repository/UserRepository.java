@@ -21,6 +21,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     Optional<User> findByEmail(String email);
     
+    /**
+     * Current optimistic-lock version of the user; any update or role change increments it.
+     */
+    @Query("SELECT u.version FROM User u WHERE u.username = :username")
+    Optional<Long> findVersionByUsername(@Param("username") String username);
+    
     boolean existsByUsername(String username);
     
     boolean existsByEmail(String email);
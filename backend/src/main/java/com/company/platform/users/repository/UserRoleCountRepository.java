@@ -0,0 +1,33 @@
+package com.company.platform.users.repository;
+
+import com.company.platform.users.domain.UserRoleCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserRoleCountRepository extends JpaRepository<UserRoleCount, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO user_role_counts (role_name, user_count) VALUES (:roleName, :delta) " +
+                   "ON DUPLICATE KEY UPDATE user_count = user_count + :delta",
+           nativeQuery = true)
+    void increment(@Param("roleName") String roleName, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO user_role_counts (role_name, user_count) VALUES (:roleName, :count) " +
+                   "ON DUPLICATE KEY UPDATE user_count = :count",
+           nativeQuery = true)
+    void setCount(@Param("roleName") String roleName, @Param("count") long count);
+
+    /**
+     * Lock every count row, and the gaps between them, until the transaction ends.
+     * Increments, including ones for roles without a row yet, wait for the lock.
+     */
+    @Query(value = "SELECT role_name FROM user_role_counts FOR UPDATE", nativeQuery = true)
+    List<String> lockAll();
+}
@@ -0,0 +1,168 @@
+package com.company.platform.users.service;
+
+import com.company.platform.users.domain.UserRoleCount;
+import com.company.platform.users.repository.UserRepository;
+import com.company.platform.users.repository.UserRoleCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * User counts per role for the admin dashboard.
+ * Counts are kept in user_role_counts and adjusted in the transaction that adds, re-assigns
+ * or deletes a user. Reads are served from a short-lived snapshot of that table, and a
+ * scheduled reconciliation recounts the users table to repair drift.
+ */
+@Component
+@Slf4j
+public class UserRoleStatsService {
+
+    private final UserRoleCountRepository roleCountRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate reconcileTransaction;
+    private final long snapshotTtlNanos;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(Map<String, Long> counts, long expiresAtNanos) {
+    }
+
+    public UserRoleStatsService(
+            UserRoleCountRepository roleCountRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${users.role-stats.snapshot-ttl:PT5S}") Duration snapshotTtl) {
+        this.roleCountRepository = roleCountRepository;
+        this.userRepository = userRepository;
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTtlNanos = snapshotTtl.toNanos();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAdded(String roleName) {
+        roleCountRepository.increment(roleName, 1);
+        invalidateAfterCompletion();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRemoved(String roleName) {
+        roleCountRepository.increment(roleName, -1);
+        invalidateAfterCompletion();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRoleChange(String previousRoleName, String roleName) {
+        if (Objects.equals(previousRoleName, roleName)) {
+            return;
+        }
+        // Same row order in every transaction, so two role changes cannot deadlock
+        if (previousRoleName.compareTo(roleName) < 0) {
+            roleCountRepository.increment(previousRoleName, -1);
+            roleCountRepository.increment(roleName, 1);
+        } else {
+            roleCountRepository.increment(roleName, 1);
+            roleCountRepository.increment(previousRoleName, -1);
+        }
+        invalidateAfterCompletion();
+    }
+
+    /**
+     * Users per role, omitting roles without users. May be up to the snapshot TTL old.
+     */
+    public Map<String, Long> getCounts() {
+        Snapshot current = snapshot;
+        if (current != null && current.expiresAtNanos() - System.nanoTime() > 0) {
+            return current.counts();
+        }
+        Map<String, Long> counts = new TreeMap<>();
+        for (UserRoleCount roleCount : roleCountRepository.findAll()) {
+            if (roleCount.getUserCount() > 0) {
+                counts.put(roleCount.getRoleName(), roleCount.getUserCount());
+            }
+        }
+        counts = Collections.unmodifiableMap(counts);
+        snapshot = new Snapshot(counts, System.nanoTime() + snapshotTtlNanos);
+        return counts;
+    }
+
+    /**
+     * Recount users per role and overwrite counts that drifted.
+     * Also fills the table on first start and picks up users created by DataInitializer.
+     */
+    @Scheduled(fixedDelayString = "${users.role-stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        try {
+            Map<String, Long> corrected = reconcileTransaction.execute(status -> {
+                Set<String> roles = new HashSet<>(roleCountRepository.lockAll());
+                // Under REPEATABLE READ the snapshot starts at the first plain read, after the lock,
+                // so it holds every committed increment and no other increment can commit until we do
+                Map<String, Long> actual = countUsersByRole();
+                Map<String, Long> counted = new HashMap<>();
+                for (UserRoleCount roleCount : roleCountRepository.findAll()) {
+                    counted.put(roleCount.getRoleName(), roleCount.getUserCount());
+                }
+                roles.addAll(actual.keySet());
+
+                Map<String, Long> changes = new TreeMap<>();
+                for (String role : roles) {
+                    long count = actual.getOrDefault(role, 0L);
+                    if (!Objects.equals(counted.get(role), count)) {
+                        roleCountRepository.setCount(role, count);
+                        changes.put(role, count);
+                    }
+                }
+                return changes;
+            });
+            if (corrected != null && !corrected.isEmpty()) {
+                snapshot = null;
+                log.info("User role counts reconciled: {}", corrected);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile user role counts: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, Long> countUsersByRole() {
+        List<Object[]> rows = userRepository.countUsersByRole();
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * Drop this replica's snapshot once the change commits, so the writer's next read shows it.
+     */
+    private void invalidateAfterCompletion() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    snapshot = null;
+                }
+            });
+        } else {
+            snapshot = null;
+        }
+    }
+}
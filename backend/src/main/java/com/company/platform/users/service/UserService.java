@@ -3,6 +3,7 @@ package com.company.platform.users.service;
 import com.company.platform.common.exception.NotFoundException;
 import com.company.platform.common.exception.ValidationException;
 import com.company.platform.common.exception.ForbiddenException;
+import com.company.platform.security.service.UserPrincipalCache;
 import com.company.platform.users.domain.Role;
 import com.company.platform.users.domain.User;
 import com.company.platform.users.dto.UserDTO;
@@ -27,6 +28,8 @@ public class UserService {
     private final RoleRepository roleRepository;
     private final RefreshTokenRepository refreshTokenRepository; // ⬅ Added
     private final PasswordEncoder passwordEncoder;
+    private final UserPrincipalCache userPrincipalCache;
+    private final UserRoleStatsService userRoleStatsService;
 
     @Transactional(readOnly = true)
     public User findById(Long id) {
@@ -77,6 +80,7 @@ public class UserService {
         }
 
         User user = findById(id);
+        String previousRoleName = user.getRole().getName();
 
         if (userDTO.getEmail() != null && !userDTO.getEmail().equals(user.getEmail())) {
             if (userRepository.existsByEmail(userDTO.getEmail())) {
@@ -111,6 +115,8 @@ public class UserService {
         }
 
         user = userRepository.save(user);
+        userRoleStatsService.recordRoleChange(previousRoleName, user.getRole().getName());
+        userPrincipalCache.invalidate(user.getUsername());
         log.info("User updated successfully: {}", user.getUsername());
 
         return toDTO(user);
@@ -128,20 +134,17 @@ public class UserService {
 
         // 2️⃣ Delete the user
         userRepository.delete(user);
+        userRoleStatsService.recordRemoved(user.getRole().getName());
+        userPrincipalCache.invalidate(user.getUsername());
 
         log.info("User deleted successfully: {}", id);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Users per role from the maintained counters; never scans the users table.
+     */
     public java.util.Map<String, Long> getUserCountsByRole() {
-        java.util.List<Object[]> rows = userRepository.countUsersByRole();
-        java.util.Map<String, Long> result = new java.util.HashMap<>();
-        for (Object[] row : rows) {
-            String roleName = (String) row[0];
-            Long count = (Long) row[1];
-            result.put(roleName, count);
-        }
-        return result;
+        return userRoleStatsService.getCounts();
     }
 
     private UserDTO toDTO(User user) {
@@ -0,0 +1,40 @@
+package com.company.platform.workflows.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the workflow Server-Sent Events stream.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "workflow.event-stream")
+@Data
+public class WorkflowEventStreamConfig {
+    /**
+     * Maximum number of open streams on this instance; further connections get 503
+     */
+    private int maxConnections = 10000;
+    
+    /**
+     * Time after which a stream is closed; clients reconnect with Last-Event-ID
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+    
+    /**
+     * Interval between heartbeat comments, which keep proxies from closing idle streams
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+    
+    /**
+     * Events buffered per stream; a client that falls this far behind is disconnected
+     */
+    private int queueCapacity = 1000;
+    
+    /**
+     * Maximum number of missed events replayed when a client reconnects with Last-Event-ID
+     */
+    private int replayLimit = 1000;
+}
@@ -0,0 +1,69 @@
+package com.company.platform.workflows.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the workflow event outbox and its relay.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "workflow.outbox")
+@Data
+public class WorkflowOutboxConfig {
+    /**
+     * Relay outbox events to subscribers on this instance
+     */
+    private boolean relayEnabled = true;
+    
+    /**
+     * Delay between relay polls
+     */
+    private Duration pollInterval = Duration.ofMillis(200);
+    
+    /**
+     * Maximum number of events published to a subscriber in one batch
+     */
+    private int batchSize = 500;
+    
+    /**
+     * How long the relay holds back later events while waiting for a missing event ID to commit.
+     * IDs are assigned at insert, so a slow transaction can commit after later IDs;
+     * after this the relay moves on and re-checks the missing ID on later polls.
+     */
+    private Duration gapGrace = Duration.ofSeconds(5);
+    
+    /**
+     * How long a skipped event ID is re-checked before it is treated as rolled back.
+     * Must exceed the longest transaction that writes workflow events; an event committing
+     * within it is delivered late, after events with higher IDs.
+     */
+    private Duration gapHorizon = Duration.ofMinutes(10);
+    
+    /**
+     * Maximum number of skipped event IDs tracked per subscriber; the oldest are given up first
+     */
+    private int maxPendingGaps = 1000;
+    
+    /**
+     * How long published events are kept
+     */
+    private Duration retention = Duration.ofDays(1);
+    
+    private Webhook webhook = new Webhook();
+    
+    @Data
+    public static class Webhook {
+        /**
+         * URL receiving batches of events as a JSON array; the webhook subscriber is off when unset
+         */
+        private String url;
+        
+        /**
+         * Request timeout
+         */
+        private Duration timeout = Duration.ofSeconds(5);
+    }
+}
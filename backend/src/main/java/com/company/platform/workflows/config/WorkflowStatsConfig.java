@@ -0,0 +1,26 @@
+package com.company.platform.workflows.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for pre-aggregated workflow statistics.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "workflow.stats")
+@Data
+public class WorkflowStatsConfig {
+    /**
+     * Rows each count is spread over. More slots mean less lock contention
+     * between concurrent changes and slightly larger reads.
+     */
+    private int counterSlots = 8;
+    
+    /**
+     * Delay between reconciliations of the counters against workflow_items
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(10);
+}
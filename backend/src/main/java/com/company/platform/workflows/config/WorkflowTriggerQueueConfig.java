@@ -0,0 +1,45 @@
+package com.company.platform.workflows.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the queue behind async workflow triggers.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "workflow.trigger-queue")
+@Data
+public class WorkflowTriggerQueueConfig {
+    /**
+     * Run queue workers on this instance. Triggers can still be enqueued when disabled.
+     */
+    private boolean workerEnabled = true;
+    
+    /**
+     * Number of triggers this instance processes concurrently
+     */
+    private int workers = 4;
+    
+    /**
+     * Delay between polls for claimable triggers
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+    
+    /**
+     * How long a claimed trigger stays locked to a worker before another instance may retry it
+     */
+    private Duration lease = Duration.ofMinutes(2);
+    
+    /**
+     * Attempts before a trigger whose worker keeps failing is marked FAILED
+     */
+    private int maxAttempts = 3;
+    
+    /**
+     * How long completed and failed tickets remain queryable
+     */
+    private Duration retention = Duration.ofDays(7);
+}
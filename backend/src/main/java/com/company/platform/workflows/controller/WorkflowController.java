@@ -1,11 +1,14 @@
 package com.company.platform.workflows.controller;
 
 import com.company.platform.common.response.ApiResponse;
+import com.company.platform.common.response.CursorPageResponse;
 import com.company.platform.users.domain.User;
 import com.company.platform.workflows.domain.WorkflowState;
 import com.company.platform.workflows.dto.*;
+import com.company.platform.workflows.service.WorkflowEventStreamService;
 import com.company.platform.workflows.service.WorkflowIntegrationService;
 import com.company.platform.workflows.service.WorkflowService;
+import com.company.platform.workflows.service.WorkflowStatsService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,10 +21,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 
@@ -35,6 +40,8 @@ public class WorkflowController {
 
     private final WorkflowService workflowService;
     private final WorkflowIntegrationService workflowIntegrationService;
+    private final WorkflowEventStreamService workflowEventStreamService;
+    private final WorkflowStatsService workflowStatsService;
 
 
     // -------------------------------
@@ -89,6 +96,60 @@ public class WorkflowController {
     }
 
 
+    // -------------------------------
+    // LIST WORKFLOWS (Cursor / keyset pagination)
+    // Same visibility as the paginated listing; no count query.
+    // Pass data.nextCursor back as cursor to fetch the next page.
+    // -------------------------------
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'REVIEWER', 'VIEWER')")
+    public ResponseEntity<ApiResponse<CursorPageResponse<WorkflowResponse>>> getWorkflowsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) WorkflowState state,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fromDate,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime toDate,
+            @AuthenticationPrincipal User currentUser) {
+
+        CursorPageResponse<WorkflowResponse> workflows =
+                workflowService.getWorkflowsByCursor(cursor, size, state, fromDate, toDate, currentUser);
+
+        return ResponseEntity.ok(ApiResponse.success(workflows));
+    }
+
+
+    // -------------------------------
+    // STREAM WORKFLOW EVENTS (Server-Sent Events)
+    // Admin + Manager: all workflows
+    // Reviewer + Viewer: only workflows assigned to the current user
+    // Reconnecting clients send Last-Event-ID to receive missed events
+    // Events committed after later ones were pushed arrive with "late": true and no SSE id
+    // -------------------------------
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'REVIEWER', 'VIEWER')")
+    public SseEmitter streamWorkflowEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal User currentUser) {
+
+        return workflowEventStreamService.open(currentUser, lastEventId);
+    }
+
+
+    // -------------------------------
+    // WORKFLOW STATISTICS (dashboards)
+    // Admin + Manager
+    // Counts by state, priority and category from pre-aggregated counters
+    // -------------------------------
+    @GetMapping("/stats")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<WorkflowStatsResponse>> getWorkflowStats() {
+
+        return ResponseEntity.ok(ApiResponse.success(workflowStatsService.getStats()));
+    }
+
+
     // -------------------------------
     // SEARCH WORKFLOWS
     // Admin + Manager + Reviewer
@@ -147,6 +208,24 @@ public class WorkflowController {
     }
 
 
+    // -------------------------------
+    // BULK TRANSITION WORKFLOWS (Approve/Reject many)
+    // Admin + Reviewer
+    // -------------------------------
+    @PostMapping("/transition/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'REVIEWER')")
+    public ResponseEntity<ApiResponse<WorkflowBulkTransitionResponse>> bulkTransitionWorkflows(
+            @Valid @RequestBody WorkflowBulkTransitionRequest request,
+            @AuthenticationPrincipal User currentUser) throws JsonProcessingException {
+
+        WorkflowBulkTransitionResponse response =
+                workflowService.bulkTransitionWorkflows(request, currentUser);
+
+        return ResponseEntity.ok(ApiResponse.success(response,
+                String.format("%d of %d workflows transitioned", response.getSucceeded(), response.getRequested())));
+    }
+
+
     // -------------------------------
     // DELETE WORKFLOW
     // Admin Only
@@ -163,6 +242,21 @@ public class WorkflowController {
     }
 
 
+    // -------------------------------
+    // RELOAD TRANSITION RULES
+    // Admin Only - applies workflow_transitions changes on this replica now;
+    // other replicas refresh within workflow.transitions.refresh-interval
+    // -------------------------------
+    @PostMapping("/transitions/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> reloadTransitionRules() {
+
+        int loaded = workflowService.reloadTransitionRules();
+
+        return ResponseEntity.ok(ApiResponse.success(loaded, "Workflow transition rules reloaded"));
+    }
+
+
     // -------------------------------
     // TRIGGER WORKFLOW (Python/Ai Integration)
     // Admin + Manager
@@ -172,10 +266,11 @@ public class WorkflowController {
     public ResponseEntity<ApiResponse<WorkflowTriggerResponse>> triggerWorkflow(
             @PathVariable String workflowName,
             @Valid @RequestBody WorkflowTriggerRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @AuthenticationPrincipal User currentUser) {
 
         WorkflowTriggerResponse response =
-                workflowIntegrationService.triggerWorkflow(workflowName, request, currentUser);
+                workflowIntegrationService.triggerWorkflow(workflowName, request, currentUser, idempotencyKey);
 
         return ResponseEntity.ok(ApiResponse.success(response, "Workflow triggered successfully"));
     }
@@ -0,0 +1,11 @@
+package com.company.platform.workflows.domain;
+
+/**
+ * Kinds of workflow change recorded in the outbox.
+ */
+public enum WorkflowEventType {
+    CREATED,
+    UPDATED,
+    TRANSITIONED,
+    DELETED
+}
@@ -0,0 +1,34 @@
+package com.company.platform.workflows.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Delivery position of a shared outbox subscriber.
+ * Shared subscribers receive each event once across all replicas; the replica holding
+ * the row lock delivers the next batch and advances the cursor.
+ */
+@Entity
+@Table(name = "workflow_outbox_cursors")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowOutboxCursor {
+    
+    @Id
+    @Column(name = "subscriber", length = 100)
+    private String subscriber;
+    
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+    
+    /**
+     * Event IDs moved past before they committed, re-checked until the gap horizon
+     */
+    @Column(name = "pending_gaps", columnDefinition = "TEXT")
+    private String pendingGaps;
+}
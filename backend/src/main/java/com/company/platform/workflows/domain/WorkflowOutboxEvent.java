@@ -0,0 +1,62 @@
+package com.company.platform.workflows.domain;
+
+import com.company.platform.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Workflow change written in the same transaction as the change itself.
+ * Rows are append-only; the relay reads them in ID order and publishes them to subscribers.
+ */
+@Entity
+@Table(name = "workflow_outbox_events", indexes = {
+    @Index(name = "idx_outbox_created_at", columnList = "created_at")
+})
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowOutboxEvent extends BaseEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20)
+    private WorkflowEventType eventType;
+    
+    @Column(name = "workflow_id", nullable = false)
+    private Long workflowId;
+    
+    @Column(name = "title", length = 200)
+    private String title;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", length = 20)
+    private WorkflowState state;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_state", length = 20)
+    private WorkflowState previousState;
+    
+    @Column(name = "created_by_id")
+    private Long createdById;
+    
+    @Column(name = "assigned_to_id")
+    private Long assignedToId;
+    
+    @Column(name = "previous_assigned_to_id")
+    private Long previousAssignedToId;
+    
+    @Column(name = "actor", length = 50)
+    private String actor; // Username that made the change
+    
+    @Column(name = "source", length = 100)
+    private String source; // e.g. "api", "bulk", or the integration source system
+}
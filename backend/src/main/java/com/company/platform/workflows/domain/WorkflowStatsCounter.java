@@ -0,0 +1,40 @@
+package com.company.platform.workflows.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One slot of a pre-aggregated workflow count.
+ * A bucket's count is the sum of its slots; concurrent changes increment a random slot,
+ * so they rarely wait on the same row lock.
+ */
+@Entity
+@Table(name = "workflow_stats_counters", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_workflow_stats_bucket_slot", columnNames = {"dimension", "bucket", "slot"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowStatsCounter {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private WorkflowStatsDimension dimension;
+    
+    @Column(nullable = false, length = 100)
+    private String bucket;
+    
+    @Column(nullable = false)
+    private Integer slot;
+    
+    @Column(name = "count", nullable = false)
+    private Long count;
+}
@@ -0,0 +1,11 @@
+package com.company.platform.workflows.domain;
+
+/**
+ * Dimensions workflow statistics are counted by.
+ */
+public enum WorkflowStatsDimension {
+    TOTAL,
+    STATE,
+    PRIORITY,
+    CATEGORY
+}
@@ -0,0 +1,49 @@
+package com.company.platform.workflows.domain;
+
+import com.company.platform.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Idempotency key of a processed workflow trigger and the response it produced.
+ * Keys are scoped per user and expire after the configured TTL.
+ */
+@Entity
+@Table(name = "workflow_trigger_idempotency",
+        uniqueConstraints = @UniqueConstraint(name = "uk_trigger_idempotency_key", columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_trigger_idempotency_expires", columnList = "expires_at"))
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowTriggerIdempotency extends BaseEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "idempotency_key", nullable = false, length = 200)
+    private String idempotencyKey;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    /**
+     * SHA-256 of the workflow name and request body the key was claimed for
+     */
+    @Column(name = "request_fingerprint", length = 64)
+    private String requestFingerprint;
+    
+    @Column(name = "response", columnDefinition = "TEXT")
+    private String response; // JSON WorkflowTriggerResponse
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,85 @@
+package com.company.platform.workflows.domain;
+
+import com.company.platform.common.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Workflow trigger accepted in async mode and waiting to be processed.
+ * Tasks with the same partition key (workflow ID, or workflow name for named triggers)
+ * are processed strictly in insertion order.
+ */
+@Entity
+@Table(name = "workflow_trigger_tasks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_trigger_task_ticket", columnNames = "ticket_id"),
+        indexes = {
+                @Index(name = "idx_trigger_task_status", columnList = "status, id"),
+                @Index(name = "idx_trigger_task_partition", columnList = "partition_key, status"),
+                @Index(name = "idx_trigger_task_user_key", columnList = "user_id, idempotency_key")
+        })
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowTriggerTask extends BaseEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "ticket_id", nullable = false, length = 36)
+    private String ticketId;
+    
+    @Column(name = "workflow_name", nullable = false, length = 200)
+    private String workflowName;
+    
+    @Column(name = "workflow_id")
+    private Long workflowId;
+    
+    @Column(name = "partition_key", nullable = false, length = 220)
+    private String partitionKey;
+    
+    @Column(name = "request", nullable = false, columnDefinition = "TEXT")
+    private String request; // JSON WorkflowTriggerRequest
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "idempotency_key", length = 200)
+    private String idempotencyKey;
+    
+    @Column(name = "correlation_id", length = 100)
+    private String correlationId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WorkflowTriggerTaskStatus status;
+    
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+    
+    @Column(name = "response", columnDefinition = "TEXT")
+    private String response; // JSON WorkflowTriggerResponse
+    
+    @Column(name = "error", length = 1000)
+    private String error;
+    
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+    
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+    
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
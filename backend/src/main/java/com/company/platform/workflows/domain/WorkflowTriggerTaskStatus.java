@@ -0,0 +1,11 @@
+package com.company.platform.workflows.domain;
+
+/**
+ * Lifecycle of a queued workflow trigger.
+ */
+public enum WorkflowTriggerTaskStatus {
+    PENDING,      // Accepted, waiting for a worker
+    PROCESSING,   // Claimed by a worker
+    COMPLETED,    // Trigger ran and succeeded
+    FAILED        // Trigger ran and failed, or ran out of attempts
+}
@@ -0,0 +1,29 @@
+package com.company.platform.workflows.dto;
+
+import com.company.platform.workflows.domain.WorkflowAction;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for transitioning many workflow items with the same action.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowBulkTransitionRequest {
+    @NotEmpty(message = "At least one workflow ID is required")
+    @Size(max = 500, message = "At most 500 workflows can be transitioned at once")
+    private List<@NotNull Long> workflowIds;
+    
+    @NotNull(message = "Action is required")
+    private WorkflowAction action;
+    
+    @Size(max = 500, message = "Comments must not exceed 500 characters")
+    private String comments;
+}
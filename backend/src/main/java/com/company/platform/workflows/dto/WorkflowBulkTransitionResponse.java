@@ -0,0 +1,44 @@
+package com.company.platform.workflows.dto;
+
+import com.company.platform.workflows.domain.WorkflowAction;
+import com.company.platform.workflows.domain.WorkflowState;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for bulk workflow transition results.
+ * Reports the outcome of every requested workflow item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowBulkTransitionResponse {
+    private WorkflowAction action;
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+    
+    /**
+     * Outcome for a single workflow item.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+        private Long workflowId;
+        private boolean success;
+        private WorkflowState previousState;
+        private WorkflowState newState;
+        private String errorCode;
+        private String message;
+    }
+}
@@ -0,0 +1,67 @@
+package com.company.platform.workflows.dto;
+
+import com.company.platform.workflows.domain.WorkflowEventType;
+import com.company.platform.workflows.domain.WorkflowState;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Workflow change published from the outbox to subscribers.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkflowEventMessage {
+    
+    /**
+     * Outbox event ID; increases with commit order and can be used to resume a stream
+     */
+    private Long eventId;
+    
+    private WorkflowEventType type;
+    
+    private Long workflowId;
+    
+    private String title;
+    
+    /**
+     * State after the change
+     */
+    private WorkflowState state;
+    
+    /**
+     * State before a transition
+     */
+    private WorkflowState previousState;
+    
+    private Long createdById;
+    
+    private Long assignedToId;
+    
+    /**
+     * Previous assignee when the change reassigned the workflow
+     */
+    private Long previousAssignedToId;
+    
+    /**
+     * Username that made the change
+     */
+    private String actor;
+    
+    private String source;
+    
+    private LocalDateTime occurredAt;
+    
+    /**
+     * True when the event's transaction committed after events with higher IDs were published,
+     * so it is delivered out of order
+     */
+    private Boolean late;
+}
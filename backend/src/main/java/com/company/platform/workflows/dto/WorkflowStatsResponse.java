@@ -0,0 +1,25 @@
+package com.company.platform.workflows.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Workflow counts for dashboards.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowStatsResponse {
+    
+    private long total;
+    private Map<String, Long> byState;
+    private Map<String, Long> byPriority;
+    private Map<String, Long> byCategory;
+    private LocalDateTime generatedAt;
+}
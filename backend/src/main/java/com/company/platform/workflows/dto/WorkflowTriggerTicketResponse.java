@@ -0,0 +1,61 @@
+package com.company.platform.workflows.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for an asynchronously accepted workflow trigger and its progress.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkflowTriggerTicketResponse {
+    
+    /**
+     * Ticket ID used to poll the trigger status
+     */
+    private String ticketId;
+    
+    /**
+     * PENDING, PROCESSING, COMPLETED or FAILED
+     */
+    private String status;
+    
+    /**
+     * Workflow name that was triggered
+     */
+    private String workflowName;
+    
+    /**
+     * Workflow ID if an existing workflow was targeted
+     */
+    private Long workflowId;
+    
+    /**
+     * Number of times a worker picked up the trigger
+     */
+    private int attempts;
+    
+    private LocalDateTime acceptedAt;
+    
+    private LocalDateTime startedAt;
+    
+    private LocalDateTime completedAt;
+    
+    /**
+     * Trigger response once the trigger has been processed
+     */
+    private WorkflowTriggerResponse result;
+    
+    /**
+     * Failure reason if the trigger could not be processed
+     */
+    private String error;
+}
@@ -0,0 +1,275 @@
+package com.company.platform.workflows.repository;
+
+import com.company.platform.common.exception.ValidationException;
+import com.company.platform.workflows.domain.WorkflowState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * MySQL FULLTEXT search over workflow title and description.
+ * Tokens are matched as required prefixes. Results are ranked by relevance unless the
+ * page requests a sort, which is applied like on the JPQL search path. Searches whose
+ * tokens or sort the index cannot express are left to LIKE search, so results do not
+ * depend on which path serves them.
+ * The FULLTEXT index is created at startup by one replica, under a MySQL named lock;
+ * until it exists, callers should fall back to LIKE search.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class WorkflowFullTextSearchRepository {
+
+    private static final String INDEX_NAME = "ft_workflow_title_description";
+    private static final String LOCK_NAME = "workflow_items_fulltext_index";
+    private static final String MATCH = "MATCH(w.title, w.description) AGAINST (? IN BOOLEAN MODE)";
+
+    /**
+     * Sortable WorkflowItem properties and their columns.
+     */
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "w.id",
+            "title", "w.title",
+            "state", "w.state",
+            "priority", "w.priority",
+            "category", "w.category",
+            "createdAt", "w.created_at",
+            "updatedAt", "w.updated_at");
+
+    /**
+     * Matches InnoDB's default innodb_ft_min_token_size; shorter tokens are not indexed.
+     */
+    private static final int MIN_TOKEN_LENGTH = 3;
+    private static final int MAX_TOKENS = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available;
+
+    /**
+     * Create the FULLTEXT index if it does not exist yet.
+     * Runs after JPA schema update so the table is present. Only the replica holding the
+     * named lock runs the ALTER; the others keep using LIKE search until checkIndex sees the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndex() {
+        try {
+            Boolean ready = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+                if (indexExists(connection)) {
+                    return true;
+                }
+                if (!getLock(connection)) {
+                    log.info("FULLTEXT index {} is being created by another instance", INDEX_NAME);
+                    return false;
+                }
+                try {
+                    // Another replica may have created it before we got the lock
+                    if (!indexExists(connection)) {
+                        log.info("Creating FULLTEXT index {} on workflow_items", INDEX_NAME);
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("ALTER TABLE workflow_items ADD FULLTEXT INDEX " + INDEX_NAME + " (title, description)");
+                        }
+                    }
+                    return true;
+                } finally {
+                    releaseLock(connection);
+                }
+            });
+            available = Boolean.TRUE.equals(ready);
+        } catch (Exception e) {
+            available = false;
+            log.warn("FULLTEXT search unavailable, workflow search falls back to LIKE: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Switch to FULLTEXT search once another replica has finished creating the index.
+     */
+    @Scheduled(fixedDelayString = "${workflow.search.index-check-interval:PT1M}")
+    public void checkIndex() {
+        if (available) {
+            return;
+        }
+        try {
+            if (Boolean.TRUE.equals(jdbcTemplate.execute(
+                    (ConnectionCallback<Boolean>) WorkflowFullTextSearchRepository::indexExists))) {
+                available = true;
+                log.info("FULLTEXT index {} found, workflow search uses it", INDEX_NAME);
+            }
+        } catch (RuntimeException e) {
+            log.debug("Could not check FULLTEXT index {}: {}", INDEX_NAME, e.getMessage());
+        }
+    }
+
+    private static boolean indexExists(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = 'workflow_items' AND index_name = ?")) {
+            ps.setString(1, INDEX_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) > 0;
+            }
+        }
+    }
+
+    private static boolean getLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+
+    /**
+     * Whether the search can be served by the FULLTEXT index: every token is indexable
+     * and every sort property maps to a column.
+     */
+    public boolean supports(String search, Sort sort) {
+        return available && toBooleanQuery(search) != null && supportsSort(sort);
+    }
+
+    static boolean supportsSort(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORT_COLUMNS.containsKey(order.getProperty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Search workflow IDs ordered by the page's sort, or by relevance, then newest first, if unsorted.
+     *
+     * @throws ValidationException if the sort is not supported, see {@link #supports}
+     */
+    public Page<Long> searchIds(
+            String search,
+            WorkflowState state,
+            LocalDateTime fromDate,
+            LocalDateTime toDate,
+            Pageable pageable) {
+
+        String booleanQuery = toBooleanQuery(search);
+        String orderBy = orderBy(pageable.getSort());
+
+        StringBuilder where = new StringBuilder(" WHERE ").append(MATCH);
+        List<Object> filterArgs = new ArrayList<>();
+        filterArgs.add(booleanQuery);
+        if (state != null) {
+            where.append(" AND w.state = ?");
+            filterArgs.add(state.name());
+        }
+        if (fromDate != null) {
+            where.append(" AND w.created_at >= ?");
+            filterArgs.add(Timestamp.valueOf(fromDate));
+        }
+        if (toDate != null) {
+            where.append(" AND w.created_at <= ?");
+            filterArgs.add(Timestamp.valueOf(toDate));
+        }
+
+        Long total = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM workflow_items w" + where,
+                Long.class, filterArgs.toArray());
+
+        if (total == null || total == 0) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        List<Object> args = new ArrayList<>(filterArgs);
+        if (pageable.getSort().isUnsorted()) {
+            args.add(booleanQuery);
+        }
+        args.add(pageable.getPageSize());
+        args.add(pageable.getOffset());
+
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT w.id FROM workflow_items w" + where +
+                " ORDER BY " + orderBy + " LIMIT ? OFFSET ?",
+                Long.class, args.toArray());
+
+        return new PageImpl<>(ids, pageable, total);
+    }
+
+    /**
+     * ORDER BY clause for the requested sort; relevance (one MATCH parameter) when unsorted.
+     * The id is always the last key so pages are stable.
+     */
+    static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return MATCH + " DESC, w.created_at DESC, w.id DESC";
+        }
+        StringBuilder orderBy = new StringBuilder();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new ValidationException("Unsupported sort property for workflow search: " + order.getProperty());
+            }
+            if (orderBy.length() > 0) {
+                orderBy.append(", ");
+            }
+            orderBy.append(column).append(order.isAscending() ? " ASC" : " DESC");
+        }
+        if (sort.getOrderFor("id") == null) {
+            orderBy.append(", w.id DESC");
+        }
+        return orderBy.toString();
+    }
+
+    /**
+     * Convert free text into a boolean-mode query where every token is a required prefix,
+     * e.g. "budget review" becomes "+budget* +review*".
+     *
+     * @return Boolean query, or null if a token is shorter than the index's minimum token
+     * size or there are too many tokens, since dropping any would widen the results
+     */
+    static String toBooleanQuery(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        int tokens = 0;
+        for (String token : search.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (token.length() < MIN_TOKEN_LENGTH || ++tokens > MAX_TOKENS) {
+                return null;
+            }
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append('+').append(token).append('*');
+        }
+        return tokens > 0 ? query.toString() : null;
+    }
+}
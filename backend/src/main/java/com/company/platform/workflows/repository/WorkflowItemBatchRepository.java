@@ -0,0 +1,64 @@
+package com.company.platform.workflows.repository;
+
+import com.company.platform.workflows.domain.WorkflowState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch writes for WorkflowItem state changes.
+ * Used by bulk operations where per-entity JPA saves would issue one statement per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkflowItemBatchRepository {
+    
+    private static final String UPDATE_STATE_SQL =
+            "UPDATE workflow_items " +
+            "SET state = ?, comments = COALESCE(?, comments), updated_at = ?, version = COALESCE(version, 0) + 1 " +
+            "WHERE id = ? AND version <=> ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * State change for a single workflow item, guarded by its optimistic-lock version.
+     */
+    public record StateChange(Long id, Long version, WorkflowState newState, String comments) {
+    }
+    
+    /**
+     * Apply state changes in JDBC batches.
+     * 
+     * @return One flag per change; false if the row was modified concurrently
+     */
+    public boolean[] updateStates(List<StateChange> changes, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        boolean[] applied = new boolean[changes.size()];
+        
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_STATE_SQL, changes, batchSize, (ps, change) -> {
+            ps.setString(1, change.newState().name());
+            ps.setString(2, change.comments());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, change.id());
+            if (change.version() != null) {
+                ps.setLong(5, change.version());
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+        });
+        
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                applied[index++] = count > 0 || count == Statement.SUCCESS_NO_INFO;
+            }
+        }
+        return applied;
+    }
+}
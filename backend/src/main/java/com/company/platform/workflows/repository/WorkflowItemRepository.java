@@ -5,12 +5,15 @@ import com.company.platform.workflows.domain.WorkflowItem;
 import com.company.platform.workflows.domain.WorkflowState;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,6 +29,12 @@ public interface WorkflowItemRepository extends JpaRepository<WorkflowItem, Long
            "WHERE w.id = :id")
     Optional<WorkflowItem> findById(@Param("id") Long id);
     
+    @Query("SELECT w FROM WorkflowItem w " +
+           "LEFT JOIN FETCH w.createdBy " +
+           "LEFT JOIN FETCH w.assignedTo " +
+           "WHERE w.id IN :ids")
+    List<WorkflowItem> findAllByIdIn(@Param("ids") Collection<Long> ids);
+    
     @Query("SELECT w FROM WorkflowItem w " +
            "LEFT JOIN FETCH w.createdBy " +
            "LEFT JOIN FETCH w.assignedTo " +
@@ -60,4 +69,29 @@ public interface WorkflowItemRepository extends JpaRepository<WorkflowItem, Long
         @Param("toDate") LocalDateTime toDate,
         Pageable pageable
     );
+    
+    /**
+     * Keyset (seek) listing ordered by (createdAt, id) descending.
+     * Served by idx_workflow_created_at (InnoDB secondary indexes carry the primary key);
+     * returns a Slice, so no count query is issued.
+     */
+    @Query("SELECT w FROM WorkflowItem w " +
+           "LEFT JOIN FETCH w.createdBy " +
+           "LEFT JOIN FETCH w.assignedTo " +
+           "WHERE (:assignedToId IS NULL OR w.assignedTo.id = :assignedToId) AND " +
+           "(:state IS NULL OR w.state = :state) AND " +
+           "(:fromDate IS NULL OR w.createdAt >= :fromDate) AND " +
+           "(:toDate IS NULL OR w.createdAt <= :toDate) AND " +
+           "(:cursorCreatedAt IS NULL OR w.createdAt < :cursorCreatedAt OR " +
+           "(w.createdAt = :cursorCreatedAt AND w.id < :cursorId)) " +
+           "ORDER BY w.createdAt DESC, w.id DESC")
+    Slice<WorkflowItem> findWorkflowsAfterCursor(
+        @Param("assignedToId") Long assignedToId,
+        @Param("state") WorkflowState state,
+        @Param("fromDate") LocalDateTime fromDate,
+        @Param("toDate") LocalDateTime toDate,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
 }
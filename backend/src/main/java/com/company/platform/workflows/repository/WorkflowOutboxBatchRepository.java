@@ -0,0 +1,65 @@
+package com.company.platform.workflows.repository;
+
+import com.company.platform.workflows.domain.WorkflowOutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch inserts for outbox events.
+ * Runs on the caller's transaction so events commit or roll back with the change they describe.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkflowOutboxBatchRepository {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO workflow_outbox_events (event_type, workflow_id, title, state, previous_state, " +
+            "created_by_id, assigned_to_id, previous_assigned_to_id, actor, source, " +
+            "created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Insert events in JDBC batches of the given size.
+     */
+    public void insertAll(List<WorkflowOutboxEvent> events, int batchSize) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, batchSize, this::bind);
+    }
+    
+    private void bind(PreparedStatement ps, WorkflowOutboxEvent event) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(LocalDateTime.now());
+        
+        ps.setString(1, event.getEventType().name());
+        ps.setLong(2, event.getWorkflowId());
+        ps.setString(3, event.getTitle());
+        ps.setString(4, event.getState() != null ? event.getState().name() : null);
+        ps.setString(5, event.getPreviousState() != null ? event.getPreviousState().name() : null);
+        setLong(ps, 6, event.getCreatedById());
+        setLong(ps, 7, event.getAssignedToId());
+        setLong(ps, 8, event.getPreviousAssignedToId());
+        ps.setString(9, event.getActor());
+        ps.setString(10, event.getSource());
+        ps.setTimestamp(11, timestamp);
+        ps.setTimestamp(12, timestamp);
+    }
+    
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.company.platform.workflows.repository;
+
+import com.company.platform.workflows.domain.WorkflowOutboxCursor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for WorkflowOutboxCursor entity.
+ */
+@Repository
+public interface WorkflowOutboxCursorRepository extends JpaRepository<WorkflowOutboxCursor, String> {
+    
+    /**
+     * Lock the subscriber's cursor, or return empty if another replica is delivering to it.
+     */
+    @Query(value = "SELECT * FROM workflow_outbox_cursors WHERE subscriber = :subscriber FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    Optional<WorkflowOutboxCursor> lockIfAvailable(@Param("subscriber") String subscriber);
+    
+    @Query("SELECT MIN(c.lastEventId) FROM WorkflowOutboxCursor c")
+    Long findMinLastEventId();
+}
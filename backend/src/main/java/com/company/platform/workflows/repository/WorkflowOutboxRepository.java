@@ -0,0 +1,29 @@
+package com.company.platform.workflows.repository;
+
+import com.company.platform.workflows.domain.WorkflowOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for WorkflowOutboxEvent entity.
+ */
+@Repository
+public interface WorkflowOutboxRepository extends JpaRepository<WorkflowOutboxEvent, Long> {
+    
+    @Query("SELECT e FROM WorkflowOutboxEvent e WHERE e.id > :afterId ORDER BY e.id")
+    List<WorkflowOutboxEvent> findAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM WorkflowOutboxEvent e")
+    long findMaxId();
+    
+    @Modifying
+    @Query("DELETE FROM WorkflowOutboxEvent e WHERE e.createdAt < :before AND e.id <= :maxId")
+    int deleteOlderThan(@Param("before") LocalDateTime before, @Param("maxId") Long maxId);
+}
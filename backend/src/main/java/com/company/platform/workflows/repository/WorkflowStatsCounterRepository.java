@@ -0,0 +1,105 @@
+package com.company.platform.workflows.repository;
+
+import com.company.platform.workflows.domain.WorkflowStatsDimension;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JDBC access to the workflow_stats_counters summary table.
+ * Increments run on the caller's transaction so counts commit or roll back with the change they describe.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkflowStatsCounterRepository {
+    
+    /**
+     * Bucket of the TOTAL dimension.
+     */
+    public static final String TOTAL_BUCKET = "ALL";
+    
+    /**
+     * Slot of the TOTAL row reconciliation locks. It is never incremented, so its count stays 0.
+     */
+    private static final int RECONCILE_LOCK_SLOT = -1;
+    
+    private static final String UPSERT_SQL =
+            "INSERT INTO workflow_stats_counters (dimension, bucket, slot, count) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE count = count + VALUES(count)";
+    
+    private static final String TOTALS_SQL =
+            "SELECT dimension, bucket, SUM(count) FROM workflow_stats_counters GROUP BY dimension, bucket";
+    
+    private static final String WORKFLOW_COUNTS_SQL =
+            "SELECT state, priority, category, COUNT(*) FROM workflow_items GROUP BY state, priority, category";
+    
+    private static final String LOCK_SQL =
+            "SELECT id FROM workflow_stats_counters WHERE dimension = ? AND bucket = ? AND slot = ? " +
+            "FOR UPDATE SKIP LOCKED";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    /**
+     * Count of one bucket, or a change to it.
+     */
+    public record Count(WorkflowStatsDimension dimension, String bucket, long count) {
+    }
+    
+    /**
+     * Workflow count for one state, priority and category combination.
+     */
+    public record WorkflowCount(String state, String priority, String category, long count) {
+    }
+    
+    /**
+     * Add each delta to the given slot of its bucket, creating the row if needed.
+     * Callers pass deltas in a fixed order so concurrent transactions lock rows in the same order.
+     */
+    public void increment(List<Count> deltas, int slot) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setString(1, delta.dimension().name());
+            ps.setString(2, delta.bucket());
+            ps.setInt(3, slot);
+            ps.setLong(4, delta.count());
+        });
+    }
+    
+    /**
+     * Current count of every bucket, summed over slots.
+     */
+    public List<Count> findTotals() {
+        return jdbcTemplate.query(TOTALS_SQL, (rs, rowNum) -> new Count(
+                WorkflowStatsDimension.valueOf(rs.getString(1)), rs.getString(2), rs.getLong(3)));
+    }
+    
+    /**
+     * Count workflow_items by state, priority and category. Scans the table; reconciliation only.
+     */
+    public List<WorkflowCount> countWorkflows() {
+        return jdbcTemplate.query(WORKFLOW_COUNTS_SQL, (rs, rowNum) -> new WorkflowCount(
+                rs.getString(1), rs.getString(2), rs.getString(3), rs.getLong(4)));
+    }
+    
+    /**
+     * Create the reconciliation lock row if it does not exist yet.
+     */
+    public void ensureReconcileLock() {
+        jdbcTemplate.update("INSERT IGNORE INTO workflow_stats_counters (dimension, bucket, slot, count) VALUES (?, ?, ?, 0)",
+                WorkflowStatsDimension.TOTAL.name(), TOTAL_BUCKET, RECONCILE_LOCK_SLOT);
+    }
+    
+    /**
+     * Lock the reconciliation row until the current transaction ends.
+     *
+     * @return false if another replica is reconciling
+     */
+    public boolean lockReconcile() {
+        return !jdbcTemplate.queryForList(LOCK_SQL, Long.class,
+                WorkflowStatsDimension.TOTAL.name(), TOTAL_BUCKET, RECONCILE_LOCK_SLOT).isEmpty();
+    }
+}
@@ -19,6 +19,10 @@ public interface WorkflowTransitionRepository extends JpaRepository<WorkflowTran
     
     Optional<WorkflowTransition> findByFromStateAndAction(WorkflowState fromState, WorkflowAction action);
     
+    @Query("SELECT wt FROM WorkflowTransition wt " +
+           "LEFT JOIN FETCH wt.allowedRole")
+    List<WorkflowTransition> findAllWithRoles();
+    
     @Query("SELECT wt FROM WorkflowTransition wt " +
            "LEFT JOIN FETCH wt.allowedRole " +
            "WHERE wt.fromState = :fromState")
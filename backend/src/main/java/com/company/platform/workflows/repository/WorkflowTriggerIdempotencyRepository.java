@@ -0,0 +1,35 @@
+package com.company.platform.workflows.repository;
+
+import com.company.platform.workflows.domain.WorkflowTriggerIdempotency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository for WorkflowTriggerIdempotency entity.
+ */
+@Repository
+public interface WorkflowTriggerIdempotencyRepository extends JpaRepository<WorkflowTriggerIdempotency, Long> {
+    
+    @Query("SELECT i FROM WorkflowTriggerIdempotency i " +
+           "WHERE i.userId = :userId AND i.idempotencyKey = :key AND i.expiresAt > :now")
+    Optional<WorkflowTriggerIdempotency> findLive(@Param("userId") Long userId,
+                                                  @Param("key") String key,
+                                                  @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM WorkflowTriggerIdempotency i " +
+           "WHERE i.userId = :userId AND i.idempotencyKey = :key AND i.expiresAt <= :now")
+    int deleteExpired(@Param("userId") Long userId,
+                      @Param("key") String key,
+                      @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM WorkflowTriggerIdempotency i WHERE i.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,66 @@
+package com.company.platform.workflows.repository;
+
+import com.company.platform.workflows.domain.WorkflowTriggerTask;
+import com.company.platform.workflows.domain.WorkflowTriggerTaskStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for WorkflowTriggerTask entity.
+ */
+@Repository
+public interface WorkflowTriggerTaskRepository extends JpaRepository<WorkflowTriggerTask, Long> {
+    
+    Optional<WorkflowTriggerTask> findByTicketId(String ticketId);
+    
+    Optional<WorkflowTriggerTask> findFirstByUserIdAndIdempotencyKeyAndStatusInOrderByIdDesc(
+            Long userId, String idempotencyKey, Collection<WorkflowTriggerTaskStatus> statuses);
+    
+    /**
+     * Lock the oldest pending task of each partition that has no earlier unfinished task.
+     * Rows locked by another worker are skipped, so replicas never claim the same task,
+     * and a partition's next task only becomes claimable once its predecessor finished.
+     */
+    @Query(value = "SELECT q.* FROM workflow_trigger_tasks q " +
+                   "WHERE q.status = 'PENDING' " +
+                   "AND NOT EXISTS (SELECT 1 FROM workflow_trigger_tasks p " +
+                   "                WHERE p.partition_key = q.partition_key AND p.id < q.id " +
+                   "                AND p.status IN ('PENDING', 'PROCESSING')) " +
+                   "ORDER BY q.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<WorkflowTriggerTask> lockClaimable(@Param("limit") int limit);
+    
+    /**
+     * Lock a task for the worker running it; the row stays locked until the run commits or rolls back.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM WorkflowTriggerTask t WHERE t.id = :id")
+    Optional<WorkflowTriggerTask> lockById(@Param("id") Long id);
+    
+    /**
+     * Lock processing tasks whose lease has expired. Tasks whose run transaction is still
+     * open hold their row lock and are skipped; they are released when that run ends.
+     */
+    @Query(value = "SELECT * FROM workflow_trigger_tasks " +
+                   "WHERE status = 'PROCESSING' AND locked_until < :now " +
+                   "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<WorkflowTriggerTask> lockExpiredLeases(@Param("now") LocalDateTime now);
+    
+    long countByStatus(WorkflowTriggerTaskStatus status);
+    
+    @Modifying
+    @Query("DELETE FROM WorkflowTriggerTask t WHERE t.status IN :statuses AND t.completedAt < :before")
+    int deleteFinishedBefore(@Param("statuses") Collection<WorkflowTriggerTaskStatus> statuses,
+                             @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,29 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.workflows.dto.WorkflowEventMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Republishes relayed workflow events as Spring application events,
+ * so in-process components can react with {@code @EventListener(WorkflowEventMessage.class)}.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventWorkflowEventSubscriber implements WorkflowEventSubscriber {
+    
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Override
+    public String name() {
+        return "application-events";
+    }
+    
+    @Override
+    public void onEvents(List<WorkflowEventMessage> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,78 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.workflows.config.WorkflowOutboxConfig;
+import com.company.platform.workflows.dto.WorkflowEventMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+/**
+ * Posts batches of workflow events to an HTTP endpoint as a JSON array.
+ * Shared, so each event is posted once across replicas; non-2xx responses are retried.
+ * Enabled by setting workflow.outbox.webhook.url.
+ */
+@Component
+@ConditionalOnProperty(prefix = "workflow.outbox.webhook", name = "url")
+@Slf4j
+public class WebhookWorkflowEventSubscriber implements WorkflowEventSubscriber {
+    
+    private final WorkflowOutboxConfig.Webhook config;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    
+    public WebhookWorkflowEventSubscriber(WorkflowOutboxConfig outboxConfig, ObjectMapper objectMapper) {
+        this.config = outboxConfig.getWebhook();
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(config.getTimeout())
+                .build();
+        log.info("Workflow event webhook enabled: url={}", config.getUrl());
+    }
+    
+    @Override
+    public String name() {
+        return "webhook";
+    }
+    
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+    
+    @Override
+    public void onEvents(List<WorkflowEventMessage> events) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(events);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize workflow events", e);
+        }
+        
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.getUrl()))
+                .timeout(config.getTimeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Webhook returned HTTP " + response.statusCode());
+            }
+            log.debug("Posted {} workflow events to webhook", events.size());
+        } catch (IOException e) {
+            throw new IllegalStateException("Webhook request failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Webhook request interrupted", e);
+        }
+    }
+}
@@ -6,10 +6,14 @@ import com.company.platform.users.domain.User;
 import com.company.platform.workflows.domain.WorkflowAction;
 import com.company.platform.workflows.domain.WorkflowItem;
 import com.company.platform.workflows.domain.WorkflowState;
-import com.company.platform.workflows.domain.WorkflowTransition;
 import com.company.platform.workflows.repository.WorkflowTransitionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -17,13 +21,70 @@ import java.util.List;
 /**
  * Workflow engine implementing state machine logic.
  * Validates state transitions based on business rules and user roles.
+ * Transition rules are compiled into an in-memory table at startup, so
+ * validation does not query the database. Every replica re-reads the rules
+ * every workflow.transitions.refresh-interval, so changes reach all replicas
+ * without a restart; the reload endpoint only applies them sooner on one.
+ * Each validation is timed as workflow.transition.validation, tagged by
+ * from-state, action and outcome.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WorkflowEngine {
     
+    private static final String VALIDATION_TIMER = "workflow.transition.validation";
+    
     private final WorkflowTransitionRepository transitionRepository;
+    private final MeterRegistry meterRegistry;
+    
+    private volatile WorkflowTransitionTable transitionTable;
+    
+    /**
+     * Load transition rules once the application (and DataInitializer) has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reloadTransitions();
+    }
+    
+    /**
+     * Reload transition rules from the database now.
+     * Other replicas pick the change up on their next scheduled refresh.
+     * 
+     * @return Number of transition rules loaded
+     */
+    public int reloadTransitions() {
+        return loadTransitions().size();
+    }
+    
+    /**
+     * Periodically re-read transition rules, picking up changes made through another
+     * replica's reload endpoint or directly in workflow_transitions.
+     */
+    @Scheduled(fixedDelayString = "${workflow.transitions.refresh-interval:PT1M}",
+            initialDelayString = "${workflow.transitions.refresh-interval:PT1M}")
+    public void refreshTransitions() {
+        WorkflowTransitionTable previous = transitionTable;
+        try {
+            WorkflowTransitionTable table = WorkflowTransitionTable.compile(transitionRepository.findAllWithRoles());
+            transitionTable = table;
+            if (previous == null || previous.size() != table.size()) {
+                log.info("Refreshed workflow transition rules: {} rules", table.size());
+            }
+        } catch (RuntimeException e) {
+            // Keep serving the last good table
+            log.warn("Could not refresh workflow transition rules: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Drop the cached transition rules; they are reloaded on next use.
+     */
+    public void invalidateTransitions() {
+        transitionTable = null;
+        log.info("Workflow transition rules invalidated");
+    }
     
     /**
      * Process workflow state transition.
@@ -40,31 +101,49 @@ public class WorkflowEngine {
         log.info("Processing workflow transition: item={}, action={}, user={}", 
                 item.getId(), action, user.getUsername());
         
-        // Validate user role can perform this action from current state
-        if (!canUserPerformAction(item.getState(), action, user)) {
-            throw new ForbiddenException(
-                    String.format("User %s with role %s cannot perform %s from state %s",
-                            user.getUsername(), user.getRole().getName(), action, item.getState())
-            );
-        }
-        
-        // Find valid transition
-        WorkflowTransition transition = transitionRepository
-                .findByFromStateAndAction(item.getState(), action)
-                .orElseThrow(() -> new WorkflowException(
-                        String.format("Invalid transition: %s from state %s", action, item.getState())
-                ));
-        
-        // Validate business rule
-        if (!item.canTransitionTo(transition.getToState())) {
-            throw new WorkflowException(
-                    String.format("Business rule violation: Cannot transition from %s to %s",
-                            item.getState(), transition.getToState())
-            );
+        WorkflowState fromState = item.getState();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            // Validate user role can perform this action from current state
+            if (!canUserPerformAction(fromState, action, user)) {
+                outcome = "forbidden";
+                throw new ForbiddenException(
+                        String.format("User %s with role %s cannot perform %s from state %s",
+                                user.getUsername(), user.getRole().getName(), action, fromState)
+                );
+            }
+            
+            // Find valid transition
+            WorkflowState toState = transitions().targetState(fromState, action);
+            if (toState == null) {
+                outcome = "invalid_transition";
+                throw new WorkflowException(
+                        String.format("Invalid transition: %s from state %s", action, fromState)
+                );
+            }
+            
+            // Validate business rule
+            if (!item.canTransitionTo(toState)) {
+                outcome = "rule_violation";
+                throw new WorkflowException(
+                        String.format("Business rule violation: Cannot transition from %s to %s",
+                                fromState, toState)
+                );
+            }
+            
+            outcome = "approved";
+            log.info("Workflow transition approved: {} -> {}", fromState, toState);
+            return toState;
+        } finally {
+            sample.stop(Timer.builder(VALIDATION_TIMER)
+                    .description("Workflow transition validation")
+                    .tag("from", String.valueOf(fromState))
+                    .tag("action", String.valueOf(action))
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
         }
-        
-        log.info("Workflow transition approved: {} -> {}", item.getState(), transition.getToState());
-        return transition.getToState();
     }
     
     /**
@@ -72,23 +151,25 @@ public class WorkflowEngine {
      * Validates role-based permissions.
      */
     private boolean canUserPerformAction(WorkflowState currentState, WorkflowAction action, User user) {
-        List<WorkflowTransition> allowedTransitions = transitionRepository
-                .findByFromStateAndRole(currentState, user.getRole().getName());
-        
-        return allowedTransitions.stream()
-                .anyMatch(transition -> transition.getAction() == action);
+        return transitions().isAllowed(currentState, action, user.getRole().getName());
     }
     
     /**
      * Get all allowed actions for a user from current state.
      */
     public List<WorkflowAction> getAllowedActions(WorkflowItem item, User user) {
-        List<WorkflowTransition> transitions = transitionRepository
-                .findByFromStateAndRole(item.getState(), user.getRole().getName());
-        
-        return transitions.stream()
-                .map(WorkflowTransition::getAction)
-                .distinct()
-                .toList();
+        return List.copyOf(transitions().allowedActions(item.getState(), user.getRole().getName()));
+    }
+    
+    private WorkflowTransitionTable transitions() {
+        WorkflowTransitionTable table = transitionTable;
+        return table != null ? table : loadTransitions();
+    }
+    
+    private WorkflowTransitionTable loadTransitions() {
+        WorkflowTransitionTable table = WorkflowTransitionTable.compile(transitionRepository.findAllWithRoles());
+        transitionTable = table;
+        log.info("Loaded {} workflow transition rules", table.size());
+        return table;
     }
 }
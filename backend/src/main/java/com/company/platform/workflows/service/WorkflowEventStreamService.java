@@ -0,0 +1,273 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.common.exception.ServiceUnavailableException;
+import com.company.platform.users.domain.User;
+import com.company.platform.workflows.config.WorkflowEventStreamConfig;
+import com.company.platform.workflows.dto.WorkflowEventMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes workflow events to Server-Sent Events streams.
+ * Streams are async servlet responses, so idle connections hold no request thread;
+ * events are written from virtual threads, one drain task per stream at a time,
+ * so a slow client never delays the others. Visibility follows getAllWorkflows:
+ * viewers and reviewers only receive events for workflows assigned to them.
+ */
+@Component
+@Slf4j
+public class WorkflowEventStreamService implements WorkflowEventSubscriber {
+
+    private final WorkflowOutboxRelay outboxRelay;
+    private final WorkflowEventStreamConfig config;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<Stream> streams = ConcurrentHashMap.newKeySet();
+    private ExecutorService sender;
+    private ScheduledExecutorService heartbeat;
+
+    public WorkflowEventStreamService(@Lazy WorkflowOutboxRelay outboxRelay,
+                                      WorkflowEventStreamConfig config,
+                                      MeterRegistry meterRegistry) {
+        this.outboxRelay = outboxRelay;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * One open event stream and the events waiting to be written to it.
+     */
+    private static final class Stream {
+        final SseEmitter emitter;
+        final Long userId;
+        final boolean assignedOnly;
+        final BlockingQueue<WorkflowEventMessage> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile Long replayAfter;
+        volatile long lastSentId;
+        volatile boolean closed;
+
+        Stream(SseEmitter emitter, Long userId, boolean assignedOnly, int capacity) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.assignedOnly = assignedOnly;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        sender = Executors.newVirtualThreadPerTaskExecutor();
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "workflow-event-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = config.getHeartbeatInterval().toMillis();
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeats, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        Gauge.builder("workflow.events.stream.connections", streams, Set::size)
+                .description("Open workflow event streams")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeat.shutdownNow();
+        for (Stream stream : streams) {
+            close(stream);
+            try {
+                stream.emitter.complete();
+            } catch (RuntimeException e) {
+                // Response already gone
+            }
+        }
+        sender.shutdownNow();
+    }
+
+    /**
+     * Open an event stream for the user.
+     *
+     * @param lastEventId Last-Event-ID sent by a reconnecting client; missed events after it are replayed
+     */
+    public SseEmitter open(User currentUser, String lastEventId) {
+        if (streams.size() >= config.getMaxConnections()) {
+            throw new ServiceUnavailableException("Too many open workflow event streams, retry later");
+        }
+
+        String roleName = currentUser.getRole().getName();
+        boolean assignedOnly = "VIEWER".equalsIgnoreCase(roleName) || "REVIEWER".equalsIgnoreCase(roleName);
+
+        SseEmitter emitter = newEmitter(config.getTimeout().toMillis());
+        Stream stream = new Stream(emitter, currentUser.getId(), assignedOnly, config.getQueueCapacity());
+        stream.lastSentId = outboxRelay.getPublishedEventId();
+        Long resumeFrom = parseEventId(lastEventId);
+        if (resumeFrom != null && resumeFrom < stream.lastSentId) {
+            stream.replayAfter = resumeFrom;
+            stream.lastSentId = resumeFrom;
+        }
+
+        emitter.onCompletion(() -> close(stream));
+        emitter.onTimeout(() -> close(stream));
+        emitter.onError(error -> close(stream));
+        streams.add(stream);
+
+        log.debug("Workflow event stream opened: user={}, assignedOnly={}, resumeFrom={}, open={}",
+                currentUser.getUsername(), assignedOnly, resumeFrom, streams.size());
+        schedule(stream);
+        return emitter;
+    }
+
+    @Override
+    public String name() {
+        return "event-stream";
+    }
+
+    @Override
+    public void onEvents(List<WorkflowEventMessage> events) {
+        for (Stream stream : streams) {
+            boolean queued = false;
+            for (WorkflowEventMessage event : events) {
+                if (!isVisible(stream, event)) {
+                    continue;
+                }
+                if (!stream.queue.offer(event)) {
+                    // Client is too far behind; it reconnects with Last-Event-ID and catches up from the outbox
+                    log.warn("Workflow event stream overflowed, closing: user={}", stream.userId);
+                    close(stream);
+                    stream.emitter.complete();
+                    queued = false;
+                    break;
+                }
+                queued = true;
+            }
+            if (queued) {
+                schedule(stream);
+            }
+        }
+    }
+
+    public int getOpenStreamCount() {
+        return streams.size();
+    }
+
+    private static boolean isVisible(Stream stream, WorkflowEventMessage event) {
+        return isVisible(stream.assignedOnly, stream.userId, event);
+    }
+
+    /**
+     * Reviewers and viewers see a workflow's events while it is assigned to them,
+     * including the reassignment that takes it away from them.
+     */
+    static boolean isVisible(boolean assignedOnly, Long userId, WorkflowEventMessage event) {
+        return !assignedOnly
+                || userId.equals(event.getAssignedToId())
+                || userId.equals(event.getPreviousAssignedToId());
+    }
+
+    SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void schedule(Stream stream) {
+        if (!stream.closed && stream.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(stream));
+        }
+    }
+
+    private void drain(Stream stream) {
+        try {
+            Long replayAfter = stream.replayAfter;
+            if (replayAfter != null) {
+                stream.replayAfter = null;
+                for (WorkflowEventMessage event : outboxRelay.publishedEventsAfter(replayAfter, config.getReplayLimit())) {
+                    if (isVisible(stream, event)) {
+                        send(stream, event);
+                    }
+                }
+            }
+            WorkflowEventMessage event;
+            while (!stream.closed && (event = stream.queue.poll()) != null) {
+                send(stream, event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Workflow event stream closed by client: user={}, error={}", stream.userId, e.getMessage());
+            close(stream);
+            return;
+        } finally {
+            stream.draining.set(false);
+        }
+        // Events offered after the last poll but before draining was released
+        if (!stream.queue.isEmpty()) {
+            schedule(stream);
+        }
+    }
+
+    private static void send(Stream stream, WorkflowEventMessage event) throws IOException {
+        boolean late = Boolean.TRUE.equals(event.getLate());
+        // Replayed and live events can overlap; never send an event twice
+        if (!late && event.getEventId() <= stream.lastSentId) {
+            return;
+        }
+        SseEmitter.SseEventBuilder sse = SseEmitter.event();
+        // A late event is pushed out of order without an SSE id, so the client's
+        // Last-Event-ID keeps pointing at the newest event and resuming skips nothing
+        if (!late) {
+            sse.id(String.valueOf(event.getEventId()));
+        }
+        stream.emitter.send(sse
+                .name(event.getType().name().toLowerCase(Locale.ROOT))
+                .data(event, MediaType.APPLICATION_JSON));
+        if (!late) {
+            stream.lastSentId = event.getEventId();
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Stream stream : streams) {
+            sender.execute(() -> {
+                try {
+                    stream.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    close(stream);
+                }
+            });
+        }
+    }
+
+    private void close(Stream stream) {
+        stream.closed = true;
+        stream.queue.clear();
+        streams.remove(stream);
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
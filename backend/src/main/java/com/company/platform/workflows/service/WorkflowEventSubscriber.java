@@ -0,0 +1,27 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.workflows.dto.WorkflowEventMessage;
+
+import java.util.List;
+
+/**
+ * Receives workflow events relayed from the outbox, in event ID order. The exception is an event
+ * whose transaction commits after the gap grace: it is delivered late, ahead of the next batch,
+ * and marked with late=true.
+ * Local subscribers receive every event on every replica, starting from the events
+ * committed after startup. Shared subscribers receive each event once across all replicas,
+ * and a batch is redelivered until onEvents returns without throwing.
+ */
+public interface WorkflowEventSubscriber {
+    
+    /**
+     * Stable name; shared subscribers store their position under it.
+     */
+    String name();
+    
+    void onEvents(List<WorkflowEventMessage> events);
+    
+    default boolean isShared() {
+        return false;
+    }
+}
@@ -9,6 +9,7 @@ import com.company.platform.users.domain.User;
 import com.company.platform.workflows.domain.WorkflowAction;
 import com.company.platform.workflows.domain.WorkflowItem;
 import com.company.platform.workflows.domain.WorkflowState;
+import com.company.platform.workflows.domain.WorkflowTriggerIdempotency;
 import com.company.platform.workflows.dto.WorkflowTriggerRequest;
 import com.company.platform.workflows.dto.WorkflowTriggerResponse;
 import com.company.platform.workflows.repository.WorkflowItemRepository;
@@ -21,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Integration service for Python-service and external microservices.
@@ -34,6 +36,9 @@ public class WorkflowIntegrationService {
     private final WorkflowItemRepository workflowRepository;
     private final WorkflowEngine workflowEngine;
     private final AuditService auditService;
+    private final WorkflowTriggerIdempotencyStore idempotencyStore;
+    private final WorkflowOutbox workflowOutbox;
+    private final WorkflowStatsService workflowStatsService;
     
     /**
      * Trigger a workflow by name from external system (Python-service, AI/ML services, etc.)
@@ -49,6 +54,51 @@ public class WorkflowIntegrationService {
             String workflowName,
             WorkflowTriggerRequest request,
             User currentUser) {
+        return triggerWorkflow(workflowName, request, currentUser, null);
+    }
+    
+    /**
+     * Trigger a workflow at most once per idempotency key.
+     * The key comes from the Idempotency-Key header or metadata.idempotencyKey; a retried
+     * trigger with the same key returns the recorded response without repeating any writes,
+     * and reusing the key for a different request is rejected with a conflict.
+     * 
+     * @param idempotencyKeyHeader Value of the Idempotency-Key header, may be null
+     */
+    @Transactional
+    public WorkflowTriggerResponse triggerWorkflow(
+            String workflowName,
+            WorkflowTriggerRequest request,
+            User currentUser,
+            String idempotencyKeyHeader) {
+        
+        String idempotencyKey = idempotencyStore.resolveKey(idempotencyKeyHeader, request);
+        if (idempotencyKey == null) {
+            return executeTrigger(workflowName, request, currentUser);
+        }
+        
+        String fingerprint = idempotencyStore.fingerprint(workflowName, request);
+        Optional<WorkflowTriggerResponse> previous = idempotencyStore.findResponse(idempotencyKey, currentUser.getId(), fingerprint);
+        if (previous.isPresent()) {
+            log.info("Replaying idempotent workflow trigger: name={}, key={}, user={}",
+                    workflowName, idempotencyKey, currentUser.getUsername());
+            WorkflowTriggerResponse replay = previous.get();
+            Map<String, Object> metadata = replay.getMetadata() != null ? new HashMap<>(replay.getMetadata()) : new HashMap<>();
+            metadata.put("idempotentReplay", true);
+            replay.setMetadata(metadata);
+            return replay;
+        }
+        
+        WorkflowTriggerIdempotency claim = idempotencyStore.claim(idempotencyKey, currentUser.getId(), fingerprint);
+        WorkflowTriggerResponse response = executeTrigger(workflowName, request, currentUser);
+        idempotencyStore.complete(claim, response);
+        return response;
+    }
+    
+    private WorkflowTriggerResponse executeTrigger(
+            String workflowName,
+            WorkflowTriggerRequest request,
+            User currentUser) {
         
         log.info("Triggering workflow: name={}, source={}, user={}", 
                 workflowName, request.getSource(), currentUser.getUsername());
@@ -104,6 +154,9 @@ public class WorkflowIntegrationService {
                 
                 workflow = workflowRepository.save(workflow);
                 
+                workflowOutbox.record(WorkflowOutbox.transition(workflow, oldState, currentUser, request.getSource()));
+                workflowStatsService.recordTransition(oldState, newState);
+                
                 // Audit log
                 auditService.logAction(
                         AuditAction.WORKFLOW_UPDATED,
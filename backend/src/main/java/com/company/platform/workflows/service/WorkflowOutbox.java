@@ -0,0 +1,70 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.users.domain.User;
+import com.company.platform.workflows.domain.WorkflowEventType;
+import com.company.platform.workflows.domain.WorkflowItem;
+import com.company.platform.workflows.domain.WorkflowOutboxEvent;
+import com.company.platform.workflows.domain.WorkflowState;
+import com.company.platform.workflows.repository.WorkflowOutboxBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Writes workflow change events to the outbox table.
+ * Must be called inside the transaction that makes the change, so an event exists
+ * exactly when its change committed.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkflowOutbox {
+    
+    public static final String SOURCE_API = "api";
+    public static final String SOURCE_BULK = "bulk";
+    
+    private static final int MAX_SOURCE_LENGTH = 100;
+    
+    private final WorkflowOutboxBatchRepository batchRepository;
+    
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}")
+    private int batchSize;
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(WorkflowOutboxEvent event) {
+        batchRepository.insertAll(List.of(event), batchSize);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(List<WorkflowOutboxEvent> events) {
+        batchRepository.insertAll(events, batchSize);
+    }
+    
+    /**
+     * Event describing the workflow as it is after the change.
+     */
+    public static WorkflowOutboxEvent event(WorkflowEventType type, WorkflowItem workflow, User actor, String source) {
+        return WorkflowOutboxEvent.builder()
+                .eventType(type)
+                .workflowId(workflow.getId())
+                .title(workflow.getTitle())
+                .state(workflow.getState())
+                .createdById(workflow.getCreatedBy() != null ? workflow.getCreatedBy().getId() : null)
+                .assignedToId(workflow.getAssignedTo() != null ? workflow.getAssignedTo().getId() : null)
+                .actor(actor != null ? actor.getUsername() : null)
+                .source(source != null && source.length() > MAX_SOURCE_LENGTH ? source.substring(0, MAX_SOURCE_LENGTH) : source)
+                .build();
+    }
+    
+    /**
+     * Event for a state transition.
+     */
+    public static WorkflowOutboxEvent transition(WorkflowItem workflow, WorkflowState previousState, User actor, String source) {
+        WorkflowOutboxEvent event = event(WorkflowEventType.TRANSITIONED, workflow, actor, source);
+        event.setPreviousState(previousState);
+        return event;
+    }
+}
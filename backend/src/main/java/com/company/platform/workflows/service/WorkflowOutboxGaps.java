@@ -0,0 +1,113 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.workflows.domain.WorkflowOutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox event IDs a subscriber moved past before they committed.
+ * The relay re-checks them on later polls and delivers any that commit late,
+ * until the gap horizon passes. Shared subscribers keep them on their cursor row.
+ */
+@Slf4j
+class WorkflowOutboxGaps {
+
+    private final TreeMap<Long, LocalDateTime> skippedAt = new TreeMap<>();
+    private final int capacity;
+
+    WorkflowOutboxGaps(int capacity) {
+        this.capacity = capacity;
+    }
+
+    boolean isEmpty() {
+        return skippedAt.isEmpty();
+    }
+
+    List<Long> ids() {
+        return new ArrayList<>(skippedAt.keySet());
+    }
+
+    boolean remove(long id) {
+        return skippedAt.remove(id) != null;
+    }
+
+    /**
+     * Track the IDs missing between afterId and the given events.
+     *
+     * @return the newly skipped IDs
+     */
+    List<Long> skip(List<WorkflowOutboxEvent> events, long afterId, LocalDateTime now) {
+        List<Long> skipped = new ArrayList<>();
+        long expected = afterId + 1;
+        for (WorkflowOutboxEvent event : events) {
+            // Only the newest IDs fit; older ones of a huge gap would be evicted straight away
+            long from = Math.max(expected, event.getId() - capacity);
+            if (from > expected) {
+                log.warn("Workflow outbox gap exceeds tracking capacity, not re-checking eventIds {}..{}",
+                        expected, from - 1);
+            }
+            for (long id = from; id < event.getId(); id++) {
+                skippedAt.put(id, now);
+                skipped.add(id);
+            }
+            expected = event.getId() + 1;
+        }
+        return skipped;
+    }
+
+    /**
+     * Stop tracking IDs skipped before the cutoff, and the oldest IDs beyond capacity.
+     *
+     * @return the IDs no longer tracked
+     */
+    List<Long> expire(LocalDateTime cutoff) {
+        List<Long> expired = new ArrayList<>();
+        skippedAt.entrySet().removeIf(entry -> {
+            if (entry.getValue().isBefore(cutoff)) {
+                expired.add(entry.getKey());
+                return true;
+            }
+            return false;
+        });
+        while (skippedAt.size() > capacity) {
+            expired.add(skippedAt.pollFirstEntry().getKey());
+        }
+        return expired;
+    }
+
+    /**
+     * Compact form stored on a shared subscriber's cursor: {@code id@epochSecond,...}, or null when empty.
+     */
+    String encode() {
+        if (skippedAt.isEmpty()) {
+            return null;
+        }
+        return skippedAt.entrySet().stream()
+                .map(entry -> entry.getKey() + "@" + entry.getValue().toEpochSecond(ZoneOffset.UTC))
+                .collect(Collectors.joining(","));
+    }
+
+    static WorkflowOutboxGaps decode(String value, int capacity) {
+        WorkflowOutboxGaps gaps = new WorkflowOutboxGaps(capacity);
+        if (value == null || value.isBlank()) {
+            return gaps;
+        }
+        for (String entry : value.split(",")) {
+            int separator = entry.indexOf('@');
+            try {
+                long id = Long.parseLong(entry.substring(0, separator).trim());
+                long epochSecond = Long.parseLong(entry.substring(separator + 1).trim());
+                gaps.skippedAt.put(id, LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+            } catch (RuntimeException e) {
+                log.warn("Ignoring malformed workflow outbox gap entry: {}", entry);
+            }
+        }
+        return gaps;
+    }
+}
@@ -0,0 +1,285 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.workflows.config.WorkflowOutboxConfig;
+import com.company.platform.workflows.domain.WorkflowOutboxCursor;
+import com.company.platform.workflows.domain.WorkflowOutboxEvent;
+import com.company.platform.workflows.dto.WorkflowEventMessage;
+import com.company.platform.workflows.repository.WorkflowOutboxCursorRepository;
+import com.company.platform.workflows.repository.WorkflowOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Publishes outbox events to subscribers in batches.
+ * Every replica tails the outbox for its local subscribers; shared subscribers are delivered
+ * by whichever replica holds the lock on their cursor row, so each event reaches them once.
+ */
+@Component
+@Slf4j
+public class WorkflowOutboxRelay {
+
+    private final WorkflowOutboxRepository outboxRepository;
+    private final WorkflowOutboxCursorRepository cursorRepository;
+    private final List<WorkflowEventSubscriber> localSubscribers;
+    private final List<WorkflowEventSubscriber> sharedSubscribers;
+    private final WorkflowOutboxConfig config;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile long localCursor;
+    private volatile boolean started;
+    /** Only touched by the relay poll */
+    private final WorkflowOutboxGaps localGaps;
+
+    public WorkflowOutboxRelay(WorkflowOutboxRepository outboxRepository,
+                               WorkflowOutboxCursorRepository cursorRepository,
+                               List<WorkflowEventSubscriber> subscribers,
+                               WorkflowOutboxConfig config,
+                               PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.cursorRepository = cursorRepository;
+        this.localSubscribers = subscribers.stream().filter(s -> !s.isShared()).toList();
+        this.sharedSubscribers = subscribers.stream().filter(WorkflowEventSubscriber::isShared).toList();
+        this.config = config;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.localGaps = new WorkflowOutboxGaps(config.getMaxPendingGaps());
+    }
+
+    /**
+     * Start relaying from the current end of the outbox.
+     * Shared subscribers seen for the first time also start there.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!config.isRelayEnabled()) {
+            log.info("Workflow outbox relay disabled on this instance");
+            return;
+        }
+        long head = outboxRepository.findMaxId();
+        localCursor = head;
+        for (WorkflowEventSubscriber subscriber : sharedSubscribers) {
+            if (!cursorRepository.existsById(subscriber.name())) {
+                try {
+                    cursorRepository.save(WorkflowOutboxCursor.builder()
+                            .subscriber(subscriber.name())
+                            .lastEventId(head)
+                            .build());
+                } catch (RuntimeException e) {
+                    // Another replica registered it first
+                    log.debug("Outbox cursor already registered: subscriber={}", subscriber.name());
+                }
+            }
+        }
+        started = true;
+        log.info("Workflow outbox relay started: fromEventId={}, localSubscribers={}, sharedSubscribers={}",
+                head, localSubscribers.size(), sharedSubscribers.size());
+    }
+
+    /**
+     * ID of the last event published to local subscribers.
+     */
+    public long getPublishedEventId() {
+        return localCursor;
+    }
+
+    /**
+     * Committed events after the given ID, up to the last event published to local subscribers.
+     * Lets a local subscriber catch up on events it missed without racing the relay.
+     */
+    public List<WorkflowEventMessage> publishedEventsAfter(long afterId, int limit) {
+        long publishedId = localCursor;
+        if (afterId >= publishedId) {
+            return List.of();
+        }
+        return outboxRepository.findAfter(afterId, PageRequest.of(0, limit)).stream()
+                .filter(event -> event.getId() <= publishedId)
+                .map(WorkflowOutboxRelay::toMessage)
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${workflow.outbox.poll-interval:PT0.2S}")
+    public void relay() {
+        if (!started) {
+            return;
+        }
+        try {
+            relayLocal();
+        } catch (RuntimeException e) {
+            log.warn("Could not relay workflow events to local subscribers: {}", e.getMessage());
+        }
+        for (WorkflowEventSubscriber subscriber : sharedSubscribers) {
+            try {
+                relayShared(subscriber);
+            } catch (RuntimeException e) {
+                log.warn("Could not relay workflow events: subscriber={}, error={}", subscriber.name(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Delete events past retention that every shared subscriber has received.
+     */
+    @Scheduled(fixedDelayString = "${workflow.outbox.purge-interval:PT1H}")
+    public void purgePublished() {
+        if (!started) {
+            return;
+        }
+        Integer purged = transactionTemplate.execute(status -> {
+            Long maxId = sharedSubscribers.isEmpty() ? Long.MAX_VALUE : cursorRepository.findMinLastEventId();
+            if (maxId == null) {
+                maxId = Long.MAX_VALUE;
+            }
+            return outboxRepository.deleteOlderThan(LocalDateTime.now().minus(config.getRetention()), maxId);
+        });
+        if (purged != null && purged > 0) {
+            log.info("Purged {} published workflow outbox events", purged);
+        }
+    }
+
+    private void relayLocal() {
+        if (localSubscribers.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<WorkflowOutboxEvent> late = fillGaps(localGaps, now, "local");
+        List<WorkflowOutboxEvent> events = committedPrefix(
+                fetch(localCursor), localCursor, now, config.getGapGrace());
+        skipGaps(localGaps, events, localCursor, now, "local");
+        if (late.isEmpty() && events.isEmpty()) {
+            return;
+        }
+        List<WorkflowEventMessage> messages = toMessages(late, events);
+        if (!events.isEmpty()) {
+            // Advance first so a subscriber catching up via publishedEventsAfter also sees this batch
+            localCursor = events.get(events.size() - 1).getId();
+        }
+        for (WorkflowEventSubscriber subscriber : localSubscribers) {
+            try {
+                subscriber.onEvents(messages);
+            } catch (RuntimeException e) {
+                log.warn("Workflow event subscriber failed: subscriber={}, events={}, error={}",
+                        subscriber.name(), messages.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Deliver the next batch to a shared subscriber while holding its cursor lock.
+     * If delivery throws, neither the cursor nor its pending gaps change and the batch is retried on the next poll.
+     */
+    private void relayShared(WorkflowEventSubscriber subscriber) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<WorkflowOutboxCursor> locked = cursorRepository.lockIfAvailable(subscriber.name());
+            if (locked.isEmpty()) {
+                return;
+            }
+            WorkflowOutboxCursor cursor = locked.get();
+            LocalDateTime now = LocalDateTime.now();
+            WorkflowOutboxGaps gaps = WorkflowOutboxGaps.decode(cursor.getPendingGaps(), config.getMaxPendingGaps());
+            List<WorkflowOutboxEvent> late = fillGaps(gaps, now, subscriber.name());
+            long afterId = cursor.getLastEventId();
+            List<WorkflowOutboxEvent> events = committedPrefix(fetch(afterId), afterId, now, config.getGapGrace());
+            skipGaps(gaps, events, afterId, now, subscriber.name());
+            if (!late.isEmpty() || !events.isEmpty()) {
+                subscriber.onEvents(toMessages(late, events));
+            }
+            if (!events.isEmpty()) {
+                cursor.setLastEventId(events.get(events.size() - 1).getId());
+            }
+            cursor.setPendingGaps(gaps.encode());
+        });
+    }
+
+    /**
+     * Take the skipped events that have committed since, and give up on those past the gap horizon.
+     */
+    private List<WorkflowOutboxEvent> fillGaps(WorkflowOutboxGaps gaps, LocalDateTime now, String subscriber) {
+        if (gaps.isEmpty()) {
+            return List.of();
+        }
+        List<WorkflowOutboxEvent> late = outboxRepository.findAllById(gaps.ids()).stream()
+                .sorted(Comparator.comparing(WorkflowOutboxEvent::getId))
+                .toList();
+        for (WorkflowOutboxEvent event : late) {
+            gaps.remove(event.getId());
+            log.info("Workflow outbox event committed late, delivering out of order: subscriber={}, eventId={}",
+                    subscriber, event.getId());
+        }
+        for (Long id : gaps.expire(now.minus(config.getGapHorizon()))) {
+            log.warn("Workflow outbox event never committed, treating it as rolled back: subscriber={}, eventId={}, horizon={}",
+                    subscriber, id, config.getGapHorizon());
+        }
+        return late;
+    }
+
+    private void skipGaps(WorkflowOutboxGaps gaps, List<WorkflowOutboxEvent> events, long afterId,
+                          LocalDateTime now, String subscriber) {
+        for (Long id : gaps.skip(events, afterId, now)) {
+            log.info("Skipping uncommitted workflow outbox event, re-checking until the gap horizon: subscriber={}, eventId={}",
+                    subscriber, id);
+        }
+    }
+
+    private static List<WorkflowEventMessage> toMessages(List<WorkflowOutboxEvent> late, List<WorkflowOutboxEvent> events) {
+        List<WorkflowEventMessage> messages = new ArrayList<>(late.size() + events.size());
+        for (WorkflowOutboxEvent event : late) {
+            WorkflowEventMessage message = toMessage(event);
+            message.setLate(true);
+            messages.add(message);
+        }
+        events.forEach(event -> messages.add(toMessage(event)));
+        return messages;
+    }
+
+    private List<WorkflowOutboxEvent> fetch(long afterId) {
+        return outboxRepository.findAfter(afterId, PageRequest.of(0, config.getBatchSize()));
+    }
+
+    /**
+     * Events up to the first ID gap that may still be filled by an uncommitted transaction.
+     * A gap is waited for until the event after it is older than the grace period; after that
+     * the relay moves past it and keeps re-checking the missing IDs (see {@link WorkflowOutboxGaps}).
+     */
+    static List<WorkflowOutboxEvent> committedPrefix(List<WorkflowOutboxEvent> events, long afterId,
+                                                     LocalDateTime now, Duration gapGrace) {
+        long expected = afterId + 1;
+        LocalDateTime gapCutoff = now.minus(gapGrace);
+        for (int i = 0; i < events.size(); i++) {
+            WorkflowOutboxEvent event = events.get(i);
+            if (event.getId() != expected && event.getCreatedAt().isAfter(gapCutoff)) {
+                return events.subList(0, i);
+            }
+            expected = event.getId() + 1;
+        }
+        return events;
+    }
+
+    static WorkflowEventMessage toMessage(WorkflowOutboxEvent event) {
+        return WorkflowEventMessage.builder()
+                .eventId(event.getId())
+                .type(event.getEventType())
+                .workflowId(event.getWorkflowId())
+                .title(event.getTitle())
+                .state(event.getState())
+                .previousState(event.getPreviousState())
+                .createdById(event.getCreatedById())
+                .assignedToId(event.getAssignedToId())
+                .previousAssignedToId(event.getPreviousAssignedToId())
+                .actor(event.getActor())
+                .source(event.getSource())
+                .occurredAt(event.getCreatedAt())
+                .build();
+    }
+}
@@ -1,30 +1,49 @@
 package com.company.platform.workflows.service;
 
 import com.company.platform.audit.domain.AuditAction;
+import com.company.platform.audit.domain.AuditLog;
 import com.company.platform.audit.service.AuditService;
+import com.company.platform.common.exception.BusinessException;
 import com.company.platform.common.exception.ForbiddenException;
 import com.company.platform.common.exception.NotFoundException;
+import com.company.platform.common.response.CursorPageResponse;
+import com.company.platform.common.util.KeysetCursor;
 import com.company.platform.users.domain.User;
 import com.company.platform.users.repository.UserRepository;
 import com.company.platform.workflows.domain.WorkflowAction;
+import com.company.platform.workflows.domain.WorkflowEventType;
 import com.company.platform.workflows.domain.WorkflowItem;
+import com.company.platform.workflows.domain.WorkflowOutboxEvent;
 import com.company.platform.workflows.domain.WorkflowState;
+import com.company.platform.workflows.dto.WorkflowBulkTransitionRequest;
+import com.company.platform.workflows.dto.WorkflowBulkTransitionResponse;
 import com.company.platform.workflows.dto.WorkflowCreateRequest;
 import com.company.platform.workflows.dto.WorkflowResponse;
 import com.company.platform.workflows.dto.WorkflowTransitionRequest;
 import com.company.platform.workflows.dto.WorkflowUpdateRequest;
+import com.company.platform.workflows.repository.WorkflowFullTextSearchRepository;
+import com.company.platform.workflows.repository.WorkflowItemBatchRepository;
 import com.company.platform.workflows.repository.WorkflowItemRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -35,11 +54,22 @@ public class WorkflowService {
     private final UserRepository userRepository;
     private final WorkflowEngine workflowEngine;
     private final AuditService auditService;
+    private final WorkflowItemBatchRepository workflowBatchRepository;
+    private final WorkflowFullTextSearchRepository fullTextSearchRepository;
+    private final WorkflowOutbox workflowOutbox;
+    private final WorkflowStatsService workflowStatsService;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final String WORKFLOW_OPERATION_TIMER = "workflow.operation";
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}")
+    private int batchSize;
 
     // ------------------------------------------------------------
     // CREATE WORKFLOW  (Admin + Manager)
     // ------------------------------------------------------------
     @Transactional
+    @Timed(value = WORKFLOW_OPERATION_TIMER, histogram = true)
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public WorkflowResponse createWorkflow(WorkflowCreateRequest request, User currentUser) throws JsonProcessingException {
 
@@ -58,6 +88,9 @@ public class WorkflowService {
 
         workflow = workflowRepository.save(workflow);
 
+        workflowOutbox.record(WorkflowOutbox.event(WorkflowEventType.CREATED, workflow, currentUser, WorkflowOutbox.SOURCE_API));
+        workflowStatsService.recordCreated(workflow);
+
         auditService.logAction(
                 AuditAction.WORKFLOW_CREATED,
                 "WorkflowItem",
@@ -77,6 +110,7 @@ public class WorkflowService {
     // Viewers can only access workflows assigned to them
     // ------------------------------------------------------------
     @Transactional(readOnly = true)
+    @Timed(value = WORKFLOW_OPERATION_TIMER, histogram = true)
     public WorkflowResponse getWorkflowById(Long id, User currentUser) {
 
         WorkflowItem workflow = workflowRepository.findById(id)
@@ -100,6 +134,7 @@ public class WorkflowService {
     // Viewer -> only workflows assigned to the viewer
     // ------------------------------------------------------------
     @Transactional(readOnly = true)
+    @Timed(value = WORKFLOW_OPERATION_TIMER, histogram = true)
     public Page<WorkflowResponse> getAllWorkflows(Pageable pageable, User currentUser) {
 
         String roleName = currentUser.getRole().getName();
@@ -108,12 +143,62 @@ public class WorkflowService {
         if ("VIEWER".equalsIgnoreCase(roleName) || "REVIEWER".equalsIgnoreCase(roleName)) {
             // Viewers and Reviewers only see workflows assigned to them
             return workflowRepository.findByAssignedTo(currentUser, pageable)
-                    .map(this::toDTO);
+                    .map(WorkflowService::toDTO);
         }
 
         // Admin, Manager, Reviewer see all workflows
         return workflowRepository.findAll(pageable)
-                .map(this::toDTO);
+                .map(WorkflowService::toDTO);
+    }
+
+
+    // ------------------------------------------------------------
+    // LIST WORKFLOWS BY CURSOR (keyset pagination, no count query)
+    // Same visibility rules as getAllWorkflows
+    // ------------------------------------------------------------
+    @Transactional(readOnly = true)
+    @Timed(value = WORKFLOW_OPERATION_TIMER, histogram = true)
+    public CursorPageResponse<WorkflowResponse> getWorkflowsByCursor(
+            String cursor,
+            int size,
+            WorkflowState state,
+            java.time.LocalDateTime fromDate,
+            java.time.LocalDateTime toDate,
+            User currentUser) {
+
+        String roleName = currentUser.getRole().getName();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        // Viewers and Reviewers only see workflows assigned to them
+        Long assignedToId = "VIEWER".equalsIgnoreCase(roleName) || "REVIEWER".equalsIgnoreCase(roleName)
+                ? currentUser.getId() : null;
+
+        Slice<WorkflowItem> slice = workflowRepository.findWorkflowsAfterCursor(
+                assignedToId,
+                state,
+                fromDate,
+                toDate,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                PageRequest.of(0, pageSize));
+
+        List<WorkflowResponse> content = slice.getContent().stream()
+                .map(WorkflowService::toDTO)
+                .toList();
+
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            WorkflowResponse last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<WorkflowResponse>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
     }
 
 
@@ -121,6 +206,7 @@ public class WorkflowService {
     // SEARCH WORKFLOWS (Admin + Manager + Reviewer)
     // ------------------------------------------------------------
     @Transactional(readOnly = true)
+    @Timed(value = WORKFLOW_OPERATION_TIMER, histogram = true)
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'REVIEWER')")
     public Page<WorkflowResponse> searchWorkflows(
             WorkflowState state,
@@ -129,9 +215,40 @@ public class WorkflowService {
             java.time.LocalDateTime toDate,
             Pageable pageable) {
 
+        if (fullTextSearchRepository.supports(search, pageable.getSort())) {
+            return searchWorkflowsFullText(state, search, fromDate, toDate, pageable);
+        }
+
         return workflowRepository
                 .searchWorkflows(state, search, fromDate, toDate, pageable)
-                .map(this::toDTO);
+                .map(WorkflowService::toDTO);
+    }
+
+    // Relevance-ranked search through the FULLTEXT index; items are fetched in one query
+    private Page<WorkflowResponse> searchWorkflowsFullText(
+            WorkflowState state,
+            String search,
+            java.time.LocalDateTime fromDate,
+            java.time.LocalDateTime toDate,
+            Pageable pageable) {
+
+        Page<Long> ids = fullTextSearchRepository.searchIds(search, state, fromDate, toDate, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+
+        Map<Long, WorkflowItem> workflows = new HashMap<>();
+        for (WorkflowItem workflow : workflowRepository.findAllByIdIn(ids.getContent())) {
+            workflows.put(workflow.getId(), workflow);
+        }
+
+        List<WorkflowResponse> content = ids.getContent().stream()
+                .map(workflows::get)
+                .filter(Objects::nonNull)
+                .map(WorkflowService::toDTO)
+                .toList();
+
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
     }
 
 
@@ -139,6 +256,7 @@ public class WorkflowService {
     // UPDATE WORKFLOW (Admin + Manager)
     // ------------------------------------------------------------
     @Transactional
+    @Timed(value = WORKFLOW_OPERATION_TIMER, histogram = true)
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public WorkflowResponse updateWorkflow(Long id, WorkflowUpdateRequest request, User currentUser) throws JsonProcessingException {
 
@@ -155,6 +273,8 @@ public class WorkflowService {
 
         Map<String, String> oldValues = new HashMap<>();
         Map<String, String> newValues = new HashMap<>();
+        Long previousAssignedToId = workflow.getAssignedTo() != null ? workflow.getAssignedTo().getId() : null;
+        String previousPriority = workflow.getPriority();
 
         if (request.getTitle() != null && !request.getTitle().equals(workflow.getTitle())) {
             oldValues.put("title", workflow.getTitle());
@@ -184,6 +304,15 @@ public class WorkflowService {
 
         workflow = workflowRepository.save(workflow);
 
+        WorkflowOutboxEvent event = WorkflowOutbox.event(WorkflowEventType.UPDATED, workflow, currentUser, WorkflowOutbox.SOURCE_API);
+        if (!Objects.equals(previousAssignedToId, event.getAssignedToId())) {
+            event.setPreviousAssignedToId(previousAssignedToId);
+        }
+        workflowOutbox.record(event);
+        if (!Objects.equals(previousPriority, workflow.getPriority())) {
+            workflowStatsService.recordPriorityChange(previousPriority, workflow.getPriority());
+        }
+
         auditService.logAction(
                 AuditAction.WORKFLOW_UPDATED,
                 "WorkflowItem",
@@ -202,18 +331,23 @@ public class WorkflowService {
     // TRANSITION WORKFLOW (Admin + Reviewer)
     // ------------------------------------------------------------
     @Transactional
+    @Timed(value = WORKFLOW_OPERATION_TIMER, histogram = true)
     @PreAuthorize("hasAnyRole('ADMIN', 'REVIEWER')")
     public WorkflowResponse transitionWorkflow(Long id, WorkflowTransitionRequest request, User currentUser) throws JsonProcessingException {
 
         WorkflowItem workflow = workflowRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Workflow not found: " + id));
 
+        WorkflowState previousState = workflow.getState();
         WorkflowState newState = workflowEngine.processTransition(workflow, request.getAction(), currentUser);
 
         workflow.setState(newState);
 
         workflow = workflowRepository.save(workflow);
 
+        workflowOutbox.record(WorkflowOutbox.transition(workflow, previousState, currentUser, WorkflowOutbox.SOURCE_API));
+        workflowStatsService.recordTransition(previousState, newState);
+
         auditService.logAction(
                 AuditAction.WORKFLOW_UPDATED,
                 "WorkflowItem",
@@ -228,17 +362,121 @@ public class WorkflowService {
     }
 
 
+    // ------------------------------------------------------------
+    // BULK TRANSITION WORKFLOWS (Admin + Reviewer)
+    // Loads all items in one query, validates each through the engine,
+    // then writes state changes and audit rows with JDBC batches.
+    // ------------------------------------------------------------
+    @Transactional
+    @Timed(value = WORKFLOW_OPERATION_TIMER, histogram = true)
+    @PreAuthorize("hasAnyRole('ADMIN', 'REVIEWER')")
+    public WorkflowBulkTransitionResponse bulkTransitionWorkflows(WorkflowBulkTransitionRequest request, User currentUser) throws JsonProcessingException {
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getWorkflowIds()));
+        WorkflowAction action = request.getAction();
+
+        log.info("Bulk transitioning {} workflows: action={}, user={}", ids.size(), action, currentUser.getUsername());
+
+        Map<Long, WorkflowItem> workflows = new HashMap<>();
+        for (WorkflowItem workflow : workflowRepository.findAllByIdIn(ids)) {
+            workflows.put(workflow.getId(), workflow);
+        }
+
+        List<WorkflowBulkTransitionResponse.ItemResult> results = new ArrayList<>(ids.size());
+        List<WorkflowItemBatchRepository.StateChange> changes = new ArrayList<>();
+        List<WorkflowBulkTransitionResponse.ItemResult> pending = new ArrayList<>();
+
+        for (Long id : ids) {
+            WorkflowItem workflow = workflows.get(id);
+            if (workflow == null) {
+                results.add(failure(id, null, "RESOURCE_NOT_FOUND", "Workflow not found: " + id));
+                continue;
+            }
+
+            try {
+                // The engine only reads the item, so managed entities stay clean
+                WorkflowState newState = workflowEngine.processTransition(workflow, action, currentUser);
+
+                changes.add(new WorkflowItemBatchRepository.StateChange(
+                        id, workflow.getVersion(), newState, request.getComments()));
+
+                WorkflowBulkTransitionResponse.ItemResult result = WorkflowBulkTransitionResponse.ItemResult.builder()
+                        .workflowId(id)
+                        .success(true)
+                        .previousState(workflow.getState())
+                        .newState(newState)
+                        .build();
+                results.add(result);
+                pending.add(result);
+            } catch (BusinessException e) {
+                results.add(failure(id, workflow.getState(), e.getErrorCode(), e.getMessage()));
+            }
+        }
+
+        boolean[] applied = workflowBatchRepository.updateStates(changes, batchSize);
+
+        List<AuditLog> auditLogs = new ArrayList<>(pending.size());
+        List<WorkflowOutboxEvent> events = new ArrayList<>(pending.size());
+        List<WorkflowStatsService.Transition> transitions = new ArrayList<>(pending.size());
+        for (int i = 0; i < pending.size(); i++) {
+            WorkflowBulkTransitionResponse.ItemResult result = pending.get(i);
+            if (!applied[i]) {
+                result.setSuccess(false);
+                result.setNewState(null);
+                result.setErrorCode("CONCURRENT_MODIFICATION");
+                result.setMessage("Workflow was modified concurrently: " + result.getWorkflowId());
+                continue;
+            }
+            WorkflowOutboxEvent event = WorkflowOutbox.transition(
+                    workflows.get(result.getWorkflowId()), result.getPreviousState(), currentUser, WorkflowOutbox.SOURCE_BULK);
+            event.setState(result.getNewState());
+            events.add(event);
+            transitions.add(new WorkflowStatsService.Transition(result.getPreviousState(), result.getNewState()));
+            auditLogs.add(auditService.buildAuditLog(
+                    AuditAction.WORKFLOW_UPDATED,
+                    "WorkflowItem",
+                    result.getWorkflowId(),
+                    "Workflow transitioned (bulk)",
+                    currentUser,
+                    Map.of("oldState", result.getPreviousState().name()),
+                    Map.of("newState", result.getNewState().name())
+            ));
+        }
+
+        workflowOutbox.recordAll(events);
+        workflowStatsService.recordTransitions(transitions);
+        auditService.logActions(auditLogs);
+
+        int succeeded = (int) results.stream().filter(WorkflowBulkTransitionResponse.ItemResult::isSuccess).count();
+
+        log.info("Bulk transition completed: action={}, succeeded={}, failed={}",
+                action, succeeded, results.size() - succeeded);
+
+        return WorkflowBulkTransitionResponse.builder()
+                .action(action)
+                .requested(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+
     // ------------------------------------------------------------
     // DELETE WORKFLOW (Admin only)
     // ------------------------------------------------------------
     @Transactional
+    @Timed(value = WORKFLOW_OPERATION_TIMER, histogram = true)
     @PreAuthorize("hasRole('ADMIN')")
     public void deleteWorkflow(Long id, User currentUser) throws JsonProcessingException {
 
         WorkflowItem workflow = workflowRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Workflow not found: " + id));
 
+        workflowOutbox.record(WorkflowOutbox.event(WorkflowEventType.DELETED, workflow, currentUser, WorkflowOutbox.SOURCE_API));
+
         workflowRepository.delete(workflow);
+        workflowStatsService.recordDeleted(workflow);
 
         auditService.logAction(
                 AuditAction.WORKFLOW_DELETED,
@@ -252,8 +490,29 @@ public class WorkflowService {
     }
 
 
-    // Convert to DTO
-    private WorkflowResponse toDTO(WorkflowItem workflow) {
+    // ------------------------------------------------------------
+    // RELOAD TRANSITION RULES (Admin only)
+    // ------------------------------------------------------------
+    @PreAuthorize("hasRole('ADMIN')")
+    public int reloadTransitionRules() {
+        log.info("Reloading workflow transition rules");
+        return workflowEngine.reloadTransitions();
+    }
+
+
+    private WorkflowBulkTransitionResponse.ItemResult failure(Long id, WorkflowState state, String errorCode, String message) {
+        return WorkflowBulkTransitionResponse.ItemResult.builder()
+                .workflowId(id)
+                .success(false)
+                .previousState(state)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+
+
+    // Convert to DTO (package-private for benchmarks)
+    static WorkflowResponse toDTO(WorkflowItem workflow) {
         return WorkflowResponse.builder()
                 .id(workflow.getId())
                 .title(workflow.getTitle())
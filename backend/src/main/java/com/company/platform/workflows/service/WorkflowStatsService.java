@@ -0,0 +1,220 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.workflows.config.WorkflowStatsConfig;
+import com.company.platform.workflows.domain.WorkflowItem;
+import com.company.platform.workflows.domain.WorkflowState;
+import com.company.platform.workflows.domain.WorkflowStatsDimension;
+import com.company.platform.workflows.dto.WorkflowStatsResponse;
+import com.company.platform.workflows.repository.WorkflowStatsCounterRepository;
+import com.company.platform.workflows.repository.WorkflowStatsCounterRepository.Count;
+import com.company.platform.workflows.repository.WorkflowStatsCounterRepository.WorkflowCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Workflow counts by state, priority and category for dashboards.
+ * Counts live in the workflow_stats_counters summary table and are adjusted in the transaction
+ * that changes a workflow, so reads never touch workflow_items. A scheduled reconciliation
+ * corrects any drift, e.g. from rows changed outside this service.
+ */
+@Component
+@Slf4j
+public class WorkflowStatsService {
+    
+    static final String UNSPECIFIED = "UNSPECIFIED";
+    
+    private static final Comparator<Key> KEY_ORDER =
+            Comparator.comparing(Key::dimension).thenComparing(Key::bucket);
+    
+    private final WorkflowStatsCounterRepository counterRepository;
+    private final WorkflowStatsConfig config;
+    private final TransactionTemplate reconcileTransaction;
+    
+    public WorkflowStatsService(WorkflowStatsCounterRepository counterRepository,
+                                WorkflowStatsConfig config,
+                                PlatformTransactionManager transactionManager) {
+        this.counterRepository = counterRepository;
+        this.config = config;
+        this.reconcileTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+    
+    /**
+     * A workflow moving from one state to another.
+     */
+    public record Transition(WorkflowState from, WorkflowState to) {
+    }
+    
+    record Key(WorkflowStatsDimension dimension, String bucket) {
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(WorkflowItem workflow) {
+        Map<Key, Long> deltas = new TreeMap<>(KEY_ORDER);
+        addWorkflow(deltas, workflow.getState(), workflow.getPriority(), workflow.getCategory(), 1);
+        increment(deltas);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(WorkflowItem workflow) {
+        Map<Key, Long> deltas = new TreeMap<>(KEY_ORDER);
+        addWorkflow(deltas, workflow.getState(), workflow.getPriority(), workflow.getCategory(), -1);
+        increment(deltas);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPriorityChange(String previousPriority, String priority) {
+        Map<Key, Long> deltas = new TreeMap<>(KEY_ORDER);
+        add(deltas, WorkflowStatsDimension.PRIORITY, previousPriority, -1);
+        add(deltas, WorkflowStatsDimension.PRIORITY, priority, 1);
+        increment(deltas);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(WorkflowState from, WorkflowState to) {
+        recordTransitions(List.of(new Transition(from, to)));
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(List<Transition> transitions) {
+        Map<Key, Long> deltas = new TreeMap<>(KEY_ORDER);
+        for (Transition transition : transitions) {
+            add(deltas, WorkflowStatsDimension.STATE, transition.from().name(), -1);
+            add(deltas, WorkflowStatsDimension.STATE, transition.to().name(), 1);
+        }
+        increment(deltas);
+    }
+    
+    /**
+     * Current counts, read from the summary table.
+     */
+    public WorkflowStatsResponse getStats() {
+        long total = 0;
+        Map<String, Long> byState = new LinkedHashMap<>();
+        for (WorkflowState state : WorkflowState.values()) {
+            byState.put(state.name(), 0L);
+        }
+        Map<String, Long> byPriority = new TreeMap<>();
+        Map<String, Long> byCategory = new TreeMap<>();
+        
+        for (Count count : counterRepository.findTotals()) {
+            switch (count.dimension()) {
+                case TOTAL -> total = count.count();
+                case STATE -> byState.put(count.bucket(), count.count());
+                case PRIORITY -> putIfPositive(byPriority, count);
+                case CATEGORY -> putIfPositive(byCategory, count);
+            }
+        }
+        
+        return WorkflowStatsResponse.builder()
+                .total(total)
+                .byState(byState)
+                .byPriority(byPriority)
+                .byCategory(byCategory)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+    
+    /**
+     * Recount workflow_items and correct the counters by the difference.
+     * Runs on one replica at a time; the first run after a deploy also fills an empty table.
+     */
+    @Scheduled(fixedDelayString = "${workflow.stats.reconcile-interval:PT10M}")
+    public void reconcile() {
+        try {
+            counterRepository.ensureReconcileLock();
+            List<Count> corrections = reconcileTransaction.execute(status -> {
+                if (!counterRepository.lockReconcile()) {
+                    return null;
+                }
+                // Under REPEATABLE READ both reads see one snapshot, taken after the lock. Increments
+                // commit with their workflow change, so each is in both reads or in neither
+                List<Count> applied = corrections(
+                        actualCounts(counterRepository.countWorkflows()), counterRepository.findTotals());
+                counterRepository.increment(applied, 0);
+                return applied;
+            });
+            if (corrections == null) {
+                log.debug("Workflow stats reconciliation running on another instance");
+            } else if (!corrections.isEmpty()) {
+                log.warn("Workflow stats reconciled: {} counts corrected {}", corrections.size(), corrections);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile workflow stats: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Counts per bucket from a GROUP BY over workflow_items.
+     */
+    static Map<Key, Long> actualCounts(List<WorkflowCount> workflowCounts) {
+        Map<Key, Long> counts = new HashMap<>();
+        for (WorkflowCount count : workflowCounts) {
+            addWorkflow(counts, WorkflowState.valueOf(count.state()), count.priority(), count.category(), count.count());
+        }
+        return counts;
+    }
+    
+    /**
+     * Non-zero differences between actual and counted values, in lock order.
+     */
+    static List<Count> corrections(Map<Key, Long> actual, List<Count> counted) {
+        Map<Key, Long> deltas = new TreeMap<>(KEY_ORDER);
+        deltas.putAll(actual);
+        for (Count count : counted) {
+            deltas.merge(new Key(count.dimension(), count.bucket()), -count.count(), Long::sum);
+        }
+        return toCounts(deltas);
+    }
+    
+    private void increment(Map<Key, Long> deltas) {
+        int slot = ThreadLocalRandom.current().nextInt(Math.max(1, config.getCounterSlots()));
+        counterRepository.increment(toCounts(deltas), slot);
+    }
+    
+    private static void addWorkflow(Map<Key, Long> deltas, WorkflowState state, String priority, String category, long delta) {
+        add(deltas, WorkflowStatsDimension.TOTAL, WorkflowStatsCounterRepository.TOTAL_BUCKET, delta);
+        add(deltas, WorkflowStatsDimension.STATE, state.name(), delta);
+        add(deltas, WorkflowStatsDimension.PRIORITY, priority, delta);
+        add(deltas, WorkflowStatsDimension.CATEGORY, category, delta);
+    }
+    
+    private static void add(Map<Key, Long> deltas, WorkflowStatsDimension dimension, String bucket, long delta) {
+        // Upper-cased like the database's case-insensitive collation groups them
+        String name = bucket == null || bucket.isBlank() ? UNSPECIFIED : bucket.trim().toUpperCase(Locale.ROOT);
+        deltas.merge(new Key(dimension, name), delta, Long::sum);
+    }
+    
+    private static List<Count> toCounts(Map<Key, Long> deltas) {
+        List<Count> counts = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                counts.add(new Count(key.dimension(), key.bucket(), delta));
+            }
+        });
+        return counts;
+    }
+    
+    private static void putIfPositive(Map<String, Long> counts, Count count) {
+        if (count.count() > 0) {
+            counts.put(count.bucket(), count.count());
+        }
+    }
+}
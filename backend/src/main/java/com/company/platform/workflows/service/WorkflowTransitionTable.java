@@ -0,0 +1,105 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.workflows.domain.WorkflowAction;
+import com.company.platform.workflows.domain.WorkflowState;
+import com.company.platform.workflows.domain.WorkflowTransition;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, in-memory snapshot of the workflow_transitions table.
+ * Answers state x action x role lookups without touching the database.
+ */
+public final class WorkflowTransitionTable {
+
+    private final Map<WorkflowState, Map<WorkflowAction, WorkflowState>> targets;
+    private final Map<String, Map<WorkflowState, Set<WorkflowAction>>> actionsByRole;
+    private final int size;
+
+    private WorkflowTransitionTable(Map<WorkflowState, Map<WorkflowAction, WorkflowState>> targets,
+                                    Map<String, Map<WorkflowState, Set<WorkflowAction>>> actionsByRole,
+                                    int size) {
+        this.targets = targets;
+        this.actionsByRole = actionsByRole;
+        this.size = size;
+    }
+
+    /**
+     * Compile transition rows into lookup maps.
+     * The first row for a (fromState, action) pair defines the target state.
+     */
+    public static WorkflowTransitionTable compile(List<WorkflowTransition> transitions) {
+        Map<WorkflowState, Map<WorkflowAction, WorkflowState>> targets = new EnumMap<>(WorkflowState.class);
+        Map<String, Map<WorkflowState, Set<WorkflowAction>>> actionsByRole = new HashMap<>();
+
+        for (WorkflowTransition transition : transitions) {
+            targets.computeIfAbsent(transition.getFromState(), s -> new EnumMap<>(WorkflowAction.class))
+                    .putIfAbsent(transition.getAction(), transition.getToState());
+
+            if (transition.getAllowedRole() != null) {
+                actionsByRole.computeIfAbsent(normalizeRole(transition.getAllowedRole().getName()),
+                                r -> new EnumMap<>(WorkflowState.class))
+                        .computeIfAbsent(transition.getFromState(), s -> EnumSet.noneOf(WorkflowAction.class))
+                        .add(transition.getAction());
+            }
+        }
+
+        // Freeze the nested structures
+        targets.replaceAll((state, byAction) -> Collections.unmodifiableMap(byAction));
+        actionsByRole.replaceAll((role, byState) -> {
+            byState.replaceAll((state, actions) -> Collections.unmodifiableSet(actions));
+            return Collections.unmodifiableMap(byState);
+        });
+
+        return new WorkflowTransitionTable(
+                Collections.unmodifiableMap(targets),
+                Collections.unmodifiableMap(actionsByRole),
+                transitions.size());
+    }
+
+    /**
+     * Check whether the role may perform the action from the given state.
+     */
+    public boolean isAllowed(WorkflowState fromState, WorkflowAction action, String roleName) {
+        return allowedActions(fromState, roleName).contains(action);
+    }
+
+    /**
+     * Target state for an action from the given state, or null if no rule exists.
+     */
+    public WorkflowState targetState(WorkflowState fromState, WorkflowAction action) {
+        Map<WorkflowAction, WorkflowState> byAction = targets.get(fromState);
+        return byAction != null ? byAction.get(action) : null;
+    }
+
+    /**
+     * Actions the role may perform from the given state.
+     */
+    public Set<WorkflowAction> allowedActions(WorkflowState fromState, String roleName) {
+        if (roleName == null) {
+            return Set.of();
+        }
+        Map<WorkflowState, Set<WorkflowAction>> byState = actionsByRole.get(normalizeRole(roleName));
+        if (byState == null) {
+            return Set.of();
+        }
+        return byState.getOrDefault(fromState, Set.of());
+    }
+
+    /**
+     * Number of transition rows the table was compiled from.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static String normalizeRole(String roleName) {
+        return roleName.trim().toUpperCase();
+    }
+}
@@ -0,0 +1,153 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.common.exception.ConflictException;
+import com.company.platform.common.exception.ValidationException;
+import com.company.platform.workflows.domain.WorkflowTriggerIdempotency;
+import com.company.platform.workflows.dto.WorkflowTriggerRequest;
+import com.company.platform.workflows.dto.WorkflowTriggerResponse;
+import com.company.platform.workflows.repository.WorkflowTriggerIdempotencyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * TTL store of workflow trigger idempotency keys and the responses they produced.
+ * Backed by the database so retries are deduplicated across all backend replicas.
+ * A key is claimed inside the trigger's transaction; a concurrent trigger with the
+ * same key blocks on the unique index and then fails with a conflict.
+ * Each key is bound to a fingerprint of the request it was claimed for, so reusing it
+ * for a different trigger is rejected instead of replaying an unrelated response.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WorkflowTriggerIdempotencyStore {
+    
+    public static final String HEADER = "Idempotency-Key";
+    public static final String METADATA_KEY = "idempotencyKey";
+    private static final int MAX_KEY_LENGTH = 200;
+    
+    private final WorkflowTriggerIdempotencyRepository repository;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${workflow.trigger-idempotency.ttl:24h}")
+    private Duration ttl;
+    
+    /**
+     * Idempotency key from the header, falling back to metadata.idempotencyKey.
+     *
+     * @return Key, or null if the trigger is not idempotent
+     */
+    public String resolveKey(String headerKey, WorkflowTriggerRequest request) {
+        String key = headerKey;
+        if ((key == null || key.isBlank()) && request.getMetadata() != null) {
+            Object metadataKey = request.getMetadata().get(METADATA_KEY);
+            key = metadataKey != null ? metadataKey.toString() : null;
+        }
+        if (key == null || key.isBlank()) {
+            return null;
+        }
+        key = key.trim();
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException("Idempotency key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+        return key;
+    }
+    
+    /**
+     * Fingerprint of a trigger: SHA-256 of the workflow name and the request body.
+     */
+    public String fingerprint(String workflowName, WorkflowTriggerRequest request) {
+        try {
+            byte[] body = objectMapper.writer()
+                    .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsBytes(request);
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(workflowName.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Trigger request cannot be fingerprinted: " + e.getOriginalMessage());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    /**
+     * Response previously recorded for this key, if it has not expired.
+     * Throws ConflictException if the key was used for a different request.
+     */
+    public Optional<WorkflowTriggerResponse> findResponse(String key, Long userId, String fingerprint) {
+        return repository.findLive(userId, key, LocalDateTime.now())
+                .filter(record -> record.getResponse() != null)
+                .map(record -> {
+                    // Keys recorded before fingerprints were stored match any request
+                    if (record.getRequestFingerprint() != null && !record.getRequestFingerprint().equals(fingerprint)) {
+                        throw new ConflictException("Idempotency key was already used for a different trigger request");
+                    }
+                    return read(record.getResponse());
+                });
+    }
+    
+    /**
+     * Claim the key for the current transaction.
+     * Throws DataIntegrityViolationException if another trigger holds it.
+     */
+    public WorkflowTriggerIdempotency claim(String key, Long userId, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        repository.deleteExpired(userId, key, now);
+        return repository.saveAndFlush(WorkflowTriggerIdempotency.builder()
+                .idempotencyKey(key)
+                .userId(userId)
+                .requestFingerprint(fingerprint)
+                .expiresAt(now.plus(ttl))
+                .build());
+    }
+    
+    /**
+     * Record the trigger's response. Failed triggers release the key so they can be retried.
+     */
+    public void complete(WorkflowTriggerIdempotency claim, WorkflowTriggerResponse response) {
+        if (!response.isSuccess()) {
+            repository.delete(claim);
+            return;
+        }
+        try {
+            claim.setResponse(objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not store idempotent trigger response: key={}, error={}", claim.getIdempotencyKey(), e.getMessage());
+            repository.delete(claim);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${workflow.trigger-idempotency.purge-interval:PT10M}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = repository.deleteAllExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired workflow trigger idempotency keys", purged);
+        }
+    }
+    
+    private WorkflowTriggerResponse read(String json) {
+        try {
+            return objectMapper.readValue(json, WorkflowTriggerResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored trigger response is not readable", e);
+        }
+    }
+}
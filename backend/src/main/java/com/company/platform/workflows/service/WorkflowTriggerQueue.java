@@ -0,0 +1,167 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.common.exception.ForbiddenException;
+import com.company.platform.common.exception.NotFoundException;
+import com.company.platform.common.exception.ValidationException;
+import com.company.platform.common.util.CorrelationIdUtil;
+import com.company.platform.users.domain.User;
+import com.company.platform.workflows.domain.WorkflowAction;
+import com.company.platform.workflows.domain.WorkflowTriggerTask;
+import com.company.platform.workflows.domain.WorkflowTriggerTaskStatus;
+import com.company.platform.workflows.dto.WorkflowTriggerRequest;
+import com.company.platform.workflows.dto.WorkflowTriggerResponse;
+import com.company.platform.workflows.dto.WorkflowTriggerTicketResponse;
+import com.company.platform.workflows.repository.WorkflowItemRepository;
+import com.company.platform.workflows.repository.WorkflowTriggerTaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Durable queue for workflow triggers accepted in async mode.
+ * Triggers are validated and stored in the workflow_trigger_tasks table, then processed
+ * by {@link WorkflowTriggerQueueWorker} on any backend replica.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WorkflowTriggerQueue {
+    
+    /**
+     * Tickets a retried enqueue with the same idempotency key resolves to; failed tickets may be retried.
+     */
+    private static final EnumSet<WorkflowTriggerTaskStatus> REUSABLE_STATUSES = EnumSet.of(
+            WorkflowTriggerTaskStatus.PENDING,
+            WorkflowTriggerTaskStatus.PROCESSING,
+            WorkflowTriggerTaskStatus.COMPLETED);
+    
+    private final WorkflowTriggerTaskRepository taskRepository;
+    private final WorkflowItemRepository workflowRepository;
+    private final WorkflowTriggerIdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Validate a trigger and queue it for processing.
+     * Enqueuing again with the same idempotency key returns the existing ticket.
+     * 
+     * @param idempotencyKeyHeader Value of the Idempotency-Key header, may be null
+     * @return Ticket in PENDING state, or the existing ticket for the idempotency key
+     */
+    @Transactional
+    public WorkflowTriggerTicketResponse enqueue(
+            String workflowName,
+            WorkflowTriggerRequest request,
+            User currentUser,
+            String idempotencyKeyHeader) {
+        
+        validate(request);
+        String idempotencyKey = idempotencyStore.resolveKey(idempotencyKeyHeader, request);
+        
+        if (idempotencyKey != null) {
+            Optional<WorkflowTriggerTask> existing = taskRepository
+                    .findFirstByUserIdAndIdempotencyKeyAndStatusInOrderByIdDesc(
+                            currentUser.getId(), idempotencyKey, REUSABLE_STATUSES);
+            if (existing.isPresent()) {
+                log.info("Workflow trigger already queued: ticket={}, key={}, user={}",
+                        existing.get().getTicketId(), idempotencyKey, currentUser.getUsername());
+                return toResponse(existing.get());
+            }
+        }
+        
+        WorkflowTriggerTask task = WorkflowTriggerTask.builder()
+                .ticketId(UUID.randomUUID().toString())
+                .workflowName(workflowName)
+                .workflowId(request.getWorkflowId())
+                .partitionKey(partitionKey(workflowName, request))
+                .request(write(request))
+                .userId(currentUser.getId())
+                .idempotencyKey(idempotencyKey)
+                .correlationId(CorrelationIdUtil.getOrGenerateCorrelationId())
+                .status(WorkflowTriggerTaskStatus.PENDING)
+                .attempts(0)
+                .build();
+        task = taskRepository.save(task);
+        
+        log.info("Workflow trigger queued: ticket={}, name={}, workflowId={}, user={}",
+                task.getTicketId(), workflowName, request.getWorkflowId(), currentUser.getUsername());
+        return toResponse(task);
+    }
+    
+    /**
+     * Status of a queued trigger. Only the submitting user and admins may see a ticket.
+     */
+    @Transactional(readOnly = true)
+    public WorkflowTriggerTicketResponse getTicket(String ticketId, User currentUser) {
+        WorkflowTriggerTask task = taskRepository.findByTicketId(ticketId)
+                .orElseThrow(() -> new NotFoundException("Trigger ticket not found: " + ticketId));
+        
+        boolean isAdmin = currentUser.getRole() != null && "ADMIN".equalsIgnoreCase(currentUser.getRole().getName());
+        if (!isAdmin && !task.getUserId().equals(currentUser.getId())) {
+            throw new ForbiddenException("You can only view your own trigger tickets");
+        }
+        return toResponse(task);
+    }
+    
+    /**
+     * Reject triggers that would certainly fail once processed.
+     */
+    private void validate(WorkflowTriggerRequest request) {
+        if (request.getAction() != null) {
+            try {
+                WorkflowAction.valueOf(request.getAction().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Invalid workflow action: " + request.getAction());
+            }
+        }
+        if (request.getWorkflowId() != null && !workflowRepository.existsById(request.getWorkflowId())) {
+            throw new NotFoundException("Workflow not found: " + request.getWorkflowId());
+        }
+    }
+    
+    /**
+     * Triggers for the same workflow are processed in order; named triggers are ordered per name.
+     */
+    private static String partitionKey(String workflowName, WorkflowTriggerRequest request) {
+        return request.getWorkflowId() != null
+                ? "workflow:" + request.getWorkflowId()
+                : "name:" + workflowName;
+    }
+    
+    private WorkflowTriggerTicketResponse toResponse(WorkflowTriggerTask task) {
+        WorkflowTriggerResponse result = null;
+        if (task.getResponse() != null) {
+            try {
+                result = objectMapper.readValue(task.getResponse(), WorkflowTriggerResponse.class);
+            } catch (JsonProcessingException e) {
+                log.warn("Stored trigger response is not readable: ticket={}, error={}", task.getTicketId(), e.getMessage());
+            }
+        }
+        return WorkflowTriggerTicketResponse.builder()
+                .ticketId(task.getTicketId())
+                .status(task.getStatus().name())
+                .workflowName(task.getWorkflowName())
+                .workflowId(task.getWorkflowId())
+                .attempts(task.getAttempts())
+                .acceptedAt(task.getCreatedAt())
+                .startedAt(task.getStartedAt())
+                .completedAt(task.getCompletedAt())
+                .result(result)
+                .error(task.getError())
+                .build();
+    }
+    
+    private String write(WorkflowTriggerRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new ValidationException("Trigger request cannot be serialized: " + e.getOriginalMessage());
+        }
+    }
+}
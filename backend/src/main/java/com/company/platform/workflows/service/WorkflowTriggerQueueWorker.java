@@ -0,0 +1,282 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.common.util.CorrelationIdUtil;
+import com.company.platform.users.domain.User;
+import com.company.platform.users.repository.UserRepository;
+import com.company.platform.workflows.config.WorkflowTriggerQueueConfig;
+import com.company.platform.workflows.domain.WorkflowTriggerTask;
+import com.company.platform.workflows.domain.WorkflowTriggerTaskStatus;
+import com.company.platform.workflows.dto.WorkflowTriggerRequest;
+import com.company.platform.workflows.dto.WorkflowTriggerResponse;
+import com.company.platform.workflows.repository.WorkflowTriggerTaskRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Worker pool processing queued workflow triggers.
+ * Every replica polls the queue; claims use SELECT ... FOR UPDATE SKIP LOCKED so a task is
+ * processed by one worker only, and a workflow's next trigger is not claimable until the
+ * previous one finished. A task whose worker dies is retried once its lease expires.
+ * A run holds its task's row lock and its transaction times out with the lease, so a worker
+ * that overruns its lease can never commit the trigger after the task was handed to another.
+ */
+@Component
+@Slf4j
+public class WorkflowTriggerQueueWorker {
+    
+    private static final int MAX_ERROR_LENGTH = 1000;
+    
+    private final WorkflowTriggerTaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final WorkflowIntegrationService workflowIntegrationService;
+    private final WorkflowTriggerQueueConfig config;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate runTemplate;
+    private final String workerId;
+    
+    private ExecutorService executor;
+    private Semaphore capacity;
+    
+    public WorkflowTriggerQueueWorker(WorkflowTriggerTaskRepository taskRepository,
+                                      UserRepository userRepository,
+                                      WorkflowIntegrationService workflowIntegrationService,
+                                      WorkflowTriggerQueueConfig config,
+                                      ObjectMapper objectMapper,
+                                      PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.workflowIntegrationService = workflowIntegrationService;
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.runTemplate = new TransactionTemplate(transactionManager);
+        this.runTemplate.setTimeout((int) Math.max(1, config.getLease().toSeconds()));
+        String host = System.getenv("HOSTNAME");
+        this.workerId = (host != null ? host : "backend") + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+    
+    @PostConstruct
+    void start() {
+        if (!config.isWorkerEnabled()) {
+            log.info("Workflow trigger queue worker disabled on this instance");
+            return;
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(config.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "workflow-trigger-worker-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        capacity = new Semaphore(config.getWorkers());
+        log.info("Workflow trigger queue worker started: id={}, workers={}, pollInterval={}",
+                workerId, config.getWorkers(), config.getPollInterval());
+    }
+    
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // Unfinished tasks roll back and are retried elsewhere once their lease expires
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Claim as many tasks as there are idle workers and hand them to the pool.
+     */
+    @Scheduled(fixedDelayString = "${workflow.trigger-queue.poll-interval:PT0.5S}")
+    public void poll() {
+        if (executor == null || executor.isShutdown()) {
+            return;
+        }
+        int permits = capacity.drainPermits();
+        if (permits == 0) {
+            return;
+        }
+        
+        List<Long> claimed;
+        try {
+            claimed = claim(permits);
+        } catch (RuntimeException e) {
+            capacity.release(permits);
+            log.warn("Could not claim queued workflow triggers: {}", e.getMessage());
+            return;
+        }
+        capacity.release(permits - claimed.size());
+        
+        for (Long taskId : claimed) {
+            executor.execute(() -> {
+                try {
+                    process(taskId);
+                } finally {
+                    capacity.release();
+                }
+            });
+        }
+    }
+    
+    /**
+     * Return tasks whose worker did not finish within the lease to the queue.
+     */
+    @Scheduled(fixedDelayString = "${workflow.trigger-queue.lease-check-interval:PT30S}")
+    public void recoverExpiredLeases() {
+        if (executor == null) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (WorkflowTriggerTask task : taskRepository.lockExpiredLeases(LocalDateTime.now())) {
+                log.warn("Workflow trigger lease expired: ticket={}, worker={}, attempts={}",
+                        task.getTicketId(), task.getLockedBy(), task.getAttempts());
+                release(task, "Worker did not finish within " + config.getLease());
+            }
+        });
+    }
+    
+    /**
+     * Delete finished tickets past the retention period.
+     */
+    @Scheduled(fixedDelayString = "${workflow.trigger-queue.purge-interval:PT1H}")
+    public void purgeFinished() {
+        if (executor == null) {
+            return;
+        }
+        Integer purged = transactionTemplate.execute(status -> taskRepository.deleteFinishedBefore(
+                EnumSet.of(WorkflowTriggerTaskStatus.COMPLETED, WorkflowTriggerTaskStatus.FAILED),
+                LocalDateTime.now().minus(config.getRetention())));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} finished workflow trigger tickets", purged);
+        }
+    }
+    
+    List<Long> claim(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<WorkflowTriggerTask> tasks = taskRepository.lockClaimable(limit);
+            for (WorkflowTriggerTask task : tasks) {
+                task.setStatus(WorkflowTriggerTaskStatus.PROCESSING);
+                task.setLockedBy(workerId);
+                task.setLockedUntil(now.plus(config.getLease()));
+                task.setStartedAt(now);
+                task.setAttempts(task.getAttempts() + 1);
+            }
+            return tasks.stream().map(WorkflowTriggerTask::getId).toList();
+        });
+    }
+    
+    /**
+     * Run the trigger and record its outcome in one transaction, so a crash leaves no partial result.
+     */
+    void process(Long taskId) {
+        try {
+            runTemplate.executeWithoutResult(status -> run(taskId));
+        } catch (RuntimeException e) {
+            log.error("Workflow trigger task failed: id={}, error={}", taskId, e.getMessage(), e);
+            try {
+                transactionTemplate.executeWithoutResult(status -> taskRepository.findById(taskId)
+                        .filter(this::isOwned)
+                        .ifPresent(task -> release(task, e.getMessage())));
+            } catch (RuntimeException releaseError) {
+                log.warn("Could not release workflow trigger task: id={}, error={}", taskId, releaseError.getMessage());
+            }
+        } finally {
+            CorrelationIdUtil.clearCorrelationId();
+        }
+    }
+    
+    private void run(Long taskId) {
+        // Ownership is checked under the row lock; lease recovery skips locked rows
+        Optional<WorkflowTriggerTask> claimed = taskRepository.lockById(taskId).filter(this::isOwned);
+        if (claimed.isEmpty()) {
+            log.warn("Workflow trigger task no longer owned by this worker: id={}", taskId);
+            return;
+        }
+        WorkflowTriggerTask task = claimed.get();
+        if (task.getCorrelationId() != null) {
+            CorrelationIdUtil.setCorrelationId(task.getCorrelationId());
+        }
+        
+        Optional<User> user = userRepository.findById(task.getUserId());
+        if (user.isEmpty()) {
+            finish(task, WorkflowTriggerTaskStatus.FAILED, null, "Submitting user no longer exists");
+            return;
+        }
+        
+        WorkflowTriggerRequest request;
+        try {
+            request = objectMapper.readValue(task.getRequest(), WorkflowTriggerRequest.class);
+        } catch (JsonProcessingException e) {
+            finish(task, WorkflowTriggerTaskStatus.FAILED, null, "Stored trigger request is not readable");
+            return;
+        }
+        
+        WorkflowTriggerResponse response = workflowIntegrationService.triggerWorkflow(
+                task.getWorkflowName(), request, user.get(), task.getIdempotencyKey());
+        
+        String responseJson;
+        try {
+            responseJson = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            responseJson = null;
+        }
+        if (response.isSuccess()) {
+            finish(task, WorkflowTriggerTaskStatus.COMPLETED, responseJson, null);
+        } else {
+            finish(task, WorkflowTriggerTaskStatus.FAILED, responseJson, response.getMessage());
+        }
+        log.info("Workflow trigger processed: ticket={}, status={}, attempts={}",
+                task.getTicketId(), task.getStatus(), task.getAttempts());
+    }
+    
+    private boolean isOwned(WorkflowTriggerTask task) {
+        return task.getStatus() == WorkflowTriggerTaskStatus.PROCESSING && workerId.equals(task.getLockedBy());
+    }
+    
+    /**
+     * Put a task back in the queue, or fail it once it ran out of attempts.
+     */
+    private void release(WorkflowTriggerTask task, String error) {
+        if (task.getAttempts() >= config.getMaxAttempts()) {
+            finish(task, WorkflowTriggerTaskStatus.FAILED, null, error);
+            return;
+        }
+        task.setStatus(WorkflowTriggerTaskStatus.PENDING);
+        task.setLockedBy(null);
+        task.setLockedUntil(null);
+        task.setError(truncate(error));
+    }
+    
+    private void finish(WorkflowTriggerTask task, WorkflowTriggerTaskStatus status, String response, String error) {
+        task.setStatus(status);
+        task.setResponse(response);
+        task.setError(truncate(error));
+        task.setLockedBy(null);
+        task.setLockedUntil(null);
+        task.setCompletedAt(LocalDateTime.now());
+    }
+    
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,122 @@
+package com.company.platform.audit.service;
+
+import com.company.platform.audit.domain.AuditAction;
+import com.company.platform.audit.dto.AuditExportFormat;
+import com.company.platform.audit.dto.AuditFilterRequest;
+import com.company.platform.audit.dto.AuditLogResponse;
+import com.company.platform.audit.repository.AuditLogExportRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Unit tests for AuditExportService.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditExportServiceTest {
+    
+    @Mock
+    private AuditLogExportRepository exportRepository;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    
+    private AuditExportService auditExportService;
+    
+    @BeforeEach
+    void setUp() {
+        auditExportService = new AuditExportService(exportRepository, objectMapper);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void givenRows(AuditLogResponse... rows) {
+        doAnswer(invocation -> {
+            Consumer<AuditLogResponse> consumer = invocation.getArgument(1);
+            for (AuditLogResponse row : rows) {
+                consumer.accept(row);
+            }
+            return null;
+        }).when(exportRepository).streamMatching(any(), any(Consumer.class));
+    }
+    
+    private static AuditLogResponse row(long id, String details) {
+        return AuditLogResponse.builder()
+                .id(id)
+                .action(AuditAction.WORKFLOW_CREATED)
+                .entityType("Workflow")
+                .entityId(7L)
+                .details(details)
+                .performedById(3L)
+                .performedByUsername("admin")
+                .createdAt(LocalDateTime.of(2026, 10, 1, 12, 0))
+                .build();
+    }
+    
+    @Test
+    void testExport_Ndjson_OneObjectPerLine() throws Exception {
+        givenRows(row(1L, "first"), row(2L, "second"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        long rows = auditExportService.export(new AuditFilterRequest(), AuditExportFormat.NDJSON, out);
+        
+        assertEquals(2, rows);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals(2L, second.get("id").asLong());
+        assertEquals("second", second.get("details").asText());
+    }
+    
+    @Test
+    void testExport_Csv_HeaderAndRows() throws Exception {
+        givenRows(row(1L, "plain"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        long rows = auditExportService.export(new AuditFilterRequest(), AuditExportFormat.CSV, out);
+        
+        assertEquals(1, rows);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,createdAt,action"));
+        assertEquals("1,2026-10-01T12:00,WORKFLOW_CREATED,Workflow,7,3,admin,,,plain", lines[1]);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testExport_FailureMidwayLeavesOutputUnfinished() {
+        doAnswer(invocation -> {
+            Consumer<AuditLogResponse> consumer = invocation.getArgument(1);
+            consumer.accept(row(1L, "first"));
+            throw new QueryTimeoutException("cursor timed out");
+        }).when(exportRepository).streamMatching(any(), any(Consumer.class));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        assertThrows(QueryTimeoutException.class,
+                () -> auditExportService.export(new AuditFilterRequest(), AuditExportFormat.NDJSON, out));
+        
+        // The generator is neither flushed nor closed, so nothing that looks complete is written
+        assertEquals(0, out.size());
+    }
+    
+    @Test
+    void testCsvField_QuotesSpecialCharacters() {
+        assertEquals("plain", AuditExportService.csvField("plain"));
+        assertEquals("", AuditExportService.csvField(null));
+        assertEquals("\"a,b\"", AuditExportService.csvField("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", AuditExportService.csvField("say \"hi\""));
+        assertEquals("\"line1\nline2\"", AuditExportService.csvField("line1\nline2"));
+    }
+}
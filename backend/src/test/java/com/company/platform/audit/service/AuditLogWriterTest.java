@@ -0,0 +1,104 @@
+package com.company.platform.audit.service;
+
+import com.company.platform.audit.config.AuditWriterConfig;
+import com.company.platform.audit.domain.AuditAction;
+import com.company.platform.audit.domain.AuditLog;
+import com.company.platform.audit.repository.AuditLogBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AuditLogWriter error handling.
+ * The writer runs in synchronous mode so every submit is written immediately.
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+    
+    @Mock
+    private AuditLogBatchRepository auditLogBatchRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogWriter auditLogWriter;
+    
+    @BeforeEach
+    void setUp() {
+        AuditWriterConfig config = new AuditWriterConfig();
+        config.setAsync(false);
+        config.setRetryBackoffMs(1);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        auditLogWriter = new AuditLogWriter(auditLogBatchRepository, config, new ObjectMapper(),
+                transactionManager, meterRegistry);
+    }
+    
+    private static AuditLog auditLog(long entityId) {
+        return AuditLog.builder()
+                .action(AuditAction.WORKFLOW_CREATED)
+                .entityType("WorkflowItem")
+                .entityId(entityId)
+                .build();
+    }
+    
+    private double count(String outcome) {
+        return meterRegistry.get("audit.writer.logs").tag("outcome", outcome).functionCounter().count();
+    }
+    
+    @Test
+    void testSubmit_RetriesTransientErrors() {
+        doThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"))
+                .doThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"))
+                .doNothing()
+                .when(auditLogBatchRepository).insertAll(anyList(), anyInt());
+        
+        auditLogWriter.submit(auditLog(1L), null, null);
+        
+        verify(auditLogBatchRepository, times(3)).insertAll(anyList(), anyInt());
+        assertEquals(1, count("written"));
+        assertEquals(0, count("failed"));
+        assertEquals(2, meterRegistry.get("audit.writer.retries").functionCounter().count());
+    }
+    
+    @Test
+    void testInsert_DataErrorOnlyLosesBadRow() {
+        List<AuditLog> inserted = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<AuditLog> auditLogs = invocation.getArgument(0);
+            if (auditLogs.stream().anyMatch(a -> a.getEntityId() == 3L)) {
+                throw new DataIntegrityViolationException("Data too long for column 'user_agent'");
+            }
+            inserted.addAll(auditLogs);
+            return null;
+        }).when(auditLogBatchRepository).insertAll(anyList(), anyInt());
+        List<AuditLog> batch = new ArrayList<>();
+        for (long id = 1; id <= 8; id++) {
+            batch.add(auditLog(id));
+        }
+        
+        auditLogWriter.insert(batch);
+        
+        assertEquals(7, inserted.size());
+        assertTrue(inserted.stream().noneMatch(a -> a.getEntityId() == 3L));
+        assertEquals(7, count("written"));
+        assertEquals(1, count("failed"));
+    }
+}
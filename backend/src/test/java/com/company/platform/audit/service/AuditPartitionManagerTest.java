@@ -0,0 +1,55 @@
+package com.company.platform.audit.service;
+
+import com.company.platform.audit.repository.AuditPartitionRepository.Partition;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for audit partition planning.
+ */
+class AuditPartitionManagerTest {
+    
+    @Test
+    void testMonthlyPartitions_EndsWithMaxValue() {
+        List<Partition> partitions = AuditPartitionManager.monthlyPartitions(YearMonth.of(2026, 11), YearMonth.of(2027, 1));
+        
+        assertEquals(List.of(
+                new Partition("p202611", LocalDate.of(2026, 12, 1)),
+                new Partition("p202612", LocalDate.of(2027, 1, 1)),
+                new Partition("p202701", LocalDate.of(2027, 2, 1)),
+                new Partition(AuditPartitionManager.MAX_PARTITION, null)
+        ), partitions);
+    }
+    
+    @Test
+    void testMissingPartitions_SplitsFromLastBound() {
+        List<Partition> existing = AuditPartitionManager.monthlyPartitions(YearMonth.of(2026, 9), YearMonth.of(2026, 10));
+        
+        List<Partition> missing = AuditPartitionManager.missingPartitions(existing, YearMonth.of(2026, 12));
+        
+        assertEquals(List.of("p202611", "p202612", AuditPartitionManager.MAX_PARTITION),
+                missing.stream().map(Partition::name).toList());
+    }
+    
+    @Test
+    void testMissingPartitions_NoneWhenCovered() {
+        List<Partition> existing = AuditPartitionManager.monthlyPartitions(YearMonth.of(2026, 9), YearMonth.of(2026, 12));
+        
+        assertTrue(AuditPartitionManager.missingPartitions(existing, YearMonth.of(2026, 12)).isEmpty());
+    }
+    
+    @Test
+    void testExpiredPartitions_OnlyWhollyOlderThanCutoff() {
+        List<Partition> existing = AuditPartitionManager.monthlyPartitions(YearMonth.of(2025, 8), YearMonth.of(2025, 11));
+        
+        List<Partition> expired = AuditPartitionManager.expiredPartitions(existing, LocalDateTime.of(2025, 10, 17, 12, 0));
+        
+        assertEquals(List.of("p202508", "p202509"), expired.stream().map(Partition::name).toList());
+    }
+}
@@ -11,6 +11,7 @@ import com.company.platform.auth.dto.RegisterRequest;
 import com.company.platform.users.repository.RefreshTokenRepository;
 import com.company.platform.users.repository.RoleRepository;
 import com.company.platform.users.repository.UserRepository;
+import com.company.platform.users.service.UserRoleStatsService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,6 +53,9 @@ class AuthServiceTest {
     @Mock
     private AuthenticationManager authenticationManager;
     
+    @Mock
+    private UserRoleStatsService userRoleStatsService;
+    
     @InjectMocks
     private AuthService authService;
     
@@ -101,6 +105,7 @@ class AuthServiceTest {
         assertEquals("accessToken", response.getAccessToken());
         assertNotNull(response.getRefreshToken());
         verify(userRepository).save(any(User.class));
+        verify(userRoleStatsService).recordAdded(testRole.getName());
     }
     
     @Test
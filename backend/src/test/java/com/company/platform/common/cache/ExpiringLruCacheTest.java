@@ -0,0 +1,61 @@
+package com.company.platform.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExpiringLruCache.
+ */
+class ExpiringLruCacheTest {
+    
+    @Test
+    void testGet_HitAndMiss() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, Duration.ofMinutes(1));
+        cache.put("a", "1");
+        
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+    
+    @Test
+    void testPut_EvictsLeastRecentlyUsed() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+        cache.put("c", "3");
+        
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.evictionCount());
+    }
+    
+    @Test
+    void testPutUntil_ExpiredEntryIsNotReturned() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, Duration.ofMinutes(1));
+        cache.putUntil("past", "x", System.currentTimeMillis() - 1);
+        
+        assertNull(cache.get("past"));
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    void testBindTo_RegistersCacheMeters() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<String, String>(10, Duration.ofMinutes(1))
+                .bindTo(registry, "test");
+        cache.put("a", "1");
+        cache.get("a");
+        
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "test").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.size").tag("cache", "test").gauge().value());
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.platform.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SingleFlightCache.
+ */
+class SingleFlightCacheTest {
+    
+    @Test
+    void testLoad_ConcurrentMissesShareOneLoad() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(10, Duration.ofMinutes(1));
+        CompletableFuture<String> remote = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+        
+        CompletableFuture<String> first = cache.load("k", () -> {
+            loads.incrementAndGet();
+            return remote;
+        });
+        CompletableFuture<String> second = cache.load("k", () -> {
+            loads.incrementAndGet();
+            return remote;
+        });
+        remote.complete("v");
+        
+        assertEquals("v", first.join());
+        assertEquals("v", second.join());
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.deduplicatedCount());
+        assertEquals("v", cache.getIfPresent("k"));
+    }
+    
+    @Test
+    void testLoad_FailureIsNotCached() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(10, Duration.ofMinutes(1));
+        
+        CompletableFuture<String> failed = cache.load("k",
+                () -> CompletableFuture.failedFuture(new IllegalStateException("down")));
+        
+        CompletionException error = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertNull(cache.getIfPresent("k"));
+        assertEquals("v", cache.loadBlocking("k", () -> "v"));
+    }
+    
+    @Test
+    void testLoadBlocking_RethrowsLoaderException() {
+        SingleFlightCache<String, String> cache = new SingleFlightCache<>(10, Duration.ofMinutes(1));
+        
+        assertThrows(IllegalStateException.class, () -> cache.loadBlocking("k", () -> {
+            throw new IllegalStateException("down");
+        }));
+    }
+}
@@ -0,0 +1,71 @@
+package com.company.platform.python.client;
+
+import com.company.platform.common.exception.BusinessException;
+import com.company.platform.python.config.PythonServiceConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the Python circuit breakers.
+ */
+class PythonCircuitBreakerTest {
+    
+    private PythonServiceConfig config;
+    
+    @BeforeEach
+    void setUp() {
+        config = new PythonServiceConfig();
+        config.getCircuitBreaker().setWindowSize(10);
+        config.getCircuitBreaker().setMinimumCalls(4);
+        config.getCircuitBreaker().setHalfOpenPermittedCalls(2);
+    }
+    
+    @Test
+    void testCall_ClientErrorsDoNotOpenCircuit() {
+        PythonCircuitBreakers breakers = new PythonCircuitBreakers(config, mock(PythonServiceClient.class), new SimpleMeterRegistry());
+        
+        for (int i = 0; i < 10; i++) {
+            assertThrows(BusinessException.class, () -> breakers.call(PythonCircuitBreakers.RISK, () -> {
+                throw new BusinessException("Python risk evaluation service error: 422", PythonServiceAsyncClient.CLIENT_ERROR);
+            }, null));
+        }
+        
+        assertEquals(PythonCircuitBreaker.State.CLOSED, breakers.getStatuses().get(PythonCircuitBreakers.RISK).state());
+    }
+    
+    @Test
+    void testCall_ServerErrorsOpenCircuit() {
+        PythonCircuitBreakers breakers = new PythonCircuitBreakers(config, mock(PythonServiceClient.class), new SimpleMeterRegistry());
+        
+        for (int i = 0; i < 4; i++) {
+            assertThrows(BusinessException.class, () -> breakers.call(PythonCircuitBreakers.RISK, () -> {
+                throw new BusinessException("Python risk evaluation service error: 500");
+            }, null));
+        }
+        
+        assertEquals(PythonCircuitBreaker.State.OPEN, breakers.getStatuses().get(PythonCircuitBreakers.RISK).state());
+    }
+    
+    @Test
+    void testRecord_IgnoresResultsAdmittedInEarlierState() {
+        PythonCircuitBreaker breaker = new PythonCircuitBreaker("risk", config.getCircuitBreaker());
+        PythonCircuitBreaker.Permit closedPermit = breaker.tryAcquirePermission();
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(breaker.tryAcquirePermission(), 10);
+        }
+        breaker.onProbeSucceeded();
+        assertEquals(PythonCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        
+        // A slow call admitted while closed fails after the breaker half-opened
+        breaker.onFailure(closedPermit, 10);
+        
+        assertEquals(PythonCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onSuccess(breaker.tryAcquirePermission(), 10);
+        breaker.onSuccess(breaker.tryAcquirePermission(), 10);
+        assertEquals(PythonCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
@@ -0,0 +1,153 @@
+package com.company.platform.python.service;
+
+import com.company.platform.python.client.PythonCircuitBreakers;
+import com.company.platform.python.client.PythonServiceAsyncClient;
+import com.company.platform.python.client.PythonServiceClient;
+import com.company.platform.python.config.PythonServiceConfig;
+import com.company.platform.python.dto.AnomalyBatchRequest;
+import com.company.platform.python.dto.AnomalyBatchResponse;
+import com.company.platform.python.dto.AnomalyRequest;
+import com.company.platform.python.dto.AnomalyResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Micro-batching against a local stub of the Python service.
+ * The stub adds fixed latency per HTTP call, like a real round-trip to Python.
+ */
+class AnomalyMicroBatcherTest {
+    
+    private static final int CALLS = 200;
+    private static final long STUB_LATENCY_MS = 10;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger httpCalls = new AtomicInteger();
+    
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private PythonServiceConfig config;
+    private PythonServiceAsyncClient client;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        stubExecutor = Executors.newFixedThreadPool(8);
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CALLS);
+        stub.createContext("/anomaly/detect", exchange -> {
+            AnomalyRequest request = objectMapper.readValue(exchange.getRequestBody(), AnomalyRequest.class);
+            respond(exchange, result(request.getMetric()));
+        });
+        stub.createContext("/anomaly/detect/batch", exchange -> {
+            AnomalyBatchRequest request = objectMapper.readValue(exchange.getRequestBody(), AnomalyBatchRequest.class);
+            respond(exchange, new AnomalyBatchResponse(request.getMetrics().stream().map(this::result).toList()));
+        });
+        stub.setExecutor(stubExecutor);
+        stub.start();
+        
+        config = new PythonServiceConfig();
+        config.setBaseUrl("http://127.0.0.1:" + stub.getAddress().getPort());
+        config.setMaxConcurrentAsyncCalls(CALLS);
+        config.getAnomalyBatch().setMaxBatchSize(50);
+        config.getAnomalyBatch().setMaxWaitMs(5);
+        client = new PythonServiceAsyncClient(config, objectMapper, new SimpleMeterRegistry());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+    
+    @Test
+    void testSubmit_FansResultsBackInOrder() {
+        AnomalyMicroBatcher batcher = newBatcher();
+        
+        List<CompletableFuture<AnomalyResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            futures.add(batcher.submit((double) i));
+        }
+        
+        for (int i = 0; i < CALLS; i++) {
+            assertEquals((double) i, futures.get(i).join().getScore());
+        }
+        assertTrue(httpCalls.get() <= CALLS / config.getAnomalyBatch().getMaxBatchSize() + 1,
+                "expected a handful of batch calls, got " + httpCalls.get());
+    }
+    
+    @Test
+    void testSubmit_FlushesPartialBatchAfterWaitWindow() {
+        AnomalyMicroBatcher batcher = newBatcher();
+        
+        AnomalyResponse response = batcher.submit(7.0).join();
+        
+        assertEquals(7.0, response.getScore());
+        assertEquals(1, httpCalls.get());
+    }
+    
+    @Test
+    void testSubmit_BatchedUsesFarFewerHttpCallsThanSingleCalls() {
+        List<CompletableFuture<AnomalyResponse>> single = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            single.add(client.detectAnomaly(new AnomalyRequest((double) i)));
+        }
+        single.forEach(CompletableFuture::join);
+        int singleHttpCalls = httpCalls.getAndSet(0);
+        
+        AnomalyMicroBatcher batcher = newBatcher();
+        List<CompletableFuture<AnomalyResponse>> batched = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            batched.add(batcher.submit((double) i));
+        }
+        batched.forEach(CompletableFuture::join);
+        int batchedHttpCalls = httpCalls.get();
+        
+        assertEquals(CALLS, singleHttpCalls);
+        assertTrue(batchedHttpCalls >= CALLS / config.getAnomalyBatch().getMaxBatchSize(),
+                "batches cannot exceed the maximum size, got " + batchedHttpCalls + " calls");
+        assertTrue(batchedHttpCalls * 10 < singleHttpCalls,
+                "expected at least 10x fewer HTTP calls, got " + batchedHttpCalls + " vs " + singleHttpCalls);
+    }
+    
+    private AnomalyMicroBatcher newBatcher() {
+        PythonCircuitBreakers breakers = new PythonCircuitBreakers(config, mock(PythonServiceClient.class), new SimpleMeterRegistry());
+        return new AnomalyMicroBatcher(client, breakers, config, new SimpleMeterRegistry());
+    }
+    
+    private AnomalyResponse result(Double metric) {
+        return AnomalyResponse.builder()
+                .anomalous(false)
+                .score(metric)
+                .explanation(List.of("stub"))
+                .build();
+    }
+    
+    private void respond(HttpExchange exchange, Object body) throws IOException {
+        httpCalls.incrementAndGet();
+        try {
+            Thread.sleep(STUB_LATENCY_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,215 @@
+package com.company.platform.python.service;
+
+import com.company.platform.common.exception.ServiceUnavailableException;
+import com.company.platform.common.exception.ValidationException;
+import com.company.platform.python.client.PythonCircuitBreakers;
+import com.company.platform.python.client.PythonServiceAsyncClient;
+import com.company.platform.python.config.PythonServiceConfig;
+import com.company.platform.python.dto.IngestionBatchRequest;
+import com.company.platform.python.dto.IngestionBatchResponse;
+import com.company.platform.python.dto.IngestionStreamProgress;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for chunked NDJSON ingestion.
+ */
+@ExtendWith(MockitoExtension.class)
+class IngestionStreamServiceTest {
+
+    @Mock
+    private PythonServiceAsyncClient asyncClient;
+
+    @Mock
+    private PythonCircuitBreakers breakers;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PythonServiceConfig config = new PythonServiceConfig();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final ByteArrayOutputStream progress = new ByteArrayOutputStream();
+
+    private IngestionStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        config.getIngestionStream().setBusyRetries(3);
+        config.getIngestionStream().setBusyBackoff(Duration.ofMillis(1));
+        config.getIngestionStream().setMaxBusyBackoff(Duration.ofMillis(4));
+        service = new IngestionStreamService(asyncClient, breakers, config, objectMapper);
+    }
+
+    /**
+     * Python answers each batch on another thread; the function may fail a batch by its call number.
+     */
+    @SuppressWarnings("unchecked")
+    private void givenPython(Function<Integer, CompletableFuture<IngestionBatchResponse>> failures) {
+        when(breakers.callAsync(eq(PythonCircuitBreakers.INGESTION), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<CompletableFuture<IngestionBatchResponse>>) invocation.getArgument(1)).get());
+        AtomicInteger calls = new AtomicInteger();
+        when(asyncClient.processIngestionBatch(any())).thenAnswer(invocation -> {
+            IngestionBatchRequest request = invocation.getArgument(0);
+            CompletableFuture<IngestionBatchResponse> failure = failures.apply(calls.incrementAndGet());
+            if (failure != null) {
+                return failure;
+            }
+            batchSizes.add(request.getRecords().size());
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep(5);
+                inFlight.decrementAndGet();
+                return IngestionBatchResponse.builder().status("ok").accepted(request.getRecords().size()).build();
+            });
+        });
+    }
+
+    private static CompletableFuture<IngestionBatchResponse> fail(String code) {
+        return CompletableFuture.failedFuture(new ServiceUnavailableException("Python ingestion failed: " + code, code));
+    }
+
+    private static InputStream records(int count) {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            ndjson.append("{\"id\":").append(i).append("}\n");
+        }
+        return new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> progressLines() throws Exception {
+        String[] lines = progress.toString(StandardCharsets.UTF_8).split("\n");
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : lines) {
+            nodes.add(objectMapper.readTree(line));
+        }
+        return nodes;
+    }
+
+    @Test
+    void testIngest_SplitsIntoChunksWithOneInFlight() throws Exception {
+        givenPython(call -> null);
+
+        IngestionStreamProgress summary = service.ingest("crm", records(25), 10, progress);
+
+        assertEquals("COMPLETED", summary.getStatus());
+        assertEquals(3, summary.getChunk());
+        assertEquals(25, summary.getRecords());
+        assertEquals(25L, summary.getTotalRecords());
+        assertEquals(List.of(10, 10, 5), batchSizes);
+        assertEquals(1, maxInFlight.get());
+
+        List<JsonNode> lines = progressLines();
+        assertEquals(4, lines.size());
+        assertEquals("chunk", lines.get(0).get("type").asText());
+        assertEquals(10L, lines.get(0).get("totalRecords").asLong());
+        assertEquals(20L, lines.get(1).get("totalRecords").asLong());
+        assertEquals("summary", lines.get(3).get("type").asText());
+    }
+
+    @Test
+    void testIngest_ExactMultipleSendsNoEmptyChunk() throws Exception {
+        givenPython(call -> null);
+
+        IngestionStreamProgress summary = service.ingest("crm", records(20), 10, progress);
+
+        assertEquals(2, summary.getChunk());
+        assertEquals(List.of(10, 10), batchSizes);
+    }
+
+    @Test
+    void testIngest_MalformedLineFailsAfterSendingParsedChunks() throws Exception {
+        givenPython(call -> null);
+        InputStream ndjson = new ByteArrayInputStream("{\"id\":1}\n{\"id\":2}\n{not json\n".getBytes(StandardCharsets.UTF_8));
+
+        IngestionStreamProgress summary = service.ingest("crm", ndjson, 1, progress);
+
+        assertEquals("FAILED", summary.getStatus());
+        assertTrue(summary.getMessage().startsWith("Malformed NDJSON after record 2"));
+        assertEquals(2L, summary.getTotalRecords());
+    }
+
+    @Test
+    void testIngest_FailedChunkStopsIngestion() throws Exception {
+        givenPython(call -> call == 2 ? fail("PYTHON_ERROR") : null);
+
+        IngestionStreamProgress summary = service.ingest("crm", records(6), 2, progress);
+
+        assertEquals("FAILED", summary.getStatus());
+        assertTrue(summary.getMessage().startsWith("Chunk 2 failed"));
+        assertEquals(2L, summary.getTotalRecords());
+        List<JsonNode> lines = progressLines();
+        assertEquals("FAILED", lines.get(1).get("status").asText());
+        verify(asyncClient, times(2)).processIngestionBatch(any());
+    }
+
+    @Test
+    void testIngest_BusyChunkIsResent() throws Exception {
+        givenPython(call -> call == 2 || call == 3 ? fail(PythonServiceAsyncClient.SERVICE_BUSY) : null);
+
+        IngestionStreamProgress summary = service.ingest("crm", records(6), 2, progress);
+
+        assertEquals("COMPLETED", summary.getStatus());
+        assertEquals(6L, summary.getTotalRecords());
+        assertEquals(List.of(2, 2, 2), batchSizes);
+        verify(asyncClient, times(5)).processIngestionBatch(any());
+    }
+
+    @Test
+    void testIngest_BusyBeyondRetriesFails() throws Exception {
+        givenPython(call -> fail(PythonServiceAsyncClient.SERVICE_BUSY));
+
+        IngestionStreamProgress summary = service.ingest("crm", records(2), 2, progress);
+
+        assertEquals("FAILED", summary.getStatus());
+        verify(asyncClient, times(4)).processIngestionBatch(any());
+    }
+
+    @Test
+    void testIngest_RejectsInvalidChunkSize() {
+        assertThrows(ValidationException.class, () -> service.ingest("crm", records(1), 0, progress));
+        assertThrows(ValidationException.class, () -> service.ingest("crm", records(1), 5001, progress));
+        assertThrows(ValidationException.class, () -> service.ingest(" ", records(1), 10, progress));
+        verifyNoInteractions(asyncClient);
+    }
+
+    @Test
+    void testBackoff_DoublesUpToMax() {
+        PythonServiceConfig.IngestionStream stream = new PythonServiceConfig.IngestionStream();
+
+        assertEquals(Duration.ofMillis(200), IngestionStreamService.backoff(stream, 0));
+        assertEquals(Duration.ofMillis(800), IngestionStreamService.backoff(stream, 2));
+        assertEquals(Duration.ofSeconds(5), IngestionStreamService.backoff(stream, 10));
+        assertEquals(Duration.ofSeconds(5), IngestionStreamService.backoff(stream, 1000));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
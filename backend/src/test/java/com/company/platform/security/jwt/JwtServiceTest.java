@@ -0,0 +1,100 @@
+package com.company.platform.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for JWT key rotation through jwt.keys-file.
+ */
+class JwtServiceTest {
+
+    private static final String SECRET = "7a82f273a4f95e6fa368cecb55d9a21d7a82f273a4f95e6fa368cecb55d9a21d";
+    private static final String OLD_SECRET = "old-secret-old-secret-old-secret-0001";
+    private static final String NEW_SECRET = "new-secret-new-secret-new-secret-0002";
+
+    @TempDir
+    Path dir;
+
+    private Path keysFile;
+    private JwtClaimsCache claimsCache;
+    private JwtService jwtService;
+
+    private final UserDetails user = User.withUsername("alice").password("x").authorities(List.of()).build();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keysFile = dir.resolve("jwt-keys.properties");
+        writeKeys("active-kid=old\nkeys.old=" + OLD_SECRET + "\n");
+        claimsCache = mock(JwtClaimsCache.class);
+        jwtService = new JwtService(new JwtKeyConfig(), claimsCache);
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 3600000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 86400000L);
+        ReflectionTestUtils.setField(jwtService, "keysFile", keysFile.toString());
+        jwtService.init();
+    }
+
+    @Test
+    void testReloadKeys_RotatesWithoutRestart() throws Exception {
+        String oldToken = jwtService.generateToken(user, "admin");
+        assertEquals("old", kid(oldToken));
+
+        writeKeys("active-kid=new\nkeys.old=" + OLD_SECRET + "\nkeys.new=" + NEW_SECRET + "\n");
+        jwtService.reloadKeys();
+
+        String newToken = jwtService.generateToken(user, "admin");
+        assertEquals("new", kid(newToken));
+        assertTrue(jwtService.validateToken(newToken));
+        assertTrue(jwtService.validateToken(oldToken));
+        verify(claimsCache).invalidateAll();
+    }
+
+    @Test
+    void testReloadKeys_RemovedKeyStopsValidating() throws Exception {
+        String oldToken = jwtService.generateToken(user, "admin");
+
+        writeKeys("active-kid=new\nkeys.new=" + NEW_SECRET + "\n");
+        jwtService.reloadKeys();
+
+        assertFalse(jwtService.validateToken(oldToken));
+    }
+
+    @Test
+    void testReloadKeys_UnchangedFileKeepsCache() {
+        jwtService.reloadKeys();
+
+        verify(claimsCache, never()).invalidateAll();
+    }
+
+    @Test
+    void testReloadKeys_InvalidFileKeepsCurrentKeys() throws Exception {
+        writeKeys("active-kid=missing\nkeys.old=" + OLD_SECRET + "\n");
+        jwtService.reloadKeys();
+
+        assertEquals("old", kid(jwtService.generateToken(user, "admin")));
+        verify(claimsCache, never()).invalidateAll();
+    }
+
+    private void writeKeys(String content) throws Exception {
+        Files.writeString(keysFile, content, StandardCharsets.UTF_8);
+    }
+
+    private static String kid(String token) throws Exception {
+        byte[] header = Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.')));
+        return new ObjectMapper().readTree(header).path("kid").asText(null);
+    }
+}
@@ -0,0 +1,108 @@
+package com.company.platform.security.service;
+
+import com.company.platform.users.domain.User;
+import com.company.platform.users.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CustomUserDetailsService principal caching.
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private UserPrincipalCache userPrincipalCache;
+    private CustomUserDetailsService userDetailsService;
+    
+    @BeforeEach
+    void setUp() {
+        // Revalidate every hit unless a test opts into the interval
+        userPrincipalCache = new UserPrincipalCache(100, Duration.ofMinutes(5), Duration.ZERO, new SimpleMeterRegistry());
+        userDetailsService = new CustomUserDetailsService(userRepository, userPrincipalCache);
+    }
+    
+    private static User user(long version, boolean enabled) {
+        User user = User.builder().id(1L).username("alice").enabled(enabled).build();
+        user.setVersion(version);
+        return user;
+    }
+    
+    @Test
+    void testLoadUserByUsername_CacheHitWithSameVersion() {
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user(1L, true)));
+        when(userRepository.findVersionByUsername("alice")).thenReturn(Optional.of(1L));
+        
+        userDetailsService.loadUserByUsername("alice");
+        userDetailsService.loadUserByUsername("alice");
+        
+        verify(userRepository, times(1)).findByUsername("alice");
+    }
+    
+    @Test
+    void testLoadUserByUsername_CacheHitWithinIntervalSkipsQuery() {
+        userPrincipalCache = new UserPrincipalCache(100, Duration.ofMinutes(5), Duration.ofMinutes(1), new SimpleMeterRegistry());
+        userDetailsService = new CustomUserDetailsService(userRepository, userPrincipalCache);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user(1L, true)));
+        
+        for (int i = 0; i < 5; i++) {
+            userDetailsService.loadUserByUsername("alice");
+        }
+        
+        verify(userRepository, times(1)).findByUsername("alice");
+        verify(userRepository, never()).findVersionByUsername(any());
+    }
+    
+    @Test
+    void testLoadUserByUsername_InvalidatedUserIsReloadedWithinInterval() {
+        userPrincipalCache = new UserPrincipalCache(100, Duration.ofMinutes(5), Duration.ofMinutes(1), new SimpleMeterRegistry());
+        userDetailsService = new CustomUserDetailsService(userRepository, userPrincipalCache);
+        when(userRepository.findByUsername("alice"))
+                .thenReturn(Optional.of(user(1L, true)))
+                .thenReturn(Optional.of(user(2L, false)));
+        
+        userDetailsService.loadUserByUsername("alice");
+        userPrincipalCache.invalidate("alice");
+        
+        assertFalse(userDetailsService.loadUserByUsername("alice").isEnabled());
+    }
+    
+    @Test
+    void testLoadUserByUsername_ReloadsWhenUpdatedElsewhere() {
+        when(userRepository.findByUsername("alice"))
+                .thenReturn(Optional.of(user(1L, true)))
+                .thenReturn(Optional.of(user(2L, false)));
+        when(userRepository.findVersionByUsername("alice")).thenReturn(Optional.of(2L));
+        
+        userDetailsService.loadUserByUsername("alice");
+        UserDetails reloaded = userDetailsService.loadUserByUsername("alice");
+        
+        assertFalse(reloaded.isEnabled());
+        verify(userRepository, times(2)).findByUsername("alice");
+    }
+    
+    @Test
+    void testLoadUserByUsername_DeletedElsewhere() {
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user(1L, true)));
+        when(userRepository.findVersionByUsername("alice")).thenReturn(Optional.empty());
+        
+        userDetailsService.loadUserByUsername("alice");
+        
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("alice"));
+        assertNull(userPrincipalCache.get("alice"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.company.platform.users.service;
+
+import com.company.platform.users.domain.UserRoleCount;
+import com.company.platform.users.repository.UserRepository;
+import com.company.platform.users.repository.UserRoleCountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the role-count snapshot and incremental updates.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserRoleStatsServiceTest {
+    
+    @Mock
+    private UserRoleCountRepository roleCountRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @Test
+    void testGetCounts_ServedFromSnapshotWithinTtl() {
+        UserRoleStatsService statsService = service(Duration.ofMinutes(1));
+        when(roleCountRepository.findAll()).thenReturn(List.of(count("ADMIN", 1), count("VIEWER", 0)));
+        
+        Map<String, Long> first = statsService.getCounts();
+        Map<String, Long> second = statsService.getCounts();
+        
+        assertEquals(Map.of("ADMIN", 1L), first);
+        assertSame(first, second);
+        verify(roleCountRepository, times(1)).findAll();
+        verifyNoInteractions(userRepository);
+    }
+    
+    @Test
+    void testRecordRoleChange_RefreshesSnapshot() {
+        UserRoleStatsService statsService = service(Duration.ofMinutes(1));
+        when(roleCountRepository.findAll()).thenReturn(List.of(count("VIEWER", 1)))
+                .thenReturn(List.of(count("REVIEWER", 1)));
+        statsService.getCounts();
+        
+        statsService.recordRoleChange("VIEWER", "REVIEWER");
+        
+        assertEquals(Map.of("REVIEWER", 1L), statsService.getCounts());
+        verify(roleCountRepository).increment("REVIEWER", 1);
+        verify(roleCountRepository).increment("VIEWER", -1);
+    }
+    
+    @Test
+    void testRecordRoleChange_SameRoleIsNoOp() {
+        service(Duration.ofMinutes(1)).recordRoleChange("VIEWER", "VIEWER");
+        
+        verifyNoInteractions(roleCountRepository);
+    }
+    
+    private UserRoleStatsService service(Duration snapshotTtl) {
+        return new UserRoleStatsService(roleCountRepository, userRepository, transactionManager, snapshotTtl);
+    }
+    
+    private static UserRoleCount count(String roleName, long userCount) {
+        return UserRoleCount.builder().roleName(roleName).userCount(userCount).build();
+    }
+}
@@ -10,18 +10,17 @@ import com.company.platform.workflows.domain.WorkflowItem;
 import com.company.platform.workflows.domain.WorkflowState;
 import com.company.platform.workflows.domain.WorkflowTransition;
 import com.company.platform.workflows.repository.WorkflowTransitionRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,7 +32,7 @@ class WorkflowEngineTest {
     @Mock
     private WorkflowTransitionRepository transitionRepository;
     
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private WorkflowEngine workflowEngine;
     
     private User testUser;
@@ -43,6 +42,9 @@ class WorkflowEngineTest {
     
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        workflowEngine = new WorkflowEngine(transitionRepository, meterRegistry);
+        
         testRole = Role.builder()
                 .id(1L)
                 .name("Manager")
@@ -71,21 +73,17 @@ class WorkflowEngineTest {
     
     @Test
     void testProcessTransition_Success() {
-        when(transitionRepository.findByFromStateAndRole(any(WorkflowState.class), anyString()))
-                .thenReturn(List.of(transition));
-        when(transitionRepository.findByFromStateAndAction(any(WorkflowState.class), any(WorkflowAction.class)))
-                .thenReturn(Optional.of(transition));
+        when(transitionRepository.findAllWithRoles()).thenReturn(List.of(transition));
         
         WorkflowState newState = workflowEngine.processTransition(workflowItem, WorkflowAction.APPROVE, testUser);
         
         assertEquals(WorkflowState.APPROVED, newState);
-        verify(transitionRepository).findByFromStateAndAction(WorkflowState.REVIEWED, WorkflowAction.APPROVE);
+        verify(transitionRepository).findAllWithRoles();
     }
     
     @Test
     void testProcessTransition_InvalidTransition() {
-        when(transitionRepository.findByFromStateAndRole(any(WorkflowState.class), anyString()))
-                .thenReturn(List.of());
+        when(transitionRepository.findAllWithRoles()).thenReturn(List.of());
         
         assertThrows(ForbiddenException.class, () -> 
                 workflowEngine.processTransition(workflowItem, WorkflowAction.APPROVE, testUser));
@@ -93,12 +91,81 @@ class WorkflowEngineTest {
     
     @Test
     void testProcessTransition_TransitionNotFound() {
-        when(transitionRepository.findByFromStateAndRole(any(WorkflowState.class), anyString()))
-                .thenReturn(List.of(transition));
-        when(transitionRepository.findByFromStateAndAction(any(WorkflowState.class), any(WorkflowAction.class)))
-                .thenReturn(Optional.empty());
+        // Role may approve, but the rule has no target state
+        transition.setToState(null);
+        when(transitionRepository.findAllWithRoles()).thenReturn(List.of(transition));
+        
+        WorkflowException error = assertThrows(WorkflowException.class, () ->
+                workflowEngine.processTransition(workflowItem, WorkflowAction.APPROVE, testUser));
+        
+        assertTrue(error.getMessage().startsWith("Invalid transition"));
+        assertNotNull(meterRegistry.find("workflow.transition.validation")
+                .tags("outcome", "invalid_transition").timer());
+    }
+    
+    @Test
+    void testProcessTransition_BusinessRuleViolation() {
+        // Role may approve, but the rule's target state breaks the business rule
+        transition.setToState(WorkflowState.REOPENED);
+        when(transitionRepository.findAllWithRoles()).thenReturn(List.of(transition));
         
         assertThrows(WorkflowException.class, () -> 
                 workflowEngine.processTransition(workflowItem, WorkflowAction.APPROVE, testUser));
     }
+    
+    @Test
+    void testProcessTransition_UsesCompiledTable() {
+        when(transitionRepository.findAllWithRoles()).thenReturn(List.of(transition));
+        workflowEngine.reloadTransitions();
+        
+        workflowEngine.processTransition(workflowItem, WorkflowAction.APPROVE, testUser);
+        workflowEngine.processTransition(workflowItem, WorkflowAction.APPROVE, testUser);
+        
+        verify(transitionRepository, times(1)).findAllWithRoles();
+        verifyNoMoreInteractions(transitionRepository);
+    }
+    
+    @Test
+    void testRefreshTransitions_PicksUpChangedRules() {
+        when(transitionRepository.findAllWithRoles())
+                .thenReturn(List.of())
+                .thenReturn(List.of(transition));
+        workflowEngine.reloadTransitions();
+        assertTrue(workflowEngine.getAllowedActions(workflowItem, testUser).isEmpty());
+        
+        workflowEngine.refreshTransitions();
+        
+        assertEquals(List.of(WorkflowAction.APPROVE), workflowEngine.getAllowedActions(workflowItem, testUser));
+    }
+    
+    @Test
+    void testInvalidateTransitions_ReloadsOnNextUse() {
+        when(transitionRepository.findAllWithRoles()).thenReturn(List.of(transition));
+        workflowEngine.reloadTransitions();
+        
+        workflowEngine.invalidateTransitions();
+        List<WorkflowAction> actions = workflowEngine.getAllowedActions(workflowItem, testUser);
+        
+        assertEquals(List.of(WorkflowAction.APPROVE), actions);
+        verify(transitionRepository, times(2)).findAllWithRoles();
+    }
+    
+    @Test
+    void testProcessTransition_RecordsOutcome() {
+        when(transitionRepository.findAllWithRoles()).thenReturn(List.of(transition));
+        
+        workflowEngine.processTransition(workflowItem, WorkflowAction.APPROVE, testUser);
+        workflowItem.setState(WorkflowState.APPROVED);
+        assertThrows(ForbiddenException.class, () ->
+                workflowEngine.processTransition(workflowItem, WorkflowAction.APPROVE, testUser));
+        
+        Timer approved = meterRegistry.find("workflow.transition.validation")
+                .tags("from", "REVIEWED", "action", "APPROVE", "outcome", "approved").timer();
+        Timer forbidden = meterRegistry.find("workflow.transition.validation")
+                .tags("from", "APPROVED", "action", "APPROVE", "outcome", "forbidden").timer();
+        assertNotNull(approved);
+        assertEquals(1, approved.count());
+        assertNotNull(forbidden);
+        assertEquals(1, forbidden.count());
+    }
 }
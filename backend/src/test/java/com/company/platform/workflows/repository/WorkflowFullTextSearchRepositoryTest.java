@@ -0,0 +1,58 @@
+package com.company.platform.workflows.repository;
+
+import com.company.platform.common.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for FULLTEXT search query building.
+ */
+class WorkflowFullTextSearchRepositoryTest {
+    
+    @Test
+    void testToBooleanQuery_RequiredPrefixes() {
+        assertEquals("+budget* +review*", WorkflowFullTextSearchRepository.toBooleanQuery("Budget, review"));
+        assertNull(WorkflowFullTextSearchRepository.toBooleanQuery("a b"));
+    }
+    
+    @Test
+    void testToBooleanQuery_ShortTokenFallsBackToLike() {
+        assertNull(WorkflowFullTextSearchRepository.toBooleanQuery("budget q1"));
+        assertNull(WorkflowFullTextSearchRepository.toBooleanQuery("e-mail review"));
+    }
+    
+    @Test
+    void testToBooleanQuery_TooManyTokensFallsBackToLike() {
+        assertNotNull(WorkflowFullTextSearchRepository.toBooleanQuery("one two three four five six seven eight nine tenth"));
+        assertNull(WorkflowFullTextSearchRepository.toBooleanQuery("one two three four five six seven eight nine tenth eleven"));
+    }
+    
+    @Test
+    void testSupportsSort_OnlyMappedProperties() {
+        assertTrue(WorkflowFullTextSearchRepository.supportsSort(Sort.unsorted()));
+        assertTrue(WorkflowFullTextSearchRepository.supportsSort(Sort.by("priority", "createdAt")));
+        assertFalse(WorkflowFullTextSearchRepository.supportsSort(Sort.by("description")));
+        assertFalse(WorkflowFullTextSearchRepository.supportsSort(Sort.by("createdBy.username")));
+    }
+    
+    @Test
+    void testOrderBy_UnsortedUsesRelevance() {
+        assertTrue(WorkflowFullTextSearchRepository.orderBy(Sort.unsorted()).startsWith("MATCH("));
+    }
+    
+    @Test
+    void testOrderBy_AppliesRequestedSort() {
+        assertEquals("w.created_at DESC, w.id DESC",
+                WorkflowFullTextSearchRepository.orderBy(Sort.by(Sort.Direction.DESC, "createdAt")));
+        assertEquals("w.priority ASC, w.id ASC",
+                WorkflowFullTextSearchRepository.orderBy(Sort.by("priority", "id")));
+    }
+    
+    @Test
+    void testOrderBy_RejectsUnknownProperty() {
+        assertThrows(ValidationException.class,
+                () -> WorkflowFullTextSearchRepository.orderBy(Sort.by("description; DROP TABLE users")));
+    }
+}
@@ -0,0 +1,265 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.users.domain.Role;
+import com.company.platform.users.domain.User;
+import com.company.platform.workflows.config.WorkflowEventStreamConfig;
+import com.company.platform.workflows.domain.WorkflowEventType;
+import com.company.platform.workflows.dto.WorkflowEventMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for pushing workflow events to SSE streams.
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkflowEventStreamServiceTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("(?m)^id:(\\d+)$");
+
+    @Mock
+    private WorkflowOutboxRelay outboxRelay;
+
+    private final WorkflowEventStreamConfig config = new WorkflowEventStreamConfig();
+    private final QueuedExecutor sender = new QueuedExecutor();
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    private WorkflowEventStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new WorkflowEventStreamService(outboxRelay, config, new SimpleMeterRegistry()) {
+            @Override
+            SseEmitter newEmitter(long timeoutMs) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(service, "sender", sender);
+    }
+
+    @Test
+    void testIsVisible_ViewerSeesOnlyOwnAssignments() {
+        assertTrue(WorkflowEventStreamService.isVisible(true, 5L, event(1, 5L, null)));
+        assertFalse(WorkflowEventStreamService.isVisible(true, 5L, event(2, 6L, null)));
+        assertFalse(WorkflowEventStreamService.isVisible(true, 5L, event(3, null, null)));
+    }
+
+    @Test
+    void testIsVisible_PreviousAssigneeSeesReassignment() {
+        assertTrue(WorkflowEventStreamService.isVisible(true, 5L, event(1, 6L, 5L)));
+    }
+
+    @Test
+    void testIsVisible_UnrestrictedSeesEverything() {
+        assertTrue(WorkflowEventStreamService.isVisible(false, 5L, event(1, 6L, null)));
+        assertTrue(WorkflowEventStreamService.isVisible(false, 5L, event(2, null, null)));
+    }
+
+    @Test
+    void testOnEvents_FiltersByRole() {
+        when(outboxRelay.getPublishedEventId()).thenReturn(0L);
+        service.open(user(5L, "VIEWER"), null);
+        service.open(user(6L, "REVIEWER"), null);
+        service.open(user(7L, "MANAGER"), null);
+        service.open(user(8L, "ADMIN"), null);
+
+        service.onEvents(List.of(event(1, 5L, null), event(2, 6L, 5L), event(3, 9L, null)));
+        sender.runAll();
+
+        assertEquals(List.of(1L, 2L), emitters.get(0).ids);
+        assertEquals(List.of(2L), emitters.get(1).ids);
+        assertEquals(List.of(1L, 2L, 3L), emitters.get(2).ids);
+        assertEquals(List.of(1L, 2L, 3L), emitters.get(3).ids);
+    }
+
+    @Test
+    void testOnEvents_OverflowClosesStream() {
+        config.setQueueCapacity(2);
+        when(outboxRelay.getPublishedEventId()).thenReturn(0L);
+        service.open(user(8L, "ADMIN"), null);
+        assertEquals(1, service.getOpenStreamCount());
+
+        // The client is not drained, so the third event does not fit
+        service.onEvents(List.of(event(1, null, null), event(2, null, null), event(3, null, null)));
+        sender.runAll();
+
+        assertEquals(0, service.getOpenStreamCount());
+        assertTrue(emitters.get(0).completed);
+        assertTrue(emitters.get(0).ids.isEmpty());
+    }
+
+    @Test
+    void testOpen_ReplaysAfterLastEventIdWithoutDuplicates() {
+        when(outboxRelay.getPublishedEventId()).thenReturn(12L);
+        when(outboxRelay.publishedEventsAfter(10L, config.getReplayLimit()))
+                .thenReturn(List.of(event(11, null, null), event(12, null, null)));
+
+        service.open(user(8L, "ADMIN"), "10");
+        // Live delivery overlaps the replay
+        service.onEvents(List.of(event(12, null, null), event(13, null, null)));
+        sender.runAll();
+
+        assertEquals(List.of(11L, 12L, 13L), emitters.get(0).ids);
+    }
+
+    @Test
+    void testOpen_ReplayHonoursVisibility() {
+        when(outboxRelay.getPublishedEventId()).thenReturn(12L);
+        when(outboxRelay.publishedEventsAfter(10L, config.getReplayLimit()))
+                .thenReturn(List.of(event(11, 6L, null), event(12, 5L, null)));
+
+        service.open(user(5L, "VIEWER"), "10");
+        sender.runAll();
+
+        assertEquals(List.of(12L), emitters.get(0).ids);
+    }
+
+    @Test
+    void testOpen_IgnoresLastEventIdAheadOfRelay() {
+        when(outboxRelay.getPublishedEventId()).thenReturn(12L);
+
+        service.open(user(8L, "ADMIN"), "50");
+        sender.runAll();
+
+        verify(outboxRelay, never()).publishedEventsAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void testOnEvents_LateEventIsDeliveredWithoutId() {
+        when(outboxRelay.getPublishedEventId()).thenReturn(0L);
+        service.open(user(8L, "ADMIN"), null);
+        service.onEvents(List.of(event(10, null, null), event(12, null, null)));
+        sender.runAll();
+
+        WorkflowEventMessage late = event(11, null, null);
+        late.setLate(true);
+        service.onEvents(List.of(late, event(13, null, null)));
+        sender.runAll();
+
+        RecordingEmitter emitter = emitters.get(0);
+        assertEquals(List.of(10L, 12L, 13L), emitter.ids);
+        assertEquals(List.of(10L, 12L, 11L, 13L),
+                emitter.events.stream().map(WorkflowEventMessage::getEventId).toList());
+    }
+
+    @Test
+    void testOnEvents_DuplicateIsDropped() {
+        when(outboxRelay.getPublishedEventId()).thenReturn(0L);
+        service.open(user(8L, "ADMIN"), null);
+        service.onEvents(List.of(event(10, null, null), event(12, null, null)));
+        service.onEvents(List.of(event(11, null, null)));
+        sender.runAll();
+
+        assertEquals(List.of(10L, 12L), emitters.get(0).ids);
+        assertEquals(2, emitters.get(0).events.size());
+    }
+
+    private static User user(Long id, String role) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .role(Role.builder().name(role).build())
+                .build();
+    }
+
+    private static WorkflowEventMessage event(long id, Long assignedToId, Long previousAssignedToId) {
+        return WorkflowEventMessage.builder()
+                .eventId(id)
+                .type(WorkflowEventType.UPDATED)
+                .workflowId(1L)
+                .assignedToId(assignedToId)
+                .previousAssignedToId(previousAssignedToId)
+                .build();
+    }
+
+    /**
+     * Records what would be written to the client, without a servlet response.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        final List<Long> ids = new ArrayList<>();
+        final List<WorkflowEventMessage> events = new ArrayList<>();
+        volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof WorkflowEventMessage event) {
+                    events.add(event);
+                } else if (part.getData() instanceof String text) {
+                    Matcher matcher = EVENT_ID.matcher(text);
+                    if (matcher.find()) {
+                        ids.add(Long.parseLong(matcher.group(1)));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Runs drain tasks only when asked, so a test decides when the client catches up.
+     */
+    private static final class QueuedExecutor extends AbstractExecutorService {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.audit.service.AuditService;
+import com.company.platform.common.exception.ConflictException;
+import com.company.platform.users.domain.User;
+import com.company.platform.workflows.domain.WorkflowTriggerIdempotency;
+import com.company.platform.workflows.dto.WorkflowTriggerRequest;
+import com.company.platform.workflows.dto.WorkflowTriggerResponse;
+import com.company.platform.workflows.repository.WorkflowItemRepository;
+import com.company.platform.workflows.repository.WorkflowTriggerIdempotencyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for idempotent workflow triggers.
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkflowIntegrationServiceTest {
+
+    private static final String KEY = "sync-2024-01-15";
+
+    @Mock
+    private WorkflowItemRepository workflowRepository;
+
+    @Mock
+    private WorkflowEngine workflowEngine;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private WorkflowOutbox workflowOutbox;
+
+    @Mock
+    private WorkflowStatsService workflowStatsService;
+
+    @Mock
+    private WorkflowTriggerIdempotencyRepository idempotencyRepository;
+
+    private WorkflowTriggerIdempotencyStore idempotencyStore;
+    private WorkflowIntegrationService integrationService;
+    private final User user = User.builder().id(7L).username("python-service").build();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new WorkflowTriggerIdempotencyStore(idempotencyRepository, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(idempotencyStore, "ttl", Duration.ofHours(24));
+        integrationService = new WorkflowIntegrationService(workflowRepository, workflowEngine, auditService,
+                idempotencyStore, workflowOutbox, workflowStatsService);
+    }
+
+    private static WorkflowTriggerRequest request(String source) {
+        WorkflowTriggerRequest request = new WorkflowTriggerRequest();
+        request.setSource(source);
+        return request;
+    }
+
+    private WorkflowTriggerIdempotency claimAndComplete(String workflowName, WorkflowTriggerRequest request) {
+        when(idempotencyRepository.findLive(eq(7L), eq(KEY), any())).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        WorkflowTriggerResponse first = integrationService.triggerWorkflow(workflowName, request, user, KEY);
+        assertTrue(first.isSuccess());
+
+        ArgumentCaptor<WorkflowTriggerIdempotency> claim = ArgumentCaptor.forClass(WorkflowTriggerIdempotency.class);
+        verify(idempotencyRepository).saveAndFlush(claim.capture());
+        return claim.getValue();
+    }
+
+    @Test
+    void testTriggerWorkflow_RetryWithSameKeyReplaysResponse() {
+        WorkflowTriggerIdempotency claim = claimAndComplete("periodic_sync", request("python-service"));
+        assertNotNull(claim.getResponse());
+        when(idempotencyRepository.findLive(eq(7L), eq(KEY), any())).thenReturn(Optional.of(claim));
+
+        WorkflowTriggerResponse replay = integrationService.triggerWorkflow("periodic_sync", request("python-service"), user, KEY);
+
+        assertTrue(replay.isSuccess());
+        assertEquals(Boolean.TRUE, replay.getMetadata().get("idempotentReplay"));
+        // The trigger's writes ran once
+        verify(auditService, times(1)).logAction(any(), any(), any(), any(), any(), any(), any());
+        verify(idempotencyRepository, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    void testTriggerWorkflow_SameKeyForDifferentRequestIsRejected() {
+        WorkflowTriggerIdempotency claim = claimAndComplete("periodic_sync", request("python-service"));
+        when(idempotencyRepository.findLive(eq(7L), eq(KEY), any())).thenReturn(Optional.of(claim));
+
+        assertThrows(ConflictException.class,
+                () -> integrationService.triggerWorkflow("nightly_cleanup", request("python-service"), user, KEY));
+        assertThrows(ConflictException.class,
+                () -> integrationService.triggerWorkflow("periodic_sync", request("ai-ml-service"), user, KEY));
+        verify(idempotencyRepository, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    void testTriggerWorkflow_FailedTriggerReleasesKey() {
+        when(idempotencyRepository.findLive(eq(7L), eq(KEY), any())).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(workflowRepository.findById(anyLong())).thenReturn(Optional.empty());
+        WorkflowTriggerRequest request = request("python-service");
+        request.setWorkflowId(99L);
+
+        WorkflowTriggerResponse response = integrationService.triggerWorkflow("periodic_sync", request, user, KEY);
+
+        assertFalse(response.isSuccess());
+        ArgumentCaptor<WorkflowTriggerIdempotency> claim = ArgumentCaptor.forClass(WorkflowTriggerIdempotency.class);
+        verify(idempotencyRepository).saveAndFlush(claim.capture());
+        verify(idempotencyRepository).delete(claim.getValue());
+        assertNull(claim.getValue().getResponse());
+    }
+
+    @Test
+    void testTriggerWorkflow_ExpiredKeyIsReclaimed() {
+        // An expired record is not live, so the trigger runs again and replaces it
+        when(idempotencyRepository.findLive(eq(7L), eq(KEY), any())).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        WorkflowTriggerResponse response = integrationService.triggerWorkflow("periodic_sync", request("python-service"), user, KEY);
+
+        assertTrue(response.isSuccess());
+        InOrder inOrder = inOrder(idempotencyRepository);
+        inOrder.verify(idempotencyRepository).deleteExpired(eq(7L), eq(KEY), any());
+        ArgumentCaptor<WorkflowTriggerIdempotency> claim = ArgumentCaptor.forClass(WorkflowTriggerIdempotency.class);
+        inOrder.verify(idempotencyRepository).saveAndFlush(claim.capture());
+        assertTrue(claim.getValue().getExpiresAt().isAfter(LocalDateTime.now().plusHours(23)));
+    }
+
+    @Test
+    void testTriggerWorkflow_WithoutKeySkipsStore() {
+        WorkflowTriggerResponse response = integrationService.triggerWorkflow("periodic_sync", request("python-service"), user, null);
+
+        assertTrue(response.isSuccess());
+        verifyNoInteractions(idempotencyRepository);
+    }
+
+    @Test
+    void testFingerprint_IgnoresMapOrder() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("a", 1);
+        first.put("b", 2);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("b", 2);
+        second.put("a", 1);
+        WorkflowTriggerRequest one = request("python-service");
+        one.setPayload(first);
+        WorkflowTriggerRequest two = request("python-service");
+        two.setPayload(second);
+
+        assertEquals(idempotencyStore.fingerprint("periodic_sync", one), idempotencyStore.fingerprint("periodic_sync", two));
+        assertNotEquals(idempotencyStore.fingerprint("periodic_sync", one), idempotencyStore.fingerprint("other", one));
+    }
+}
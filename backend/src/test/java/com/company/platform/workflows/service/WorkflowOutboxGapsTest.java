@@ -0,0 +1,110 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.workflows.domain.WorkflowEventType;
+import com.company.platform.workflows.domain.WorkflowOutboxEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for tracking outbox event IDs the relay moved past before they committed.
+ */
+class WorkflowOutboxGapsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Test
+    void testSkip_TracksEachMissingId() {
+        WorkflowOutboxGaps gaps = new WorkflowOutboxGaps(100);
+
+        List<Long> skipped = gaps.skip(List.of(event(11), event(14), event(15), event(17)), 10, NOW);
+
+        assertEquals(List.of(12L, 13L, 16L), skipped);
+        assertEquals(List.of(12L, 13L, 16L), gaps.ids());
+    }
+
+    @Test
+    void testSkip_ContiguousEventsSkipNothing() {
+        WorkflowOutboxGaps gaps = new WorkflowOutboxGaps(100);
+
+        assertTrue(gaps.skip(List.of(event(11), event(12)), 10, NOW).isEmpty());
+        assertTrue(gaps.isEmpty());
+    }
+
+    @Test
+    void testSkip_HugeGapKeepsOnlyNewestIds() {
+        WorkflowOutboxGaps gaps = new WorkflowOutboxGaps(3);
+
+        gaps.skip(List.of(event(1_000_000)), 10, NOW);
+
+        assertEquals(List.of(999_997L, 999_998L, 999_999L), gaps.ids());
+    }
+
+    @Test
+    void testExpire_GivesUpOnIdsPastHorizon() {
+        WorkflowOutboxGaps gaps = new WorkflowOutboxGaps(100);
+        gaps.skip(List.of(event(12)), 10, NOW.minusMinutes(20));
+        gaps.skip(List.of(event(14)), 12, NOW);
+
+        List<Long> expired = gaps.expire(NOW.minusMinutes(10));
+
+        assertEquals(List.of(11L), expired);
+        assertEquals(List.of(13L), gaps.ids());
+    }
+
+    @Test
+    void testExpire_DropsOldestBeyondCapacity() {
+        WorkflowOutboxGaps gaps = WorkflowOutboxGaps.decode("1@0,2@0,3@0,4@0", 2);
+
+        assertEquals(List.of(1L, 2L), gaps.expire(LocalDateTime.MIN));
+        assertEquals(List.of(3L, 4L), gaps.ids());
+    }
+
+    @Test
+    void testRemove_LateCommitStopsTracking() {
+        WorkflowOutboxGaps gaps = new WorkflowOutboxGaps(100);
+        gaps.skip(List.of(event(13)), 10, NOW);
+
+        assertTrue(gaps.remove(12));
+        assertFalse(gaps.remove(12));
+        assertEquals(List.of(11L), gaps.ids());
+    }
+
+    @Test
+    void testEncode_RoundTripsThroughCursorColumn() {
+        WorkflowOutboxGaps gaps = new WorkflowOutboxGaps(100);
+        gaps.skip(List.of(event(13)), 10, NOW);
+
+        WorkflowOutboxGaps decoded = WorkflowOutboxGaps.decode(gaps.encode(), 100);
+
+        assertEquals(List.of(11L, 12L), decoded.ids());
+        assertTrue(decoded.expire(NOW).isEmpty());
+        assertEquals(List.of(11L, 12L), decoded.expire(NOW.plusSeconds(1)));
+    }
+
+    @Test
+    void testEncode_EmptyIsNull() {
+        assertNull(new WorkflowOutboxGaps(100).encode());
+        assertTrue(WorkflowOutboxGaps.decode(null, 100).isEmpty());
+    }
+
+    @Test
+    void testDecode_IgnoresMalformedEntries() {
+        WorkflowOutboxGaps gaps = WorkflowOutboxGaps.decode("5@100,garbage,7@x,9@100", 100);
+
+        assertEquals(List.of(5L, 9L), gaps.ids());
+    }
+
+    private static WorkflowOutboxEvent event(long id) {
+        WorkflowOutboxEvent event = WorkflowOutboxEvent.builder()
+                .id(id)
+                .eventType(WorkflowEventType.UPDATED)
+                .workflowId(1L)
+                .build();
+        event.setCreatedAt(NOW);
+        return event;
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.workflows.domain.WorkflowEventType;
+import com.company.platform.workflows.domain.WorkflowOutboxEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the outbox relay's handling of uncommitted event IDs.
+ */
+class WorkflowOutboxRelayTest {
+    
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30);
+    private static final Duration GRACE = Duration.ofSeconds(5);
+    
+    @Test
+    void testCommittedPrefix_ContiguousEventsAreAllReady() {
+        List<WorkflowOutboxEvent> events = List.of(event(11, NOW), event(12, NOW), event(13, NOW));
+        
+        assertEquals(events, WorkflowOutboxRelay.committedPrefix(events, 10, NOW, GRACE));
+    }
+    
+    @Test
+    void testCommittedPrefix_StopsAtFreshGap() {
+        List<WorkflowOutboxEvent> events = List.of(event(11, NOW), event(13, NOW.minusSeconds(1)));
+        
+        List<WorkflowOutboxEvent> ready = WorkflowOutboxRelay.committedPrefix(events, 10, NOW, GRACE);
+        
+        assertEquals(1, ready.size());
+        assertEquals(11L, ready.get(0).getId());
+    }
+    
+    @Test
+    void testCommittedPrefix_SkipsGapOlderThanGrace() {
+        List<WorkflowOutboxEvent> events = List.of(event(13, NOW.minusSeconds(30)), event(14, NOW));
+        
+        assertEquals(events, WorkflowOutboxRelay.committedPrefix(events, 10, NOW, GRACE));
+    }
+    
+    @Test
+    void testCommittedPrefix_GapBeforeFirstEventBlocksBatch() {
+        List<WorkflowOutboxEvent> events = List.of(event(12, NOW));
+        
+        assertTrue(WorkflowOutboxRelay.committedPrefix(events, 10, NOW, GRACE).isEmpty());
+    }
+    
+    private static WorkflowOutboxEvent event(long id, LocalDateTime createdAt) {
+        WorkflowOutboxEvent event = WorkflowOutboxEvent.builder()
+                .id(id)
+                .eventType(WorkflowEventType.UPDATED)
+                .workflowId(1L)
+                .build();
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+}
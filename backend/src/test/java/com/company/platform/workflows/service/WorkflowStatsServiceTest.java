@@ -0,0 +1,121 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.workflows.config.WorkflowStatsConfig;
+import com.company.platform.workflows.domain.WorkflowItem;
+import com.company.platform.workflows.domain.WorkflowState;
+import com.company.platform.workflows.domain.WorkflowStatsDimension;
+import com.company.platform.workflows.dto.WorkflowStatsResponse;
+import com.company.platform.workflows.repository.WorkflowStatsCounterRepository;
+import com.company.platform.workflows.repository.WorkflowStatsCounterRepository.Count;
+import com.company.platform.workflows.repository.WorkflowStatsCounterRepository.WorkflowCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for workflow statistics deltas and reconciliation.
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkflowStatsServiceTest {
+    
+    @Mock
+    private WorkflowStatsCounterRepository counterRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private WorkflowStatsService statsService;
+    
+    @BeforeEach
+    void setUp() {
+        statsService = new WorkflowStatsService(counterRepository, new WorkflowStatsConfig(), transactionManager);
+    }
+    
+    @Test
+    void testRecordCreated_IncrementsEveryDimension() {
+        WorkflowItem workflow = WorkflowItem.builder()
+                .state(WorkflowState.CREATED)
+                .priority("high")
+                .build();
+        
+        statsService.recordCreated(workflow);
+        
+        assertEquals(List.of(
+                new Count(WorkflowStatsDimension.TOTAL, WorkflowStatsCounterRepository.TOTAL_BUCKET, 1),
+                new Count(WorkflowStatsDimension.STATE, "CREATED", 1),
+                new Count(WorkflowStatsDimension.PRIORITY, "HIGH", 1),
+                new Count(WorkflowStatsDimension.CATEGORY, WorkflowStatsService.UNSPECIFIED, 1)
+        ), capturedDeltas());
+    }
+    
+    @Test
+    void testRecordTransitions_MergesAndDropsNetZero() {
+        statsService.recordTransitions(List.of(
+                new WorkflowStatsService.Transition(WorkflowState.REVIEWED, WorkflowState.APPROVED),
+                new WorkflowStatsService.Transition(WorkflowState.REVIEWED, WorkflowState.APPROVED),
+                new WorkflowStatsService.Transition(WorkflowState.APPROVED, WorkflowState.REJECTED)
+        ));
+        
+        assertEquals(List.of(
+                new Count(WorkflowStatsDimension.STATE, "APPROVED", 1),
+                new Count(WorkflowStatsDimension.STATE, "REJECTED", 1),
+                new Count(WorkflowStatsDimension.STATE, "REVIEWED", -2)
+        ), capturedDeltas());
+    }
+    
+    @Test
+    void testCorrections_OnlyDifferences() {
+        List<WorkflowCount> actual = List.of(
+                new WorkflowCount("CREATED", "HIGH", "Finance", 3),
+                new WorkflowCount("APPROVED", "HIGH", null, 2));
+        List<Count> counted = List.of(
+                new Count(WorkflowStatsDimension.TOTAL, WorkflowStatsCounterRepository.TOTAL_BUCKET, 5),
+                new Count(WorkflowStatsDimension.STATE, "CREATED", 2),
+                new Count(WorkflowStatsDimension.STATE, "APPROVED", 2),
+                new Count(WorkflowStatsDimension.STATE, "REJECTED", 1),
+                new Count(WorkflowStatsDimension.PRIORITY, "HIGH", 5),
+                new Count(WorkflowStatsDimension.CATEGORY, "FINANCE", 3),
+                new Count(WorkflowStatsDimension.CATEGORY, WorkflowStatsService.UNSPECIFIED, 2));
+        
+        List<Count> corrections = WorkflowStatsService.corrections(WorkflowStatsService.actualCounts(actual), counted);
+        
+        assertEquals(List.of(
+                new Count(WorkflowStatsDimension.STATE, "CREATED", 1),
+                new Count(WorkflowStatsDimension.STATE, "REJECTED", -1)
+        ), corrections);
+    }
+    
+    @Test
+    void testGetStats_ReadsSummaryOnly() {
+        when(counterRepository.findTotals()).thenReturn(List.of(
+                new Count(WorkflowStatsDimension.TOTAL, WorkflowStatsCounterRepository.TOTAL_BUCKET, 4),
+                new Count(WorkflowStatsDimension.STATE, "CREATED", 4),
+                new Count(WorkflowStatsDimension.PRIORITY, "LOW", 4),
+                new Count(WorkflowStatsDimension.PRIORITY, "HIGH", 0)));
+        
+        WorkflowStatsResponse stats = statsService.getStats();
+        
+        assertEquals(4, stats.getTotal());
+        assertEquals(4L, stats.getByState().get("CREATED"));
+        assertEquals(0L, stats.getByState().get("APPROVED"));
+        assertEquals(List.of("LOW"), List.copyOf(stats.getByPriority().keySet()));
+        verify(counterRepository, never()).countWorkflows();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Count> capturedDeltas() {
+        ArgumentCaptor<List<Count>> captor = ArgumentCaptor.forClass(List.class);
+        verify(counterRepository).increment(captor.capture(), anyInt());
+        return captor.getValue();
+    }
+}
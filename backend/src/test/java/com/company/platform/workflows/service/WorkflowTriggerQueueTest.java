@@ -0,0 +1,159 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.common.exception.ForbiddenException;
+import com.company.platform.common.exception.NotFoundException;
+import com.company.platform.common.exception.ValidationException;
+import com.company.platform.users.domain.Role;
+import com.company.platform.users.domain.User;
+import com.company.platform.workflows.domain.WorkflowTriggerTask;
+import com.company.platform.workflows.domain.WorkflowTriggerTaskStatus;
+import com.company.platform.workflows.dto.WorkflowTriggerRequest;
+import com.company.platform.workflows.dto.WorkflowTriggerTicketResponse;
+import com.company.platform.workflows.repository.WorkflowItemRepository;
+import com.company.platform.workflows.repository.WorkflowTriggerIdempotencyRepository;
+import com.company.platform.workflows.repository.WorkflowTriggerTaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for enqueuing workflow triggers.
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkflowTriggerQueueTest {
+    
+    @Mock
+    private WorkflowTriggerTaskRepository taskRepository;
+    
+    @Mock
+    private WorkflowItemRepository workflowRepository;
+    
+    @Mock
+    private WorkflowTriggerIdempotencyRepository idempotencyRepository;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final User user = User.builder().id(7L).username("python-service").role(Role.builder().name("MANAGER").build()).build();
+    
+    private WorkflowTriggerQueue queue;
+    
+    @BeforeEach
+    void setUp() {
+        queue = new WorkflowTriggerQueue(taskRepository, workflowRepository,
+                new WorkflowTriggerIdempotencyStore(idempotencyRepository, objectMapper), objectMapper);
+    }
+    
+    private static WorkflowTriggerRequest request(Long workflowId, String action) {
+        WorkflowTriggerRequest request = new WorkflowTriggerRequest();
+        request.setSource("python-service");
+        request.setWorkflowId(workflowId);
+        request.setAction(action);
+        return request;
+    }
+    
+    private WorkflowTriggerTask saved() {
+        ArgumentCaptor<WorkflowTriggerTask> task = ArgumentCaptor.forClass(WorkflowTriggerTask.class);
+        verify(taskRepository).save(task.capture());
+        return task.getValue();
+    }
+    
+    @Test
+    void testEnqueue_QueuesPendingTask() {
+        when(taskRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        WorkflowTriggerTicketResponse ticket = queue.enqueue("periodic_sync", request(null, null), user, null);
+        
+        WorkflowTriggerTask task = saved();
+        assertEquals("PENDING", ticket.getStatus());
+        assertEquals(task.getTicketId(), ticket.getTicketId());
+        assertEquals(WorkflowTriggerTaskStatus.PENDING, task.getStatus());
+        assertEquals(0, task.getAttempts());
+        assertEquals(7L, task.getUserId());
+    }
+    
+    @Test
+    void testEnqueue_PartitionsByWorkflowThenByName() {
+        when(taskRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(workflowRepository.existsById(5L)).thenReturn(true);
+        
+        queue.enqueue("review", request(5L, "approve"), user, null);
+        queue.enqueue("periodic_sync", request(null, null), user, null);
+        
+        ArgumentCaptor<WorkflowTriggerTask> tasks = ArgumentCaptor.forClass(WorkflowTriggerTask.class);
+        verify(taskRepository, times(2)).save(tasks.capture());
+        // Tasks sharing a partition key are claimed one at a time, in ID order
+        assertEquals("workflow:5", tasks.getAllValues().get(0).getPartitionKey());
+        assertEquals("name:periodic_sync", tasks.getAllValues().get(1).getPartitionKey());
+    }
+    
+    @Test
+    void testEnqueue_SameKeyReturnsExistingTicket() {
+        WorkflowTriggerTask existing = WorkflowTriggerTask.builder()
+                .id(3L)
+                .ticketId("ticket-3")
+                .workflowName("periodic_sync")
+                .userId(7L)
+                .status(WorkflowTriggerTaskStatus.PROCESSING)
+                .attempts(1)
+                .build();
+        when(taskRepository.findFirstByUserIdAndIdempotencyKeyAndStatusInOrderByIdDesc(eq(7L), eq("sync-1"), any()))
+                .thenReturn(Optional.of(existing));
+        
+        WorkflowTriggerTicketResponse ticket = queue.enqueue("periodic_sync", request(null, null), user, "sync-1");
+        
+        assertEquals("ticket-3", ticket.getTicketId());
+        assertEquals("PROCESSING", ticket.getStatus());
+        verify(taskRepository, never()).save(any());
+    }
+    
+    @Test
+    void testEnqueue_SameKeyAfterFailureQueuesAgain() {
+        when(taskRepository.findFirstByUserIdAndIdempotencyKeyAndStatusInOrderByIdDesc(eq(7L), eq("sync-1"), any()))
+                .thenReturn(Optional.empty());
+        when(taskRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        queue.enqueue("periodic_sync", request(null, null), user, "sync-1");
+        
+        assertEquals("sync-1", saved().getIdempotencyKey());
+    }
+    
+    @Test
+    void testEnqueue_RejectsInvalidAction() {
+        assertThrows(ValidationException.class,
+                () -> queue.enqueue("review", request(null, "teleport"), user, null));
+        verify(taskRepository, never()).save(any());
+    }
+    
+    @Test
+    void testEnqueue_RejectsUnknownWorkflow() {
+        when(workflowRepository.existsById(anyLong())).thenReturn(false);
+        
+        assertThrows(NotFoundException.class,
+                () -> queue.enqueue("review", request(99L, "approve"), user, null));
+    }
+    
+    @Test
+    void testGetTicket_OnlyOwnerOrAdmin() {
+        WorkflowTriggerTask task = WorkflowTriggerTask.builder()
+                .ticketId("ticket-3")
+                .userId(8L)
+                .status(WorkflowTriggerTaskStatus.PENDING)
+                .build();
+        when(taskRepository.findByTicketId("ticket-3")).thenReturn(Optional.of(task));
+        User admin = User.builder().id(1L).username("admin").role(Role.builder().name("ADMIN").build()).build();
+        
+        assertThrows(ForbiddenException.class, () -> queue.getTicket("ticket-3", user));
+        assertEquals("ticket-3", queue.getTicket("ticket-3", admin).getTicketId());
+    }
+}
@@ -0,0 +1,267 @@
+package com.company.platform.workflows.service;
+
+import com.company.platform.users.domain.User;
+import com.company.platform.users.repository.UserRepository;
+import com.company.platform.workflows.config.WorkflowTriggerQueueConfig;
+import com.company.platform.workflows.domain.WorkflowTriggerTask;
+import com.company.platform.workflows.domain.WorkflowTriggerTaskStatus;
+import com.company.platform.workflows.dto.WorkflowTriggerResponse;
+import com.company.platform.workflows.repository.WorkflowTriggerTaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for claiming, running and releasing queued workflow triggers.
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkflowTriggerQueueWorkerTest {
+    
+    @Mock
+    private WorkflowTriggerTaskRepository taskRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private WorkflowIntegrationService workflowIntegrationService;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final WorkflowTriggerQueueConfig config = new WorkflowTriggerQueueConfig();
+    private final User user = User.builder().id(7L).username("python-service").build();
+    
+    private WorkflowTriggerQueueWorker worker;
+    private String workerId;
+    
+    @BeforeEach
+    void setUp() {
+        config.setWorkers(1);
+        config.setLease(Duration.ofSeconds(90));
+        config.setMaxAttempts(3);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        worker = new WorkflowTriggerQueueWorker(taskRepository, userRepository, workflowIntegrationService,
+                config, objectMapper, transactionManager);
+        workerId = (String) ReflectionTestUtils.getField(worker, "workerId");
+    }
+    
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.stop();
+    }
+    
+    private static WorkflowTriggerTask pending(long id, int attempts) {
+        return WorkflowTriggerTask.builder()
+                .id(id)
+                .ticketId("ticket-" + id)
+                .workflowName("periodic_sync")
+                .partitionKey("name:periodic_sync")
+                .request("{\"source\":\"python-service\"}")
+                .userId(7L)
+                .status(WorkflowTriggerTaskStatus.PENDING)
+                .attempts(attempts)
+                .build();
+    }
+    
+    private WorkflowTriggerTask claimed(long id, int attempts) {
+        WorkflowTriggerTask task = pending(id, attempts);
+        task.setStatus(WorkflowTriggerTaskStatus.PROCESSING);
+        task.setLockedBy(workerId);
+        task.setLockedUntil(LocalDateTime.now().plus(config.getLease()));
+        return task;
+    }
+    
+    private static WorkflowTriggerResponse response(boolean success) {
+        return WorkflowTriggerResponse.builder()
+                .status(success ? "SUCCESS" : "FAILED")
+                .success(success)
+                .message(success ? "ok" : "Workflow not found")
+                .build();
+    }
+    
+    @Test
+    void testClaim_TakesTasksUnderLease() {
+        WorkflowTriggerTask first = pending(1L, 0);
+        WorkflowTriggerTask second = pending(2L, 1);
+        when(taskRepository.lockClaimable(2)).thenReturn(List.of(first, second));
+        
+        List<Long> ids = worker.claim(2);
+        
+        assertEquals(List.of(1L, 2L), ids);
+        for (WorkflowTriggerTask task : List.of(first, second)) {
+            assertEquals(WorkflowTriggerTaskStatus.PROCESSING, task.getStatus());
+            assertEquals(workerId, task.getLockedBy());
+            assertTrue(task.getLockedUntil().isAfter(LocalDateTime.now().plusSeconds(80)));
+            assertNotNull(task.getStartedAt());
+        }
+        assertEquals(1, first.getAttempts());
+        assertEquals(2, second.getAttempts());
+    }
+    
+    @Test
+    void testProcess_CompletesOwnedTask() {
+        WorkflowTriggerTask task = claimed(1L, 1);
+        when(taskRepository.lockById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(workflowIntegrationService.triggerWorkflow(eq("periodic_sync"), any(), eq(user), any()))
+                .thenReturn(response(true));
+        
+        worker.process(1L);
+        
+        assertEquals(WorkflowTriggerTaskStatus.COMPLETED, task.getStatus());
+        assertNotNull(task.getResponse());
+        assertNull(task.getLockedBy());
+        assertNotNull(task.getCompletedAt());
+    }
+    
+    @Test
+    void testProcess_RunTransactionTimesOutWithLease() {
+        WorkflowTriggerTask task = claimed(1L, 1);
+        when(taskRepository.lockById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(workflowIntegrationService.triggerWorkflow(any(), any(), any(), any())).thenReturn(response(true));
+        
+        worker.process(1L);
+        
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(90, definition.getValue().getTimeout());
+    }
+    
+    @Test
+    void testProcess_SkipsTaskOwnedByAnotherWorker() {
+        WorkflowTriggerTask task = claimed(1L, 1);
+        task.setLockedBy("other-worker");
+        when(taskRepository.lockById(1L)).thenReturn(Optional.of(task));
+        
+        worker.process(1L);
+        
+        verifyNoInteractions(workflowIntegrationService);
+        assertEquals(WorkflowTriggerTaskStatus.PROCESSING, task.getStatus());
+        assertEquals("other-worker", task.getLockedBy());
+    }
+    
+    @Test
+    void testProcess_SkipsTaskRequeuedAfterLeaseExpired() {
+        WorkflowTriggerTask task = pending(1L, 1);
+        when(taskRepository.lockById(1L)).thenReturn(Optional.of(task));
+        
+        worker.process(1L);
+        
+        verifyNoInteractions(workflowIntegrationService);
+        assertEquals(WorkflowTriggerTaskStatus.PENDING, task.getStatus());
+    }
+    
+    @Test
+    void testProcess_FailedTriggerIsRecordedAsFailed() {
+        WorkflowTriggerTask task = claimed(1L, 1);
+        when(taskRepository.lockById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(workflowIntegrationService.triggerWorkflow(any(), any(), any(), any())).thenReturn(response(false));
+        
+        worker.process(1L);
+        
+        assertEquals(WorkflowTriggerTaskStatus.FAILED, task.getStatus());
+        assertEquals("Workflow not found", task.getError());
+    }
+    
+    @Test
+    void testProcess_MissingUserFailsTask() {
+        WorkflowTriggerTask task = claimed(1L, 1);
+        when(taskRepository.lockById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
+        
+        worker.process(1L);
+        
+        assertEquals(WorkflowTriggerTaskStatus.FAILED, task.getStatus());
+        verifyNoInteractions(workflowIntegrationService);
+    }
+    
+    @Test
+    void testProcess_ErrorRequeuesTaskWithAttemptsLeft() {
+        WorkflowTriggerTask task = claimed(1L, 1);
+        when(taskRepository.lockById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(workflowIntegrationService.triggerWorkflow(any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("deadlock"));
+        // The failed run rolled back, so the release reads the task again
+        WorkflowTriggerTask reloaded = claimed(1L, 1);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(reloaded));
+        
+        worker.process(1L);
+        
+        verify(transactionManager).rollback(any());
+        assertEquals(WorkflowTriggerTaskStatus.PENDING, reloaded.getStatus());
+        assertNull(reloaded.getLockedBy());
+        assertNull(reloaded.getLockedUntil());
+        assertEquals("deadlock", reloaded.getError());
+        assertNull(reloaded.getCompletedAt());
+    }
+    
+    @Test
+    void testProcess_ErrorFailsTaskOutOfAttempts() {
+        WorkflowTriggerTask task = claimed(1L, 3);
+        when(taskRepository.lockById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(workflowIntegrationService.triggerWorkflow(any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("deadlock"));
+        WorkflowTriggerTask reloaded = claimed(1L, 3);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(reloaded));
+        
+        worker.process(1L);
+        
+        assertEquals(WorkflowTriggerTaskStatus.FAILED, reloaded.getStatus());
+        assertEquals("deadlock", reloaded.getError());
+        assertNotNull(reloaded.getCompletedAt());
+    }
+    
+    @Test
+    void testProcess_ErrorDoesNotReleaseTaskTakenOver() {
+        when(taskRepository.lockById(1L)).thenThrow(new IllegalStateException("lock wait timeout"));
+        WorkflowTriggerTask takenOver = claimed(1L, 2);
+        takenOver.setLockedBy("other-worker");
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(takenOver));
+        
+        worker.process(1L);
+        
+        assertEquals(WorkflowTriggerTaskStatus.PROCESSING, takenOver.getStatus());
+        assertEquals("other-worker", takenOver.getLockedBy());
+    }
+    
+    @Test
+    void testRecoverExpiredLeases_RequeuesOrFailsTasks() {
+        worker.start();
+        WorkflowTriggerTask retryable = claimed(1L, 1);
+        WorkflowTriggerTask exhausted = claimed(2L, 3);
+        when(taskRepository.lockExpiredLeases(any())).thenReturn(List.of(retryable, exhausted));
+        
+        worker.recoverExpiredLeases();
+        
+        assertEquals(WorkflowTriggerTaskStatus.PENDING, retryable.getStatus());
+        assertNull(retryable.getLockedBy());
+        assertTrue(retryable.getError().startsWith("Worker did not finish within"));
+        assertEquals(WorkflowTriggerTaskStatus.FAILED, exhausted.getStatus());
+        assertNotNull(exhausted.getCompletedAt());
+    }
+}